@@ -0,0 +1,72 @@
+package seedu.expensela.benchmarkutil;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.expensela.model.ExpenseLa;
+import seedu.expensela.model.transaction.Amount;
+import seedu.expensela.model.transaction.Category;
+import seedu.expensela.model.transaction.CategoryEnum;
+import seedu.expensela.model.transaction.Date;
+import seedu.expensela.model.transaction.Name;
+import seedu.expensela.model.transaction.Remark;
+import seedu.expensela.model.transaction.Transaction;
+import seedu.expensela.storage.CsvTransactionExporter;
+
+/**
+ * Generates reproducible ledgers of any size for the benchmarks.
+ * Rows repeat a limited set of merchant names and remarks, as real ledgers do, and are spread over three years
+ * ending in the current one. Every row has a different amount, so no two rows are duplicates.
+ */
+public class TransactionGenerator {
+
+    public static final int MERCHANT_COUNT = 2000;
+    public static final int REMARK_COUNT = 500;
+    public static final int YEARS = 3;
+
+    private static final String[] MERCHANT_KINDS = {"Cafe", "Mart", "Taxi", "Clinic", "Cinema", "Store", "Grill"};
+
+    /**
+     * Returns {@code count} distinct transactions, the same ones on every call with the same {@code count}.
+     */
+    public static List<Transaction> generate(int count) {
+        Random random = new Random(count);
+        LocalDate firstDay = LocalDate.of(LocalDate.now().getYear() - YEARS + 1, 1, 1);
+        int days = (int) (LocalDate.now().toEpochDay() - firstDay.toEpochDay()) + 1;
+        CategoryEnum[] categories = CategoryEnum.values();
+
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int merchant = random.nextInt(MERCHANT_COUNT);
+            CategoryEnum category = categories[random.nextInt(categories.length)];
+            boolean isIncome = category == CategoryEnum.INCOME;
+            transactions.add(new Transaction(
+                    Name.of(MERCHANT_KINDS[merchant % MERCHANT_KINDS.length] + " " + merchant),
+                    new Amount(i + 1, isIncome),
+                    new Date(firstDay.plusDays(random.nextInt(days)).toString()),
+                    Remark.of("Remark " + random.nextInt(REMARK_COUNT)),
+                    Category.of(category)));
+        }
+        return transactions;
+    }
+
+    /**
+     * Returns an {@code ExpenseLa} holding {@link #generate(int)}.
+     */
+    public static ExpenseLa generateExpenseLa(int count) {
+        ExpenseLa expenseLa = new ExpenseLa();
+        expenseLa.setTransactions(generate(count));
+        return expenseLa;
+    }
+
+    /**
+     * Writes {@code transactions} to {@code file} in the CSV format read by {@code ImportCommand}.
+     */
+    public static void writeCsv(List<Transaction> transactions, Path file) throws IOException {
+        CsvTransactionExporter.write(file, transactions);
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.expensela.commons.csv;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.expensela.benchmarkutil.TransactionGenerator;
+import seedu.expensela.commons.exceptions.IllegalValueException;
+
+/**
+ * Splitting exported CSV text into fields with {@code CsvTokenizer}, against reading it line by line and splitting
+ * each line with {@code String#split}, as importing used to. The text is held in memory, leaving out file access.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvTokenizerBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int rows;
+
+    private String text;
+    private char[] chars;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path csvFile = Files.createTempFile("expensela-jmh", ".csv");
+        TransactionGenerator.writeCsv(TransactionGenerator.generate(rows), csvFile);
+        text = new String(Files.readAllBytes(csvFile), StandardCharsets.UTF_8);
+        chars = text.toCharArray();
+        Files.delete(csvFile);
+    }
+
+    /**
+     * Splits each line at every comma into new strings.
+     */
+    @Benchmark
+    public void splitLines(Blackhole blackhole) throws IOException {
+        BufferedReader reader = new BufferedReader(new StringReader(text));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            for (String field : line.split(",", -1)) {
+                blackhole.consume(field);
+            }
+        }
+    }
+
+    /**
+     * Splits the text into fields without copying them.
+     */
+    @Benchmark
+    public void tokenizeFields(Blackhole blackhole) throws IllegalValueException {
+        CsvTokenizer tokenizer = new CsvTokenizer(CharBuffer.wrap(chars));
+        while (tokenizer.nextRecord()) {
+            for (int i = 0; i < tokenizer.getFieldCount(); i++) {
+                blackhole.consume(tokenizer.getField(i));
+            }
+        }
+    }
+
+    /**
+     * Splits the text into fields and copies each into a string, as importing does.
+     */
+    @Benchmark
+    public void tokenizeStrings(Blackhole blackhole) throws IllegalValueException {
+        CsvTokenizer tokenizer = new CsvTokenizer(CharBuffer.wrap(chars));
+        while (tokenizer.nextRecord()) {
+            for (int i = 0; i < tokenizer.getFieldCount(); i++) {
+                blackhole.consume(tokenizer.getField(i).toString());
+            }
+        }
+    }
+}
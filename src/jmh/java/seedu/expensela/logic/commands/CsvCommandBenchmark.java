@@ -0,0 +1,75 @@
+package seedu.expensela.logic.commands;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.expensela.benchmarkutil.TransactionGenerator;
+import seedu.expensela.logic.commands.exceptions.CommandException;
+import seedu.expensela.model.ExpenseLa;
+import seedu.expensela.model.GlobalData;
+import seedu.expensela.model.Model;
+import seedu.expensela.model.ModelManager;
+import seedu.expensela.model.UserPrefs;
+
+/**
+ * {@code ImportCommand} into an empty model and {@code ExportCommand} of a full one.
+ * {@code ExportCommand} writes transactions.csv to the working directory, which the jmh task sets to build/jmh.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvCommandBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private Path csvFile;
+    private Model fullModel;
+    private Model emptyModel;
+
+    @Setup
+    public void setUp() throws IOException {
+        csvFile = Files.createTempFile("expensela-jmh", ".csv");
+        TransactionGenerator.writeCsv(TransactionGenerator.generate(rows), csvFile);
+        fullModel = new ModelManager(TransactionGenerator.generateExpenseLa(rows), new UserPrefs(), new GlobalData());
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpEmptyModel() {
+        emptyModel = new ModelManager(new ExpenseLa(), new UserPrefs(), new GlobalData());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(csvFile);
+    }
+
+    @Benchmark
+    public CommandResult importCommand() throws CommandException {
+        return new ImportCommand(csvFile.toString()).execute(emptyModel);
+    }
+
+    @Benchmark
+    public CommandResult exportCommand() throws CommandException {
+        return new ExportCommand().execute(fullModel);
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.expensela.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.expensela.logic.commands.Command;
+import seedu.expensela.logic.parser.exceptions.ParseException;
+
+/**
+ * {@code ExpenseLaParser#parseCommand(String)} on typical user input.
+ * Parsing does not look at the model, so its cost does not depend on the number of transactions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpenseLaParserBenchmark {
+
+    @Param({
+        "add n/Dominoes Pizza a/24 d/2020-02-02 r/Food for group project c/FOOD",
+        "filter c/GROCERIES m/2020-03",
+        "find pizza sushi bread",
+        "delete 3"
+    })
+    private String userInput;
+
+    private final ExpenseLaParser parser = new ExpenseLaParser();
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+}
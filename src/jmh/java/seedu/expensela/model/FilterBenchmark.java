@@ -0,0 +1,119 @@
+package seedu.expensela.model;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.expensela.benchmarkutil.TransactionGenerator;
+import seedu.expensela.model.transaction.CategoryEqualsKeywordPredicate;
+import seedu.expensela.model.transaction.DateEqualsKeywordPredicate;
+import seedu.expensela.model.transaction.NameContainsKeywordsPredicate;
+import seedu.expensela.model.transaction.Transaction;
+import seedu.expensela.model.transaction.TransactionMatcher;
+
+/**
+ * The filter and find predicates, both as raw scans over every transaction and through
+ * {@code ModelManager}, which only tests the transactions its indexes find and also rebuilds the filtered list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private List<Transaction> transactions;
+    private ModelManager model;
+    private Predicate<Transaction> categoryPredicate;
+    private Predicate<Transaction> monthPredicate;
+    private Predicate<Transaction> namePredicate;
+    private Predicate<Transaction> rareNamePredicate;
+    private Predicate<Transaction> chainedFilter;
+    private Predicate<Transaction> compiledFilter;
+
+    @Setup
+    public void setUp() {
+        ExpenseLa expenseLa = TransactionGenerator.generateExpenseLa(rows);
+        transactions = expenseLa.getTransactionList();
+        model = new ModelManager(expenseLa, new UserPrefs(), new GlobalData());
+        categoryPredicate = new CategoryEqualsKeywordPredicate(Arrays.asList("FOOD"));
+        monthPredicate = new DateEqualsKeywordPredicate(Arrays.asList(YearMonth.now().minusMonths(1).toString()));
+        namePredicate = new NameContainsKeywordsPredicate(Arrays.asList("Cafe", "1234"));
+        rareNamePredicate = new NameContainsKeywordsPredicate(Arrays.asList("1234"));
+        chainedFilter = categoryPredicate.and(monthPredicate);
+        compiledFilter = TransactionMatcher.compile(Arrays.asList(categoryPredicate, monthPredicate));
+    }
+
+    @Benchmark
+    public int scanChainedFilter() {
+        return count(chainedFilter);
+    }
+
+    @Benchmark
+    public int scanCompiledFilter() {
+        return count(compiledFilter);
+    }
+
+    @Benchmark
+    public int scanNamePredicate() {
+        return count(namePredicate);
+    }
+
+    /**
+     * Applies a category and month filter through the model, as the filter command does.
+     */
+    @Benchmark
+    public int modelSetFilter() {
+        model.setFilter(new Filter(categoryPredicate, monthPredicate));
+        return model.getFilteredTransactionList().size();
+    }
+
+    /**
+     * Applies a name filter through the model, as the find command does.
+     */
+    @Benchmark
+    public int modelFind() {
+        model.updateFilteredTransactionList(namePredicate, null);
+        return model.getFilteredTransactionList().size();
+    }
+
+    /**
+     * Applies a name filter that few transactions match through the model, as the find command does.
+     */
+    @Benchmark
+    public int modelFindRareName() {
+        model.updateFilteredTransactionList(rareNamePredicate, null);
+        return model.getFilteredTransactionList().size();
+    }
+
+    /**
+     * Returns the number of transactions accepted by {@code predicate}.
+     */
+    private int count(Predicate<Transaction> predicate) {
+        int matches = 0;
+        for (Transaction transaction : transactions) {
+            if (predicate.test(transaction)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.expensela.model.transaction;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Measures how much heap a ledger of transactions retains when its values are built with the constructors of
+ * {@code Name}, {@code Remark} and {@code Category}, and when they are built with their shared-instance factories.
+ *
+ * Every row's strings are rebuilt from scratch, as parsing a data file or command does, so that only the factories
+ * can make rows share them. Names and remarks repeat as in {@code TransactionGenerator}, and categories are written in
+ * mixed case. The retained heap is read after a full collection, so run it with a collector that honours
+ * {@code System.gc()}, e.g. with {@code gradlew footprint} or
+ * {@code java -XX:+UseSerialGC -cp <jmh runtime classpath> seedu.expensela.model.transaction.TransactionFootprint}.
+ * The number of rows can be passed as the only argument, and defaults to 1,000,000.
+ */
+public class TransactionFootprint {
+
+    private static final int DEFAULT_ROWS = 1_000_000;
+    private static final int MERCHANT_COUNT = 2000;
+    private static final int REMARK_COUNT = 500;
+    private static final String[] MERCHANT_KINDS = {"Cafe", "Mart", "Taxi", "Clinic", "Cinema", "Store", "Grill"};
+
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    /**
+     * Prints the heap retained per row by each way of building transactions.
+     */
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROWS;
+        report("constructors", rows, false);
+        report("factories", rows, true);
+    }
+
+    /**
+     * Builds {@code rows} transactions and prints the heap they retain.
+     */
+    private static void report(String label, int rows, boolean isShared) {
+        long before = usedHeapAfterGc();
+        List<Transaction> transactions = build(rows, isShared);
+        long retained = usedHeapAfterGc() - before;
+        System.out.printf("%-13s %,6d MB (%,d bytes/row) for %,d rows%n",
+                label + ":", retained / 1_000_000, retained / transactions.size(), transactions.size());
+    }
+
+    /**
+     * Returns {@code rows} transactions, the same ones on every call, built through the factories if
+     * {@code isShared} and through the constructors otherwise.
+     */
+    private static List<Transaction> build(int rows, boolean isShared) {
+        Random random = new Random(rows);
+        LocalDate firstDay = LocalDate.now().withDayOfYear(1).minusYears(2);
+        int days = (int) (LocalDate.now().toEpochDay() - firstDay.toEpochDay()) + 1;
+        CategoryEnum[] categories = CategoryEnum.values();
+
+        List<Transaction> transactions = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            int merchant = random.nextInt(MERCHANT_COUNT);
+            String name = MERCHANT_KINDS[merchant % MERCHANT_KINDS.length] + " " + merchant;
+            String remark = "Remark " + random.nextInt(REMARK_COUNT);
+            CategoryEnum categoryEnum = categories[random.nextInt(categories.length)];
+            String category = random.nextBoolean()
+                    ? categoryEnum.name()
+                    : categoryEnum.name().toLowerCase(Locale.ROOT);
+            transactions.add(new Transaction(
+                    isShared ? Name.of(name) : new Name(name),
+                    new Amount(i + 1, categoryEnum == CategoryEnum.INCOME),
+                    new Date(firstDay.plusDays(random.nextInt(days)).toString()),
+                    isShared ? Remark.of(remark) : new Remark(remark),
+                    isShared ? Category.of(category) : new Category(category)));
+        }
+        return transactions;
+    }
+
+    /**
+     * Returns the heap in use after collecting the garbage.
+     */
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return MEMORY.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.expensela.model.transaction;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.expensela.benchmarkutil.TransactionGenerator;
+
+/**
+ * Single-row mutations of a {@code TransactionList}. Each benchmark undoes its own change, so the list keeps
+ * the same size across invocations and a result is the cost of the pair of operations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private TransactionList transactionList;
+    private Transaction absent;
+    private Transaction present;
+    private Transaction edited;
+
+    @Setup
+    public void setUp() {
+        List<Transaction> transactions = TransactionGenerator.generate(rows);
+        transactionList = new TransactionList();
+        transactionList.setTransaction(transactions);
+        present = transactions.get(rows / 2);
+        absent = new Transaction(present.getName(), new Amount(rows + 1, false), present.getDate(),
+                present.getRemark(), Category.of(CategoryEnum.FOOD));
+        edited = new Transaction(present.getName(), present.getAmount(), new Date("2000-01-01"),
+                present.getRemark(), present.getCategory());
+    }
+
+    /**
+     * Adds a transaction that is not in the list and removes it again.
+     */
+    @Benchmark
+    public void addThenRemove() {
+        transactionList.add(absent);
+        transactionList.remove(absent);
+    }
+
+    /**
+     * Removes a transaction from the middle of the list and adds it back.
+     */
+    @Benchmark
+    public void removeThenAdd() {
+        transactionList.remove(present);
+        transactionList.add(present);
+    }
+
+    /**
+     * Moves a transaction to another date and back.
+     */
+    @Benchmark
+    public void setTransactionThenRevert() {
+        transactionList.setTransaction(present, edited);
+        transactionList.setTransaction(edited, present);
+    }
+}
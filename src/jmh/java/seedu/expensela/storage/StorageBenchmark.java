@@ -0,0 +1,212 @@
+package seedu.expensela.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.expensela.benchmarkutil.TransactionGenerator;
+import seedu.expensela.commons.exceptions.DataConversionException;
+import seedu.expensela.commons.exceptions.IllegalValueException;
+import seedu.expensela.commons.util.JsonUtil;
+import seedu.expensela.model.ExpenseLa;
+import seedu.expensela.model.ReadOnlyExpenseLa;
+import seedu.expensela.model.transaction.Amount;
+import seedu.expensela.model.transaction.Category;
+import seedu.expensela.model.transaction.Date;
+import seedu.expensela.model.transaction.Name;
+import seedu.expensela.model.transaction.Remark;
+import seedu.expensela.model.transaction.Transaction;
+
+/**
+ * Converting an {@code ExpenseLa} to and from JSON, in memory and through {@code JsonExpenseLaStorage}, and to and
+ * from the binary format of {@code BinaryExpenseLaStorage} and the database of {@code SqlExpenseLaStorage}.
+ * Converting read rows into transactions is also measured on pools of different sizes, to show how loading scales
+ * with the number of cores.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorageBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private ExpenseLa expenseLa;
+    private Path directory;
+    private Path savedFile;
+    private Path scratchFile;
+    private Path savedBinaryFile;
+    private JsonExpenseLaStorage storage;
+    private BinaryExpenseLaStorage binaryStorage;
+    private Path savedSqlFile;
+    private Path scratchSqlFile;
+    private Path changedSqlFile;
+    private SqlExpenseLaStorage sqlStorage;
+    private SqlExpenseLaStorage changedSqlStorage;
+    private ExpenseLa changedExpenseLa;
+    private Transaction change;
+    private boolean isChangeAdded;
+    private List<JsonAdaptedTransaction> adaptedTransactions;
+
+    /**
+     * The pool that {@code ParallelTransactionConverter} converts rows on.
+     */
+    @State(Scope.Benchmark)
+    public static class ConverterPool {
+        @Param({"1", "2", "4", "8"})
+        private int poolSize;
+
+        private ForkJoinPool pool;
+
+        @Setup
+        public void setUp() {
+            pool = new ForkJoinPool(poolSize);
+        }
+
+        @TearDown
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        expenseLa = TransactionGenerator.generateExpenseLa(rows);
+        directory = Files.createTempDirectory("expensela-jmh");
+        savedFile = directory.resolve("saved.json");
+        scratchFile = directory.resolve("scratch.json");
+        storage = new JsonExpenseLaStorage(savedFile);
+        storage.saveExpenseLa(expenseLa, savedFile);
+        savedBinaryFile = directory.resolve("saved.bin");
+        binaryStorage = new BinaryExpenseLaStorage(savedBinaryFile);
+        binaryStorage.saveExpenseLa(expenseLa, savedBinaryFile);
+        savedSqlFile = directory.resolve("saved.db");
+        scratchSqlFile = directory.resolve("scratch.db");
+        changedSqlFile = directory.resolve("changed.db");
+        sqlStorage = new SqlExpenseLaStorage(directory.resolve("unused.db"));
+        sqlStorage.saveExpenseLa(expenseLa, savedSqlFile);
+        changedSqlStorage = new SqlExpenseLaStorage(changedSqlFile);
+        changedExpenseLa = new ExpenseLa(expenseLa);
+        changedSqlStorage.attach(changedExpenseLa);
+        changedSqlStorage.saveExpenseLa(changedExpenseLa);
+        change = new Transaction(new Name("Benchmark change"), new Amount(100, false),
+                Date.of(LocalDate.now()), new Remark("-"), new Category("MISC"));
+        adaptedTransactions = expenseLa.getTransactionList().stream()
+                .map(JsonAdaptedTransaction::new)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Deletes the files written by the benchmarks.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(savedFile);
+        Files.deleteIfExists(scratchFile);
+        Files.deleteIfExists(savedBinaryFile);
+        new SqlExpenseLaStorage(savedSqlFile).close();
+        changedSqlStorage.close();
+        Files.deleteIfExists(SqlExpenseLaStorage.databasePathOf(savedSqlFile));
+        Files.deleteIfExists(SqlExpenseLaStorage.databasePathOf(scratchSqlFile));
+        Files.deleteIfExists(SqlExpenseLaStorage.databasePathOf(changedSqlFile));
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * Converts the ledger to JSON and back in memory, leaving out file access.
+     */
+    @Benchmark
+    public ExpenseLa serializableRoundTrip() throws IOException, IllegalValueException {
+        String json = JsonUtil.toJsonString(new JsonSerializableExpenseLa(expenseLa));
+        return JsonUtil.fromJsonString(json, JsonSerializableExpenseLa.class).toModelType();
+    }
+
+    @Benchmark
+    public ReadOnlyExpenseLa readExpenseLa() throws DataConversionException {
+        return storage.readExpenseLa(savedFile).get();
+    }
+
+    @Benchmark
+    public void saveExpenseLa() throws IOException {
+        storage.saveExpenseLa(expenseLa, scratchFile);
+    }
+
+    @Benchmark
+    public ReadOnlyExpenseLa readBinaryExpenseLa() throws DataConversionException {
+        return binaryStorage.readExpenseLa(savedBinaryFile).get();
+    }
+
+    @Benchmark
+    public void saveBinaryExpenseLa() throws IOException {
+        binaryStorage.saveExpenseLa(expenseLa, scratchFile);
+    }
+
+    /**
+     * Reads every transaction from the database.
+     */
+    @Benchmark
+    public ReadOnlyExpenseLa readSqlExpenseLa() throws DataConversionException {
+        return sqlStorage.readExpenseLa(savedSqlFile).get();
+    }
+
+    /**
+     * Reads the current and previous month from the database, as starting the app does.
+     */
+    @Benchmark
+    public ReadOnlyExpenseLa readRecentSqlExpenseLa() throws DataConversionException {
+        return new SqlExpenseLaStorage(savedSqlFile).readExpenseLa().get();
+    }
+
+    @Benchmark
+    public void saveSqlExpenseLa() throws IOException {
+        sqlStorage.saveExpenseLa(expenseLa, scratchSqlFile);
+    }
+
+    /**
+     * Adds a transaction to the current month, or removes the one added last time, and saves the change to the
+     * database, as a command does.
+     */
+    @Benchmark
+    public void saveSqlExpenseLaChange() throws IOException {
+        if (isChangeAdded) {
+            changedExpenseLa.removeTransaction(change);
+        } else {
+            changedExpenseLa.addTransaction(change);
+        }
+        isChangeAdded = !isChangeAdded;
+        changedSqlStorage.saveExpenseLa(changedExpenseLa);
+    }
+
+    /**
+     * Validates and converts rows read from the data file into transactions, as loading does.
+     */
+    @Benchmark
+    public List<Transaction> convertTransactions(ConverterPool converterPool) throws IllegalValueException {
+        ParallelTransactionConverter converter = new ParallelTransactionConverter(converterPool.pool);
+        for (JsonAdaptedTransaction adapted : adaptedTransactions) {
+            converter.add(adapted);
+        }
+        return converter.finish();
+    }
+}
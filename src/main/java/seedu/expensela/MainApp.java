@@ -1,12 +1,19 @@
 package seedu.expensela;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.expensela.commons.core.Config;
 import seedu.expensela.commons.core.LogsCenter;
@@ -16,22 +23,28 @@ import seedu.expensela.commons.util.ConfigUtil;
 import seedu.expensela.commons.util.StringUtil;
 import seedu.expensela.logic.Logic;
 import seedu.expensela.logic.LogicManager;
+import seedu.expensela.model.DataFileFormat;
 import seedu.expensela.model.ExpenseLa;
 import seedu.expensela.model.GlobalData;
+import seedu.expensela.model.HistoryLoader;
 import seedu.expensela.model.Model;
 import seedu.expensela.model.ModelManager;
 import seedu.expensela.model.ReadOnlyExpenseLa;
-import seedu.expensela.model.ReadOnlyGlobalData;
 import seedu.expensela.model.ReadOnlyUserPrefs;
+import seedu.expensela.model.TransactionHistory;
 import seedu.expensela.model.UserPrefs;
 import seedu.expensela.model.monthlydata.MonthlyData;
 import seedu.expensela.model.transaction.Transaction;
 import seedu.expensela.model.util.SampleDataUtil;
+import seedu.expensela.storage.BinaryExpenseLaStorage;
+import seedu.expensela.storage.ExpenseLaFileConverter;
 import seedu.expensela.storage.ExpenseLaStorage;
 import seedu.expensela.storage.GlobalDataStorage;
-import seedu.expensela.storage.JsonExpenseLaStorage;
+import seedu.expensela.storage.JournaledExpenseLaStorage;
 import seedu.expensela.storage.JsonGlobalDataStorage;
 import seedu.expensela.storage.JsonUserPrefsStorage;
+import seedu.expensela.storage.PartitionedExpenseLaStorage;
+import seedu.expensela.storage.SqlExpenseLaStorage;
 import seedu.expensela.storage.Storage;
 import seedu.expensela.storage.StorageManager;
 import seedu.expensela.storage.UserPrefsStorage;
@@ -52,6 +65,8 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    /** Where the months not read at startup are loaded from, if the ExpenseLa data is kept that way. */
+    private TransactionHistory transactionHistory;
 
     @Override
     public void init() throws Exception {
@@ -64,15 +79,27 @@ public class MainApp extends Application {
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
         GlobalDataStorage globalDataStorage = new JsonGlobalDataStorage(userPrefs.getGlobalDataFilePath());
-        GlobalData globalData = initGlobalData(globalDataStorage);
-        ExpenseLaStorage expenseLaStorage = new JsonExpenseLaStorage(userPrefs.getExpenseLaFilePath());
+        ExpenseLaStorage expenseLaStorage = initExpenseLaStorage(userPrefs);
         storage = new StorageManager(expenseLaStorage, userPrefsStorage, globalDataStorage);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs, globalData);
+        // The global data and the ExpenseLa data do not depend on each other, so they are read at the same time.
+        ExecutorService startupExecutor = Executors.newFixedThreadPool(2);
+        try {
+            Future<GlobalData> globalData = startupExecutor.submit(() -> initGlobalData(globalDataStorage));
+            Future<ReadOnlyExpenseLa> initialData = startupExecutor.submit(() -> readInitialExpenseLa(storage));
+            model = new ModelManager(initialData.get(), userPrefs, globalData.get());
+        } finally {
+            startupExecutor.shutdown();
+        }
+        if (expenseLaStorage instanceof TransactionHistory) {
+            transactionHistory = (TransactionHistory) expenseLaStorage;
+            model.setTransactionHistory(transactionHistory);
+        }
 
         dateCheck(model);
+        model.clearExpenseLaHistory();
 
         logic = new LogicManager(model, storage);
 
@@ -80,11 +107,12 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s expensela and {@code userPrefs}. <br>
+     * Returns the data from {@code storage}'s expensela. <br>
      * The data from the sample expensela will be used instead if {@code storage}'s expensela is not found,
      * or an empty expensela will be used instead if errors occur when reading {@code storage}'s expensela.
+     * Only the recent months are read if {@code storage} keeps the rest of the history to be loaded later.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs, ReadOnlyGlobalData globalData) {
+    private ReadOnlyExpenseLa readInitialExpenseLa(Storage storage) {
         Optional<ReadOnlyExpenseLa> expenseLaOptional;
         ReadOnlyExpenseLa initialData;
         try {
@@ -100,8 +128,7 @@ public class MainApp extends Application {
             logger.warning("Problem while reading from the file. Will be starting with an empty ExpenseLa");
             initialData = new ExpenseLa();
         }
-
-        return new ModelManager(initialData, userPrefs, globalData);
+        return initialData;
     }
 
     private void initLogging(Config config) {
@@ -126,14 +153,16 @@ public class MainApp extends Application {
                 from = globalData.getLastUpdatedDate().getDayOfMonth();
             }
             int to = today.getDayOfMonth();
+            List<Transaction> dueTransactions = new ArrayList<>();
             for (Transaction t : globalData.getRecurringTransactionList()) {
                 if (t.getDate().transactionDate.getDayOfMonth() > from
                         && t.getDate().transactionDate.getDayOfMonth() <= to) {
-                    model.addTransaction(new Transaction(
+                    dueTransactions.add(new Transaction(
                             t.getName(), t.getAmount(), t.getDate(), t.getRemark(), t.getCategory()
                     ));
                 }
             }
+            model.addTransactions(dueTransactions);
         }
         globalData.setLastUpdatedDate(LocalDate.now());
     }
@@ -206,6 +235,40 @@ public class MainApp extends Application {
         return initializedPrefs;
     }
 
+    /**
+     * Returns the {@code ExpenseLaStorage} for the data file format chosen in {@code userPrefs}.
+     * If the binary format is chosen but its file does not exist yet, the json file of the same name, if any, is
+     * converted into it.
+     */
+    protected ExpenseLaStorage initExpenseLaStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getExpenseLaFilePath();
+        logger.info("Using " + userPrefs.getExpenseLaFileFormat() + " data file : " + filePath);
+        if (userPrefs.getExpenseLaFileFormat() == DataFileFormat.PARTITIONED) {
+            return new PartitionedExpenseLaStorage(filePath);
+        }
+        if (userPrefs.getExpenseLaFileFormat() == DataFileFormat.SQL) {
+            return new SqlExpenseLaStorage(filePath);
+        }
+        if (userPrefs.getExpenseLaFileFormat() != DataFileFormat.BINARY) {
+            return new JournaledExpenseLaStorage(filePath);
+        }
+
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        Path jsonFile = filePath.resolveSibling((extensionStart > 0 ? fileName.substring(0, extensionStart)
+                : fileName) + ".json");
+        if (!Files.exists(filePath) && !jsonFile.equals(filePath)) {
+            try {
+                if (ExpenseLaFileConverter.jsonToBinary(jsonFile, filePath)) {
+                    logger.info("Converted " + jsonFile + " into " + filePath);
+                }
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Could not convert " + jsonFile + " into " + filePath + ": " + e);
+            }
+        }
+        return new BinaryExpenseLaStorage(filePath);
+    }
+
     /**
      * Returns a {@code GlobalData} using the file at {@code storage}'s global data's file path,
      * or a new {@code GlobalData} with default configuration if errors occur when
@@ -242,6 +305,9 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting ExpenseLa " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (transactionHistory != null) {
+            new HistoryLoader(transactionHistory, Platform::runLater, ui::showHistoryStatus).start();
+        }
     }
 
     @Override
@@ -257,5 +323,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
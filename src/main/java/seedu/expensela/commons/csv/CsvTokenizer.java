@@ -0,0 +1,267 @@
+package seedu.expensela.commons.csv;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+import seedu.expensela.commons.exceptions.IllegalValueException;
+
+/**
+ * Splits CSV text into records and fields as described in RFC 4180.
+ *
+ * A field that starts with a double quote runs until the matching closing quote, and may contain commas, line breaks
+ * and doubled quotes that stand for one quote. A quote anywhere else in a field is kept as it is. Records end at a
+ * {@code \r\n}, {@code \n} or {@code \r} outside a quoted field.
+ *
+ * Nothing is copied while splitting: only where each field starts and ends is noted, and {@link #getField(int)}
+ * returns a view of the text. Only a field with doubled quotes in it is copied, when it is asked for. Text that is not
+ * backed by an array, such as a wrapped {@code String}, is copied into one first, as scanning an array is much faster.
+ */
+public class CsvTokenizer {
+
+    public static final char SEPARATOR = ',';
+    public static final char QUOTE = '"';
+
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A quoted field is not closed";
+    public static final String MESSAGE_TEXT_AFTER_QUOTE =
+            "A quoted field is followed by more text before the next comma";
+
+    private final char[] chars;
+    /** Index in {@code chars} of the first character of the text; indices below are relative to it. */
+    private final int offset;
+    private final int limit;
+    private int position;
+    private int lineCount;
+
+    private int recordStart;
+    private int recordEnd;
+    private int lineNumber;
+    private boolean isRecordComplete;
+    private int fieldCount;
+    private int[] fieldStarts = new int[8];
+    private int[] fieldEnds = new int[8];
+    private boolean[] isFieldEscaped = new boolean[8];
+
+    /**
+     * Creates a tokenizer over the characters of {@code text} between its position and its limit.
+     * {@code text} is not modified, but must not change while it is being read.
+     */
+    public CsvTokenizer(CharBuffer text) {
+        requireNonNull(text);
+        limit = text.remaining();
+        if (text.hasArray()) {
+            chars = text.array();
+            offset = text.arrayOffset() + text.position();
+        } else {
+            chars = new char[limit];
+            text.duplicate().get(chars);
+            offset = 0;
+        }
+    }
+
+    /**
+     * Returns the length of the complete records at the start of {@code text}, from its position up to the end of the
+     * line break after the last record that is known to be complete. A record at the end of {@code text} is not
+     * complete if more text could still belong to it, i.e. if it has no line break yet, its quoted field is not
+     * closed, or its line break is a {@code \r} that a {@code \n} could still follow.
+     */
+    public static int findCompleteRecordsLength(CharBuffer text) {
+        CsvTokenizer tokenizer = new CsvTokenizer(text);
+        int length = 0;
+        while (true) {
+            try {
+                if (!tokenizer.nextRecord()) {
+                    return length;
+                }
+            } catch (IllegalValueException e) {
+                // a malformed record is as complete as any other once its line break is found
+            }
+            if (!tokenizer.isRecordComplete) {
+                return length;
+            }
+            length = tokenizer.position;
+        }
+    }
+
+    /**
+     * Moves to the next record.
+     *
+     * @return false if there are no more records.
+     * @throws IllegalValueException if the next record is not valid CSV. The tokenizer still moves past it, so that
+     *     it can be reported with {@link #getRecord()} and {@link #getLineNumber()} before moving to the record after.
+     */
+    public boolean nextRecord() throws IllegalValueException {
+        if (position >= limit) {
+            return false;
+        }
+        recordStart = position;
+        lineNumber = lineCount + 1;
+        fieldCount = 0;
+        String error = null;
+        int i = position;
+        while (true) {
+            if (i < limit && chars[offset + i] == QUOTE) {
+                int start = i + 1;
+                i = skipQuotedField(start);
+                if (i >= limit) {
+                    addField(start, limit, false);
+                    endRecord(limit, limit, false);
+                    throw new IllegalValueException(MESSAGE_UNCLOSED_QUOTE);
+                }
+                addField(start, i, isEscaped(start, i));
+                i++;
+                if (i < limit && !isEndOfField(chars[offset + i])) {
+                    error = error == null ? MESSAGE_TEXT_AFTER_QUOTE : error;
+                    i = skipUnquotedField(i);
+                }
+            } else {
+                int start = i;
+                i = skipUnquotedField(i);
+                addField(start, i, false);
+            }
+
+            if (i >= limit) {
+                endRecord(limit, limit, false);
+                break;
+            }
+            char c = chars[offset + i];
+            if (c == SEPARATOR) {
+                i++;
+                continue;
+            }
+            boolean isCrLf = c == '\r' && i + 1 < limit && chars[offset + i + 1] == '\n';
+            boolean isComplete = c == '\n' || i + 1 < limit;
+            endRecord(i, i + (isCrLf ? 2 : 1), isComplete);
+            lineCount++;
+            break;
+        }
+        if (error != null) {
+            throw new IllegalValueException(error);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the quote that closes the quoted field whose text starts at {@code start}, or the limit
+     * of the text if it is not closed. Line breaks inside the field are counted as lines.
+     */
+    private int skipQuotedField(int start) {
+        int i = start;
+        while (i < limit) {
+            char c = chars[offset + i];
+            if (c == QUOTE) {
+                if (i + 1 < limit && chars[offset + i + 1] == QUOTE) {
+                    i += 2;
+                    continue;
+                }
+                return i;
+            }
+            if (c == '\n' || (c == '\r' && (i + 1 >= limit || chars[offset + i + 1] != '\n'))) {
+                lineCount++;
+            }
+            i++;
+        }
+        return limit;
+    }
+
+    /**
+     * Returns the index of the comma or line break that ends the unquoted text starting at {@code start}, or the
+     * limit of the text if there is none.
+     */
+    private int skipUnquotedField(int start) {
+        int i = start;
+        while (i < limit && !isEndOfField(chars[offset + i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isEndOfField(char c) {
+        return c == SEPARATOR || c == '\n' || c == '\r';
+    }
+
+    /**
+     * Returns true if the quoted field text between {@code start} and {@code end} has doubled quotes in it.
+     */
+    private boolean isEscaped(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (chars[offset + i] == QUOTE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Notes a field of the current record, growing the arrays of field bounds if they are full.
+     */
+    private void addField(int start, int end, boolean isEscaped) {
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+            isFieldEscaped = Arrays.copyOf(isFieldEscaped, fieldCount * 2);
+        }
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = end;
+        isFieldEscaped[fieldCount] = isEscaped;
+        fieldCount++;
+    }
+
+    private void endRecord(int end, int nextRecordStart, boolean isComplete) {
+        recordEnd = end;
+        position = nextRecordStart;
+        isRecordComplete = isComplete;
+    }
+
+    /**
+     * Returns the number of fields in the current record. An empty line is a record with one empty field.
+     */
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Returns the field at {@code index} in the current record, without its surrounding quotes and with each doubled
+     * quote in it read as one.
+     */
+    public CharSequence getField(int index) {
+        if (index < 0 || index >= fieldCount) {
+            throw new IndexOutOfBoundsException("Field " + index + " of " + fieldCount);
+        }
+        CharSequence field = CharBuffer.wrap(chars, offset + fieldStarts[index], fieldEnds[index] - fieldStarts[index]);
+        if (!isFieldEscaped[index]) {
+            return field;
+        }
+        StringBuilder unescaped = new StringBuilder(field.length());
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            unescaped.append(c);
+            if (c == QUOTE) {
+                i++;
+            }
+        }
+        return unescaped.toString();
+    }
+
+    /**
+     * Returns the current record as it is in the text, without the line break after it.
+     */
+    public CharSequence getRecord() {
+        return CharBuffer.wrap(chars, offset + recordStart, recordEnd - recordStart);
+    }
+
+    /**
+     * Returns the line of the text that the current record starts on, counting from 1.
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Returns the number of line breaks in and after the records read so far.
+     */
+    public int getLineCount() {
+        return lineCount;
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.expensela.commons.csv;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Appends records to a {@code StringBuilder} as CSV text that {@link CsvTokenizer} reads back field for field.
+ *
+ * As described in RFC 4180, a field is put in double quotes only if it contains a comma, a quote or a line break,
+ * with each quote in it doubled, and each record ends with {@code \r\n}.
+ */
+public class CsvWriter {
+
+    public static final String RECORD_SEPARATOR = "\r\n";
+
+    private final StringBuilder out;
+    private boolean isRecordStarted;
+
+    public CsvWriter(StringBuilder out) {
+        this.out = requireNonNull(out);
+    }
+
+    /**
+     * Appends {@code value} as the next field of the current record.
+     */
+    public CsvWriter field(CharSequence value) {
+        if (isRecordStarted) {
+            out.append(CsvTokenizer.SEPARATOR);
+        }
+        isRecordStarted = true;
+        if (!needsQuotes(value)) {
+            out.append(value);
+            return this;
+        }
+        out.append(CsvTokenizer.QUOTE);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == CsvTokenizer.QUOTE) {
+                out.append(CsvTokenizer.QUOTE);
+            }
+            out.append(c);
+        }
+        out.append(CsvTokenizer.QUOTE);
+        return this;
+    }
+
+    /**
+     * Ends the current record, so that the next field starts a new one.
+     */
+    public CsvWriter endRecord() {
+        out.append(RECORD_SEPARATOR);
+        isRecordStarted = false;
+        return this;
+    }
+
+    /**
+     * Returns true if {@code value} would not be read back as it is unless it is quoted.
+     */
+    static boolean needsQuotes(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == CsvTokenizer.SEPARATOR || c == CsvTokenizer.QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.expensela.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Hands out one canonical instance for each distinct immutable value, so that equal values held by many
+ * objects share a single copy in memory.
+ * Canonical instances are only weakly referenced, so values that nothing else uses any more can still be
+ * garbage collected. Safe to call from any thread; values are spread over several separately locked pools,
+ * so threads converting data in parallel rarely wait on each other.
+ *
+ * @param <T> an immutable type whose {@code equals} and {@code hashCode} compare by value
+ */
+public class Interner<T> {
+
+    private static final int POOL_COUNT = 16;
+
+    private final List<Map<T, WeakReference<T>>> pools = new ArrayList<>(POOL_COUNT);
+
+    public Interner() {
+        for (int i = 0; i < POOL_COUNT; i++) {
+            pools.add(new WeakHashMap<>());
+        }
+    }
+
+    /**
+     * Returns the canonical instance equal to {@code value}, making {@code value} canonical if there is none yet.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        int hash = value.hashCode();
+        Map<T, WeakReference<T>> pool = pools.get((hash ^ (hash >>> 16)) & (POOL_COUNT - 1));
+        synchronized (pool) {
+            WeakReference<T> reference = pool.get(value);
+            T canonical = reference == null ? null : reference.get();
+            if (canonical == null) {
+                pool.put(value, new WeakReference<>(value));
+                canonical = value;
+            }
+            return canonical;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.expensela.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Helper functions for money values held as a whole number of cents.
+ * All methods are stateless, so unlike {@code DecimalFormat} they are safe to call from any thread.
+ */
+public class MoneyUtil {
+
+    /**
+     * The most digits a money value may have before its decimal point, so that it fits in a {@code long} of cents.
+     */
+    public static final int MAX_DOLLAR_DIGITS = 16;
+
+    private static final int CENTS_PER_DOLLAR = 100;
+
+    /**
+     * Returns the number of cents in {@code value}, a decimal number with an optional leading minus sign
+     * at most {@value #MAX_DOLLAR_DIGITS} digits before the decimal point and at most 2 after it,
+     * e.g. "12", "12.5", "-0.05".
+     * @throws NumberFormatException if {@code value} is not in that form.
+     */
+    public static long parseCents(String value) {
+        requireNonNull(value);
+        boolean isNegative = value.startsWith("-");
+        String unsigned = isNegative ? value.substring(1) : value;
+
+        int point = unsigned.indexOf('.');
+        String dollars = point == -1 ? unsigned : unsigned.substring(0, point);
+        String fraction = point == -1 ? "" : unsigned.substring(point + 1);
+        if (dollars.isEmpty() || dollars.length() > MAX_DOLLAR_DIGITS || fraction.length() > 2
+                || !isDigits(dollars) || !isDigits(fraction)) {
+            throw new NumberFormatException("Not a money value: " + value);
+        }
+
+        long cents = Long.parseLong(dollars) * CENTS_PER_DOLLAR;
+        if (!fraction.isEmpty()) {
+            cents += Integer.parseInt(fraction) * (fraction.length() == 1 ? 10 : 1);
+        }
+        return isNegative ? -cents : cents;
+    }
+
+    /**
+     * Returns {@code cents} as a plain decimal string with exactly 2 decimal places, e.g. "-1234.50".
+     * The result can be read back by {@link #parseCents(String)} and by {@code Double#parseDouble(String)}.
+     */
+    public static String toPlainString(long cents) {
+        return toString(cents, false);
+    }
+
+    /**
+     * Appends {@code cents} to {@code builder} the way {@link #toPlainString(long)} writes it, without creating any
+     * intermediate strings, and returns {@code builder}.
+     */
+    public static StringBuilder appendPlain(StringBuilder builder, long cents) {
+        if (cents < 0) {
+            builder.append('-');
+        }
+        // Dividing before taking the magnitude keeps Long.MIN_VALUE from overflowing.
+        builder.append(Math.abs(cents / CENTS_PER_DOLLAR)).append('.');
+        int fraction = (int) Math.abs(cents % CENTS_PER_DOLLAR);
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        return builder.append(fraction);
+    }
+
+    /**
+     * Returns {@code cents} with thousands separators and exactly 2 decimal places, e.g. "-1,234.50".
+     */
+    public static String format(long cents) {
+        return toString(cents, true);
+    }
+
+    /**
+     * Returns {@code cents} in dollars, for display purposes such as charts.
+     */
+    public static double toDollars(long cents) {
+        return (double) cents / CENTS_PER_DOLLAR;
+    }
+
+    /**
+     * Returns {@code cents} in dollars with two decimal places, grouping thousands if {@code isGrouped}.
+     */
+    private static String toString(long cents, boolean isGrouped) {
+        StringBuilder builder = new StringBuilder();
+        if (cents < 0) {
+            builder.append('-');
+        }
+        // Dividing before taking the magnitude keeps Long.MIN_VALUE from overflowing.
+        String dollars = Long.toString(Math.abs(cents / CENTS_PER_DOLLAR));
+        int fraction = (int) Math.abs(cents % CENTS_PER_DOLLAR);
+
+        for (int i = 0; i < dollars.length(); i++) {
+            if (isGrouped && i > 0 && (dollars.length() - i) % 3 == 0) {
+                builder.append(',');
+            }
+            builder.append(dollars.charAt(i));
+        }
+        builder.append('.');
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        builder.append(fraction);
+        return builder.toString();
+    }
+
+    /**
+     * Returns true if {@code test} contains only the digits 0 to 9.
+     */
+    private static boolean isDigits(String test) {
+        for (int i = 0; i < test.length(); i++) {
+            if (test.charAt(i) < '0' || test.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,10 +1,13 @@
 package seedu.expensela.logic;
 
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.expensela.commons.core.GuiSettings;
 import seedu.expensela.logic.commands.CommandResult;
+import seedu.expensela.logic.commands.ImportCommand;
 import seedu.expensela.logic.commands.exceptions.CommandException;
 import seedu.expensela.logic.parser.exceptions.ParseException;
 import seedu.expensela.model.Balance;
@@ -13,6 +16,9 @@ import seedu.expensela.model.ReadOnlyExpenseLa;
 import seedu.expensela.model.ToggleView;
 import seedu.expensela.model.monthlydata.MonthlyData;
 import seedu.expensela.model.transaction.Transaction;
+import seedu.expensela.model.transaction.TransactionAggregates;
+import seedu.expensela.model.transaction.TransactionColumns;
+import seedu.expensela.storage.CsvTransactionImporter;
 
 /**
  * API of the Logic component
@@ -49,6 +55,27 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the import that {@code commandText} enters without executing it, or an empty {@code Optional} if it
+     * enters another command. The file of the import can then be read away from the application thread with
+     * {@link ImportCommand#readFile}, and what was read added with {@link #completeImport}.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    Optional<ImportCommand> parseImport(String commandText) throws ParseException;
+
+    /**
+     * Adds the transactions that {@code command} read from its file, as one step that can be undone, and saves them.
+     * @return the result of the import.
+     * @throws CommandException If the data cannot be saved.
+     */
+    CommandResult completeImport(ImportCommand command, CsvTransactionImporter.Result result) throws CommandException;
+
+    /**
+     * Sets the handler called with an error message when data saved after a command fails to be written.
+     * Data is written in the background, so the handler may be called on any thread after the command has returned.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
     /**
      * Returns the ExpenseLa.
      *
@@ -69,6 +96,18 @@ public interface Logic {
 
     boolean getIsFilterMonth();
 
+    /** @see seedu.expensela.model.Model#isFilterApplied() */
+    boolean isFilterApplied();
+
+    /** @see seedu.expensela.model.Model#getAggregates() */
+    TransactionAggregates getAggregates();
+
+    /** @see seedu.expensela.model.Model#getTransactionColumns() */
+    TransactionColumns getTransactionColumns();
+
+    /** @see seedu.expensela.model.Model#getFilteredTransactionRows() */
+    int[] getFilteredTransactionRows();
+
     ToggleView getToggleView();
 
     /**
@@ -2,6 +2,8 @@ package seedu.expensela.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -9,6 +11,7 @@ import seedu.expensela.commons.core.GuiSettings;
 import seedu.expensela.commons.core.LogsCenter;
 import seedu.expensela.logic.commands.Command;
 import seedu.expensela.logic.commands.CommandResult;
+import seedu.expensela.logic.commands.ImportCommand;
 import seedu.expensela.logic.commands.exceptions.CommandException;
 import seedu.expensela.logic.parser.ExpenseLaParser;
 import seedu.expensela.logic.parser.exceptions.ParseException;
@@ -19,6 +22,9 @@ import seedu.expensela.model.ReadOnlyExpenseLa;
 import seedu.expensela.model.ToggleView;
 import seedu.expensela.model.monthlydata.MonthlyData;
 import seedu.expensela.model.transaction.Transaction;
+import seedu.expensela.model.transaction.TransactionAggregates;
+import seedu.expensela.model.transaction.TransactionColumns;
+import seedu.expensela.storage.CsvTransactionImporter;
 import seedu.expensela.storage.Storage;
 
 /**
@@ -64,16 +70,53 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = expenseLaParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            model.commitExpenseLa();
+        }
+
+        save();
+        return commandResult;
+    }
+
+    @Override
+    public Optional<ImportCommand> parseImport(String commandText) throws ParseException {
+        Command command = expenseLaParser.parseCommand(commandText);
+        return command instanceof ImportCommand ? Optional.of((ImportCommand) command) : Optional.empty();
+    }
 
+    @Override
+    public CommandResult completeImport(ImportCommand command, CsvTransactionImporter.Result result)
+            throws CommandException {
+        logger.info("----------------[IMPORT COMPLETED][" + result.getRowCount() + " rows]");
+
+        CommandResult commandResult;
+        try {
+            commandResult = command.addToModel(model, result);
+        } finally {
+            model.commitExpenseLa();
+        }
+
+        save();
+        return commandResult;
+    }
+
+    /**
+     * Saves the data after a command has changed it.
+     */
+    private void save() throws CommandException {
         try {
             storage.saveExpenseLa(model.getExpenseLa());
             storage.saveGlobalData(model.getGlobalData());
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+    }
 
-        return commandResult;
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        storage.setWriteFailureHandler(ioe -> handler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
     }
 
     @Override
@@ -111,6 +154,26 @@ public class LogicManager implements Logic {
         return model.getIsFilterMonth();
     }
 
+    @Override
+    public boolean isFilterApplied() {
+        return model.isFilterApplied();
+    }
+
+    @Override
+    public TransactionAggregates getAggregates() {
+        return model.getAggregates();
+    }
+
+    @Override
+    public TransactionColumns getTransactionColumns() {
+        return model.getTransactionColumns();
+    }
+
+    @Override
+    public int[] getFilteredTransactionRows() {
+        return model.getFilteredTransactionRows();
+    }
+
     @Override
     public ToggleView getToggleView() {
         return model.getToggleView();
@@ -36,11 +36,11 @@ public class BudgetCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         MonthlyData currentData = model.getMonthlyData();
-        model.setMonthlyData(new MonthlyData("1", new Budget(budgetValue.toString()), currentData.getExpense(),
-                currentData.getIncome()));
+        Budget budget = new Budget(Math.round(budgetValue * 100));
+        model.setMonthlyData(new MonthlyData("1", budget, currentData.getExpense(), currentData.getIncome()));
         if (recurring) {
             GlobalData globalData = model.getGlobalData();
-            globalData.setRecurringBudget(new Budget(budgetValue.toString()));
+            globalData.setRecurringBudget(budget);
             model.setGlobalData(globalData);
             return new CommandResult(String.format(MESSAGE_SUCCESS_RECURRING, budgetValue));
         } else {
@@ -0,0 +1,20 @@
+package seedu.expensela.logic.commands;
+
+import seedu.expensela.model.Model;
+
+/**
+ * Cancels the import that is reading a csv file in the background. None of its transactions are added.
+ */
+public class CancelImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "cancel";
+
+    public static final String MESSAGE_SUCCESS = "Import cancelled, no transactions were added.";
+    public static final String MESSAGE_NO_IMPORT_RUNNING = "There is no import running to cancel.";
+
+    @Override
+    public CommandResult execute(Model model) {
+        return new CommandResult(MESSAGE_SUCCESS, false, false, true);
+    }
+
+}
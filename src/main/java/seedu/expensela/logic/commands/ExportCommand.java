@@ -2,26 +2,43 @@ package seedu.expensela.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 
 import seedu.expensela.commons.core.Messages;
 import seedu.expensela.logic.commands.exceptions.CommandException;
 import seedu.expensela.model.Model;
 import seedu.expensela.model.transaction.Transaction;
+import seedu.expensela.storage.CsvTransactionExporter;
 
 /**
- * Exports currently filtered transactions to csv file, in the current directory.
+ * Exports currently filtered transactions to a csv file, by default in the current directory.
  */
 public class ExportCommand extends Command {
 
     public static final String COMMAND_WORD = "export";
 
+    public static final String DEFAULT_FILE_NAME = "transactions.csv";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the transactions shown to a csv file.\n"
+            + "Parameters: [FILE_PATH] (default: " + DEFAULT_FILE_NAME + ")\n"
+            + "Example: " + COMMAND_WORD + " march.csv";
+
     public static final String MESSAGE_SUCCESS = "Exported to %s";
 
+    private final Path filePath;
+
+    public ExportCommand() {
+        this(Paths.get(DEFAULT_FILE_NAME));
+    }
+
+    public ExportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -31,57 +48,19 @@ public class ExportCommand extends Command {
             throw new CommandException(Messages.MESSAGE_EMPTY_TRANSACTION_LIST);
         }
 
-        StringBuilder sb = new StringBuilder();
-        sb.append("NAME");
-        sb.append(",");
-        sb.append("AMOUNT");
-        sb.append(",");
-        sb.append("DATE");
-        sb.append(",");
-        sb.append("REMARK");
-        sb.append(",");
-        sb.append("CATEGORY\n");
-
-        for (Transaction transaction : transactionList) {
-            buildStringFromTransaction(transaction, sb);
-        }
-
-        File file = new File("transactions.csv");
-        try (FileWriter writer = new FileWriter(file)) {
-            writer.write(sb.toString());
-        } catch (FileNotFoundException e) {
-            throw new CommandException(Messages.MESSAGE_FAILED_EXPORT);
+        try {
+            CsvTransactionExporter.write(filePath, transactionList);
         } catch (IOException ioe) {
             throw new CommandException(Messages.MESSAGE_FAILED_EXPORT);
         }
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, file.getAbsolutePath()));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, filePath.toAbsolutePath()));
     }
 
-    /**
-     * Inputs details of transaction into String Builder in required format for csv.
-     * @param transaction
-     * @param sb The String Builder object used to convert to csv file.
-     * @return The String Builder object after transaction details added.
-     */
-    private StringBuilder buildStringFromTransaction(Transaction transaction, StringBuilder sb) {
-        String name = transaction.getName().toString();
-        String amount = transaction.getAmount().toString().replace(",", "");
-        String date = transaction.getDate().toString();
-        String remark = transaction.getRemark().toString();
-        String category = transaction.getCategory().toString();
-
-        sb.append(name);
-        sb.append(",");
-        sb.append(amount);
-        sb.append(",");
-        sb.append(date);
-        sb.append(",");
-        sb.append(remark);
-        sb.append(",");
-        sb.append(category);
-        sb.append("\n");
-
-        return sb;
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && filePath.equals(((ExportCommand) other).filePath)); // state check
     }
 }
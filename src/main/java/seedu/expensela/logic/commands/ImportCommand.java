@@ -2,29 +2,35 @@ package seedu.expensela.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import seedu.expensela.commons.core.Messages;
 import seedu.expensela.logic.commands.exceptions.CommandException;
 import seedu.expensela.model.Filter;
 import seedu.expensela.model.Model;
-import seedu.expensela.model.transaction.Amount;
-import seedu.expensela.model.transaction.Category;
-import seedu.expensela.model.transaction.Date;
-import seedu.expensela.model.transaction.Name;
-import seedu.expensela.model.transaction.Remark;
 import seedu.expensela.model.transaction.Transaction;
+import seedu.expensela.storage.CsvTransactionImporter;
 
 /**
- * Exports currently filtered transactions to csv file, in the current directory.
+ * Imports transactions from a csv file in the current directory, in the format written by the export command.
  */
 public class ImportCommand extends Command {
 
     public static final String COMMAND_WORD = "import";
 
-    public static final String MESSAGE_SUCCESS = "Imported transactions from csv file!";
+    public static final String MESSAGE_SUCCESS = "Imported %1$d transactions from csv file!";
+    public static final String MESSAGE_DUPLICATES_SKIPPED = "\n%1$d transactions already in ExpenseLa were skipped.";
+    public static final String MESSAGE_ROWS_REJECTED = "\n%1$d rows could not be imported, see %2$s";
+    public static final String MESSAGE_STARTED = "Importing from %1$s in the background. Enter '"
+            + CancelImportCommand.COMMAND_WORD + "' to stop.";
+    public static final String MESSAGE_ALREADY_RUNNING = "Another import is still running. Enter '"
+            + CancelImportCommand.COMMAND_WORD + "' to stop it first.";
     public static final Object MESSAGE_USAGE = "";
 
     private String csvFile = "";
@@ -32,69 +38,86 @@ public class ImportCommand extends Command {
     public ImportCommand(String string) {
         this.csvFile = string;
     }
+
+    public String getCsvFile() {
+        return csvFile;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        String line = "./" + csvFile;
-        String discardLine = "";
-        BufferedReader br = null;
+        return addToModel(model, readFile((bytesRead, totalBytes, rowsRead) -> { }));
+    }
 
+    /**
+     * Reads the transactions in the csv file and lists the rows that could not be imported in a report next to it,
+     * telling {@code listener} how far reading has got. The model is not touched, so this can be called on any
+     * thread, after which {@link #addToModel} adds what was read.
+     *
+     * @throws CommandException if the file cannot be read, or the thread reading it is interrupted.
+     */
+    public CsvTransactionImporter.Result readFile(CsvTransactionImporter.ProgressListener listener)
+            throws CommandException {
+        Path csvPath = Paths.get(csvFile);
+        CsvTransactionImporter.Result result;
         try {
-            br = new BufferedReader(new FileReader(csvFile));
-            discardLine = br.readLine();
-            while ((line = br.readLine()) != null) {
-                Transaction importedTransaction = buildTransactionFromString(line);
-                try {
-                    model.addTransaction(importedTransaction);
-                } catch (Exception e) {
-                    continue;
-                }
-
-            }
+            result = new CsvTransactionImporter().read(csvPath, listener);
         } catch (IOException e) {
             throw new CommandException(Messages.MESSAGE_FAILED_IMPORT);
-        } finally {
-            if (br != null) {
-                try {
-                    br.close();
-                } catch (IOException e) {
-                    throw new CommandException(Messages.MESSAGE_FAILED_IMPORT);
-                }
+        }
+
+        if (!result.getRejectedRows().isEmpty()) {
+            try {
+                CsvTransactionImporter.writeReport(getReportPath(csvPath), result.getRejectedRows());
+            } catch (IOException e) {
+                throw new CommandException(Messages.MESSAGE_FAILED_IMPORT);
             }
         }
-        model.setFilter(new Filter(null, null));
-        return new CommandResult(String.format(MESSAGE_SUCCESS));
+        return result;
     }
 
     /**
-     * Creates a new transaction from line of CSV file
-     * @param string String from csv
-     * @return A transaction object after it is created with the right parameters
+     * Adds the transactions in {@code result}, read by {@link #readFile}, to {@code model} in one operation.
+     * Transactions already in {@code model} or repeated in the file are skipped.
      */
-    private Transaction buildTransactionFromString(String string) {
-        String[] transactionParam = string.split(",");
-        Name name = new Name(transactionParam[0]);
-        String[] splitAmount = transactionParam[1].split("");
-        Amount amount = null;
-        String inputAmount = "";
-        if (splitAmount[0].equals("-")) {
-            for (int i = 3; i < splitAmount.length; i++) {
-                inputAmount += splitAmount[i];
-            }
-            amount = new Amount(inputAmount, false);
-        } else if (splitAmount[0].equals("+")) {
-            for (int i = 3; i < splitAmount.length; i++) {
-                inputAmount += splitAmount[i];
+    public CommandResult addToModel(Model model, CsvTransactionImporter.Result result) {
+        requireNonNull(model);
+        List<Transaction> importedTransactions = new ArrayList<>();
+        Set<Transaction> seen = new HashSet<>();
+        for (Transaction transaction : result.getTransactions()) {
+            if (!model.hasTransaction(transaction) && seen.add(transaction)) {
+                importedTransactions.add(transaction);
             }
-            amount = new Amount(inputAmount, true);
         }
-        Date date = new Date(transactionParam[2]);
-        Remark remark = new Remark(transactionParam[3]);
-        Category category = new Category(transactionParam[4]);
+        model.addTransactions(importedTransactions);
+        model.setFilter(new Filter(null, null));
 
-        Transaction newTransaction = new Transaction(name, amount, date, remark, category);
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, importedTransactions.size()));
+        int skippedCount = result.getTransactions().size() - importedTransactions.size();
+        if (skippedCount > 0) {
+            message.append(String.format(MESSAGE_DUPLICATES_SKIPPED, skippedCount));
+        }
+        if (!result.getRejectedRows().isEmpty()) {
+            message.append(String.format(MESSAGE_ROWS_REJECTED, result.getRejectedRows().size(),
+                    getReportPath(Paths.get(csvFile)).toAbsolutePath()));
+        }
+        return new CommandResult(message.toString());
+    }
 
-        return newTransaction;
+    /**
+     * Returns where the rows of {@code csvPath} that could not be imported are listed, next to the csv file.
+     */
+    static Path getReportPath(Path csvPath) {
+        String fileName = csvPath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return csvPath.resolveSibling(baseName + "-rejected.txt");
+    }
 
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && csvFile.equals(((ImportCommand) other).csvFile)); // state check
     }
 }
@@ -0,0 +1,28 @@
+package seedu.expensela.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.expensela.logic.commands.exceptions.CommandException;
+import seedu.expensela.model.Model;
+
+/**
+ * Makes the most recently undone command again.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_SUCCESS = "Redo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to redo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoExpenseLa()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoExpenseLa();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
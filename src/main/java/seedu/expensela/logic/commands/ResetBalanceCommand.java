@@ -2,9 +2,8 @@ package seedu.expensela.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.text.DecimalFormat;
-
 import javafx.collections.ObservableList;
+import seedu.expensela.commons.util.MoneyUtil;
 import seedu.expensela.logic.commands.exceptions.CommandException;
 import seedu.expensela.model.Balance;
 import seedu.expensela.model.Model;
@@ -22,22 +21,21 @@ public class ResetBalanceCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Total balance is now %.2f.";
 
-    private static DecimalFormat df2 = new DecimalFormat("#.##");
-
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        model.loadAllTransactions();
         ObservableList<Transaction> transactionList = model.getExpenseLa().getTransactionList();
-        double balance = 0;
+        long balance = 0;
         for (int i = 0; i < transactionList.size(); i++) {
             if (transactionList.get(i).getAmount().positive) {
-                balance += transactionList.get(i).getAmount().transactionAmount;
+                balance += transactionList.get(i).getAmount().transactionCents;
             } else {
-                balance -= transactionList.get(i).getAmount().transactionAmount;
+                balance -= transactionList.get(i).getAmount().transactionCents;
             }
         }
-        model.updateTotalBalance(new Balance(df2.format(balance)));
-        return new CommandResult(String.format(MESSAGE_SUCCESS, balance));
+        model.updateTotalBalance(new Balance(balance));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, MoneyUtil.toDollars(balance)));
     }
 
 }
@@ -0,0 +1,28 @@
+package seedu.expensela.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.expensela.logic.commands.exceptions.CommandException;
+import seedu.expensela.model.Model;
+
+/**
+ * Reverts the most recent command that changed the data.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+    public static final String MESSAGE_SUCCESS = "Undo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to undo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoExpenseLa()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoExpenseLa();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -6,6 +6,7 @@ import static seedu.expensela.logic.parser.CliSyntax.PREFIX_RECURRING;
 
 import java.util.stream.Stream;
 
+import seedu.expensela.commons.util.MoneyUtil;
 import seedu.expensela.logic.commands.BudgetCommand;
 import seedu.expensela.logic.parser.exceptions.ParseException;
 import seedu.expensela.model.monthlydata.Budget;
@@ -33,7 +34,7 @@ public class BudgetCommandParser implements Parser<BudgetCommand> {
             if (arePrefixesPresent(argMultimap, PREFIX_RECURRING)) {
                 recurring = true;
             }
-            return new BudgetCommand(budget.budgetAmount, recurring);
+            return new BudgetCommand(MoneyUtil.toDollars(budget.budgetCents), recurring);
         } catch (IllegalArgumentException e) {
             throw new ParseException(e.getMessage());
         }
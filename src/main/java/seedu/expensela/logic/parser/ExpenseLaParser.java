@@ -8,6 +8,7 @@ import java.util.regex.Pattern;
 
 import seedu.expensela.logic.commands.AddCommand;
 import seedu.expensela.logic.commands.BudgetCommand;
+import seedu.expensela.logic.commands.CancelImportCommand;
 import seedu.expensela.logic.commands.ClearCommand;
 import seedu.expensela.logic.commands.ClearRecurringCommand;
 import seedu.expensela.logic.commands.Command;
@@ -20,8 +21,10 @@ import seedu.expensela.logic.commands.FindCommand;
 import seedu.expensela.logic.commands.HelpCommand;
 import seedu.expensela.logic.commands.ImportCommand;
 import seedu.expensela.logic.commands.ListCommand;
+import seedu.expensela.logic.commands.RedoCommand;
 import seedu.expensela.logic.commands.ResetBalanceCommand;
 import seedu.expensela.logic.commands.ToggleViewCommand;
+import seedu.expensela.logic.commands.UndoCommand;
 import seedu.expensela.logic.parser.exceptions.ParseException;
 
 /**
@@ -91,11 +94,20 @@ public class ExpenseLaParser {
             return new ClearRecurringCommand();
 
         case ExportCommand.COMMAND_WORD:
-            return new ExportCommand();
+            return new ExportCommandParser().parse(arguments);
 
         case ImportCommand.COMMAND_WORD:
             return new ImportCommandParser().parse(arguments);
 
+        case CancelImportCommand.COMMAND_WORD:
+            return new CancelImportCommand();
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
@@ -42,7 +42,7 @@ public class ParserUtil {
     public static Name parseName(String name) throws ParseException {
         requireNonNull(name);
         String trimmedName = name.trim();
-        return new Name(trimmedName);
+        return Name.of(trimmedName);
     }
 
     /**
@@ -87,7 +87,7 @@ public class ParserUtil {
         if (!Remark.isValidRemark(trimmedRemark)) {
             throw new ParseException(Remark.MESSAGE_CONSTRAINTS);
         }
-        return new Remark(trimmedRemark);
+        return Remark.of(trimmedRemark);
     }
 
     /**
@@ -104,7 +104,7 @@ public class ParserUtil {
         if (!Category.isValidCategory(trimmedCategory)) {
             throw new ParseException(Category.MESSAGE_CONSTRAINTS);
         }
-        return new Category(trimmedCategory);
+        return Category.of(trimmedCategory);
     }
 
     /**
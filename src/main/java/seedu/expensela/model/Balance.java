@@ -3,7 +3,7 @@ package seedu.expensela.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.expensela.commons.util.AppUtil.checkArgument;
 
-import java.text.DecimalFormat;
+import seedu.expensela.commons.util.MoneyUtil;
 
 /**
  * Monthly balance data set by user
@@ -12,9 +12,9 @@ public class Balance {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Balance should only contain numbers with 2 decimal places";
-    public static final String VALIDATION_REGEX = "^-?\\d+\\.?\\d{0,2}$";
-    public static final DecimalFormat DECIMAL_FORMATTER = new DecimalFormat("#,##0.00");
-    public final Double balanceAmount;
+    public static final String VALIDATION_REGEX =
+            "^-?\\d{1," + MoneyUtil.MAX_DOLLAR_DIGITS + "}(\\.\\d{0,2})?$";
+    public final long balanceCents;
 
     /**
      * Constructs a {@code Balance}.
@@ -24,7 +24,16 @@ public class Balance {
     public Balance(String value) {
         requireNonNull(value);
         checkArgument(isValidAmount(value), MESSAGE_CONSTRAINTS);
-        balanceAmount = Double.parseDouble(value);
+        balanceCents = MoneyUtil.parseCents(value);
+    }
+
+    /**
+     * Constructs a {@code Balance} of {@code cents}.
+     *
+     * @param cents A number of cents.
+     */
+    public Balance(long cents) {
+        balanceCents = cents;
     }
 
     /**
@@ -37,7 +46,7 @@ public class Balance {
     @Override
     public String toString() {
         String printedAmount = "$";
-        printedAmount += DECIMAL_FORMATTER.format(balanceAmount);
+        printedAmount += MoneyUtil.format(balanceCents);
         return printedAmount;
     }
 
@@ -45,12 +54,12 @@ public class Balance {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Balance // instanceof handles nulls
-                && balanceAmount.equals(((Balance) other).balanceAmount)); // state check
+                && balanceCents == ((Balance) other).balanceCents); // state check
     }
 
     @Override
     public int hashCode() {
-        return (balanceAmount).hashCode();
+        return Long.hashCode(balanceCents);
     }
 
 }
@@ -0,0 +1,15 @@
+package seedu.expensela.model;
+
+/**
+ * The formats the ExpenseLa data file can be kept in.
+ */
+public enum DataFileFormat {
+    /** Json text, with changes journaled next to it. */
+    JSON,
+    /** The compact binary layout of {@link seedu.expensela.storage.BinaryExpenseLaStorage}. */
+    BINARY,
+    /** One json file per month, of which only recent months are loaded at startup. The default. */
+    PARTITIONED,
+    /** An embedded H2 database, of which only recent months are loaded at startup. */
+    SQL
+}
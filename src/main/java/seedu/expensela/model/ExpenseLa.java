@@ -3,17 +3,24 @@ package seedu.expensela.model;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.expensela.model.monthlydata.Budget;
 import seedu.expensela.model.monthlydata.Expense;
 import seedu.expensela.model.monthlydata.Income;
 import seedu.expensela.model.monthlydata.MonthlyData;
+import seedu.expensela.model.transaction.CategoryEnum;
 import seedu.expensela.model.transaction.DateEqualsKeywordPredicate;
 import seedu.expensela.model.transaction.Transaction;
+import seedu.expensela.model.transaction.TransactionAggregates;
+import seedu.expensela.model.transaction.TransactionColumns;
 import seedu.expensela.model.transaction.TransactionList;
+import seedu.expensela.model.transaction.TransactionMatcher;
 
 /**
  * Wraps all data at the expensela level
@@ -24,6 +31,7 @@ public class ExpenseLa implements ReadOnlyExpenseLa {
     private final MonthlyData monthlyData;
     private final TransactionList transactions;
     private final ToggleView toggleView;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -59,9 +67,11 @@ public class ExpenseLa implements ReadOnlyExpenseLa {
      */
     public void setTransactions(List<Transaction> transactions) {
         this.transactions.setTransaction(transactions);
+        version++;
     }
 
     public void setMonthlyData(MonthlyData monthlyData) {
+        version++;
         this.monthlyData.setBudget(monthlyData.getBudget());
         this.monthlyData.setExpense(monthlyData.getExpense());
         this.monthlyData.setIncome(monthlyData.getIncome());
@@ -103,6 +113,16 @@ public class ExpenseLa implements ReadOnlyExpenseLa {
      */
     public void addTransaction(Transaction p) {
         transactions.add(p);
+        version++;
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the expensela in one sorted merge.
+     * None of the transactions may already exist in the expensela, and {@code toAdd} must not contain duplicates.
+     */
+    public void addTransactions(Collection<Transaction> toAdd) {
+        transactions.addAll(toAdd);
+        version++;
     }
 
     /**
@@ -115,6 +135,7 @@ public class ExpenseLa implements ReadOnlyExpenseLa {
         requireNonNull(editedTransaction);
 
         transactions.setTransaction(target, editedTransaction);
+        version++;
     }
 
     /**
@@ -123,6 +144,16 @@ public class ExpenseLa implements ReadOnlyExpenseLa {
      */
     public void removeTransaction(Transaction key) {
         transactions.remove(key);
+        version++;
+    }
+
+    /**
+     * Removes every transaction in {@code keys} from this {@code ExpenseLa}.
+     * Every transaction in {@code keys} must exist in the address book.
+     */
+    public void removeTransactions(Collection<Transaction> keys) {
+        transactions.removeAll(keys);
+        version++;
     }
 
     public void switchToggleView() {
@@ -142,6 +173,51 @@ public class ExpenseLa implements ReadOnlyExpenseLa {
         return transactions.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the transactions dated in {@code month}.
+     */
+    public Set<Transaction> getTransactionsInMonth(YearMonth month) {
+        return transactions.getTransactionsInMonth(month);
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the transactions in {@code category}.
+     */
+    public Set<Transaction> getTransactionsInCategory(CategoryEnum category) {
+        return transactions.getTransactionsInCategory(category);
+    }
+
+    /**
+     * Returns the transactions whose name contains {@code word} as a whole word, ignoring case.
+     */
+    public Set<Transaction> getTransactionsWithNameWord(String word) {
+        return transactions.getTransactionsWithNameWord(word);
+    }
+
+    /**
+     * Returns the indexes in {@link #getTransactionList()}, in ascending order, of the transactions that
+     * {@code matcher} may accept, or null if every transaction should be tested.
+     *
+     * @see TransactionList#findCandidateRows(TransactionMatcher)
+     */
+    public int[] findCandidateRows(TransactionMatcher matcher) {
+        return transactions.findCandidateRows(matcher);
+    }
+
+    /**
+     * Returns the running income and expense totals of the transactions, by month and category.
+     */
+    public TransactionAggregates getAggregates() {
+        return transactions.getAggregates();
+    }
+
+    /**
+     * Returns the transactions stored column by column, in the same order as {@link #getTransactionList()}.
+     */
+    public TransactionColumns getColumns() {
+        return transactions.getColumns();
+    }
+
     @Override
     public MonthlyData getMonthlyData() {
         return this.monthlyData;
@@ -156,6 +232,15 @@ public class ExpenseLa implements ReadOnlyExpenseLa {
         return this.filter;
     }
 
+    /**
+     * {@inheritDoc}
+     * The filter and toggle view are not saved, so changing them does not change the version.
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
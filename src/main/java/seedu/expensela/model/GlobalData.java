@@ -19,6 +19,7 @@ public class GlobalData implements ReadOnlyGlobalData {
     private TransactionList recurringTransactionsList = new TransactionList();
     private Balance totalBalance = new Balance("0.0");
     private LocalDate lastUpdatedDate = LocalDate.now();
+    private long version;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -65,28 +66,51 @@ public class GlobalData implements ReadOnlyGlobalData {
         return lastUpdatedDate;
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     public void setTotalBalance(Balance balance) {
-        this.totalBalance = balance;
+        if (!Objects.equals(totalBalance, balance)) {
+            this.totalBalance = balance;
+            version++;
+        }
     }
 
     public void setRecurringBudget(Budget budget) {
-        this.recurringBudget = budget;
+        if (!Objects.equals(recurringBudget, budget)) {
+            this.recurringBudget = budget;
+            version++;
+        }
     }
 
     public void setRecurringTransactionsList(ObservableList<Transaction> recurringTransactionsList) {
         this.recurringTransactionsList.setTransaction(recurringTransactionsList);
+        version++;
     }
 
+    /**
+     * Removes every recurring transaction.
+     */
     public void clearRecurringTransactionsList() {
         this.recurringTransactionsList.clear();
+        version++;
     }
 
     public void setLastUpdatedDate(LocalDate date) {
-        this.lastUpdatedDate = date;
+        if (!Objects.equals(lastUpdatedDate, date)) {
+            this.lastUpdatedDate = date;
+            version++;
+        }
     }
 
+    /**
+     * Adds {@code toAdd} to the recurring transactions.
+     */
     public void addTransaction(Transaction toAdd) {
         recurringTransactionsList.add(toAdd);
+        version++;
     }
 
     @Override
@@ -0,0 +1,83 @@
+package seedu.expensela.model;
+
+import static seedu.expensela.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.expensela.commons.core.LogsCenter;
+
+/**
+ * Loads the months of a {@code TransactionHistory} that were left unloaded at startup, newest first, without
+ * holding up the thread the model is used on.
+ *
+ * Each month is read on a background thread and then added to the model on the model's thread, one month at a
+ * time, so commands can run in between. Progress is reported as a short status message.
+ */
+public class HistoryLoader {
+
+    public static final String MESSAGE_LOADING = "Loading history: %1$d of %2$d months";
+    public static final String MESSAGE_LOADED = "All history loaded";
+
+    private static final Logger logger = LogsCenter.getLogger(HistoryLoader.class);
+
+    private final TransactionHistory history;
+    private final Executor modelThread;
+    private final Consumer<String> statusHandler;
+
+    /**
+     * Creates a loader of the unloaded months of {@code history}.
+     *
+     * @param modelThread runs the tasks given to it on the thread the model is used on.
+     * @param statusHandler is given each progress message, on the model's thread.
+     */
+    public HistoryLoader(TransactionHistory history, Executor modelThread, Consumer<String> statusHandler) {
+        requireAllNonNull(history, modelThread, statusHandler);
+        this.history = history;
+        this.modelThread = modelThread;
+        this.statusHandler = statusHandler;
+    }
+
+    /**
+     * Starts loading the months that are unloaded now on a background thread.
+     * Must be called on the model's thread.
+     */
+    public void start() {
+        List<YearMonth> months = new ArrayList<>(history.getUnloadedMonths());
+        if (months.isEmpty()) {
+            return;
+        }
+        months.sort(Comparator.reverseOrder());
+        statusHandler.accept(String.format(MESSAGE_LOADING, 0, months.size()));
+
+        Thread thread = new Thread(() -> load(months), "expensela-history");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Reads each of {@code months} in turn and hands it to the model's thread to be loaded.
+     */
+    void load(List<YearMonth> months) {
+        logger.info("Loading " + months.size() + " months of history in the background");
+        for (int i = 0; i < months.size(); i++) {
+            YearMonth month = months.get(i);
+            history.prefetch(month);
+
+            int loadedCount = i + 1;
+            modelThread.execute(() -> {
+                // A command may already have loaded the month, or cleared the history; loading skips it then.
+                history.load(Collections.singleton(month));
+                statusHandler.accept(loadedCount == months.size()
+                        ? MESSAGE_LOADED
+                        : String.format(MESSAGE_LOADING, loadedCount, months.size()));
+            });
+        }
+    }
+}
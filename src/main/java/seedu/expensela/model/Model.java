@@ -1,12 +1,15 @@
 package seedu.expensela.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.expensela.commons.core.GuiSettings;
 import seedu.expensela.model.monthlydata.MonthlyData;
 import seedu.expensela.model.transaction.Transaction;
+import seedu.expensela.model.transaction.TransactionAggregates;
+import seedu.expensela.model.transaction.TransactionColumns;
 
 /**
  * The API of the Model component.
@@ -85,6 +88,47 @@ public interface Model {
     /** Returns the ExpenseLa */
     ReadOnlyExpenseLa getExpenseLa();
 
+    /**
+     * Sets where the months of transactions that have not been loaded yet are loaded from.
+     * Months are loaded when a filter or command needs them.
+     */
+    void setTransactionHistory(TransactionHistory history);
+
+    /**
+     * Loads every month of transactions that has not been loaded yet.
+     */
+    void loadAllTransactions();
+
+    /**
+     * Saves the changes made to the data since the last commit as one step that can be undone.
+     */
+    void commitExpenseLa();
+
+    /**
+     * Forgets every step that could be undone or redone, along with any changes not committed yet.
+     */
+    void clearExpenseLaHistory();
+
+    /**
+     * Returns true if there is a committed step that can be undone.
+     */
+    boolean canUndoExpenseLa();
+
+    /**
+     * Returns true if there is an undone step that can be redone.
+     */
+    boolean canRedoExpenseLa();
+
+    /**
+     * Restores the data to how it was before the most recent step that has not been undone.
+     */
+    void undoExpenseLa();
+
+    /**
+     * Makes the most recently undone step again.
+     */
+    void redoExpenseLa();
+
     /**
      * Returns true if a transaction with the same identity as {@code transaction} exists in the transaction list.
      */
@@ -102,6 +146,18 @@ public interface Model {
      */
     void addTransaction(Transaction transaction);
 
+    /**
+     * Deletes all of the given transactions in one operation.
+     * Every transaction must exist in the transaction list.
+     */
+    void deleteTransactions(Collection<Transaction> targets);
+
+    /**
+     * Adds all of the given transactions in one operation.
+     * None of {@code transactions} may already exist in the transaction list, and it must not contain duplicates.
+     */
+    void addTransactions(Collection<Transaction> transactions);
+
     /**
      * Replaces the given transaction {@code target} with {@code editedTransaction}.
      * {@code target} must exist in the transaction list.
@@ -132,6 +188,21 @@ public interface Model {
     /** Returns a boolean value of whether filter is filtered my month */
     boolean getIsFilterMonth();
 
+    /**
+     * Returns true if the filtered transaction list shows exactly the transactions selected by {@link #getFilter()},
+     * i.e. no other predicate has been applied since the filter was last set.
+     */
+    boolean isFilterApplied();
+
+    /** Returns the running income and expense totals of all transactions, by month and category */
+    TransactionAggregates getAggregates();
+
+    /** Returns all transactions stored column by column, for analytics scans */
+    TransactionColumns getTransactionColumns();
+
+    /** Returns the rows of {@link #getTransactionColumns()} that are in the filtered transaction list, in order */
+    int[] getFilteredTransactionRows();
+
     /** Returns a view of toggleView object */
     ToggleView getToggleView();
 
@@ -4,34 +4,47 @@ import static java.util.Objects.requireNonNull;
 import static seedu.expensela.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.text.DecimalFormat;
-import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.expensela.commons.core.GuiSettings;
 import seedu.expensela.commons.core.LogsCenter;
 import seedu.expensela.model.monthlydata.Expense;
 import seedu.expensela.model.monthlydata.Income;
 import seedu.expensela.model.monthlydata.MonthlyData;
+import seedu.expensela.model.transaction.Amount;
+import seedu.expensela.model.transaction.DateEqualsKeywordPredicate;
+import seedu.expensela.model.transaction.FilteredTransactionList;
 import seedu.expensela.model.transaction.Transaction;
+import seedu.expensela.model.transaction.TransactionAggregates;
+import seedu.expensela.model.transaction.TransactionColumns;
+import seedu.expensela.model.transaction.TransactionMatcher;
 
 /**
  * Represents the in-memory model of the expensela data.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
-    private static final DecimalFormat DECIMAL_FORMATTER = new DecimalFormat("#.##");
 
     private final ExpenseLa expenseLa;
     private final UserPrefs userPrefs;
-    private final FilteredList<Transaction> filteredTransactions;
+    private final FilteredTransactionList filteredTransactions;
     private final Filter filter;
     private final GlobalData globalData;
+    private final UndoHistory undoHistory;
     private final ArrayList<String> commandHistory = new ArrayList<>();
+    private boolean isFilterApplied;
+    private TransactionHistory history;
 
     /**
      * Initializes a ModelManager with the given expenseLa and userPrefs.
@@ -43,10 +56,12 @@ public class ModelManager implements Model {
 
         this.expenseLa = new ExpenseLa(expenseLa);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredTransactions = new FilteredList<>(this.expenseLa.getTransactionList());
+        filteredTransactions = new FilteredTransactionList(this.expenseLa.getTransactionList());
         filter = this.expenseLa.getFilter();
         this.globalData = new GlobalData(globalData);
+        undoHistory = new UndoHistory(this.expenseLa, this.globalData, UndoHistory.DEFAULT_MEMORY_BUDGET_BYTES);
         updateFilteredTransactionList(filter.getCategoryNamePredicate(), filter.getDateMonthPredicate());
+        isFilterApplied = true;
     }
 
     public ModelManager() {
@@ -136,7 +151,11 @@ public class ModelManager implements Model {
 
     @Override
     public void setExpenseLa(ReadOnlyExpenseLa expenseLa) {
+        // Every month is loaded first so that undoing this brings back the months that were not loaded as well.
+        loadAllTransactions();
+        undoHistory.recordRemoved(new ArrayList<>(this.expenseLa.getTransactionList()));
         this.expenseLa.resetData(expenseLa);
+        undoHistory.recordAdded(this.expenseLa.getTransactionList());
     }
 
     @Override
@@ -144,72 +163,180 @@ public class ModelManager implements Model {
         return expenseLa;
     }
 
+    @Override
+    public void setTransactionHistory(TransactionHistory history) {
+        requireNonNull(history);
+        this.history = history;
+        history.attach(expenseLa);
+    }
+
+    @Override
+    public void loadAllTransactions() {
+        if (history != null && !history.getUnloadedMonths().isEmpty()) {
+            history.load(history.getUnloadedMonths());
+        }
+    }
+
+    @Override
+    public void commitExpenseLa() {
+        undoHistory.commit();
+    }
+
+    @Override
+    public void clearExpenseLaHistory() {
+        undoHistory.clear();
+    }
+
+    @Override
+    public boolean canUndoExpenseLa() {
+        return undoHistory.canUndo();
+    }
+
+    @Override
+    public boolean canRedoExpenseLa() {
+        return undoHistory.canRedo();
+    }
+
+    @Override
+    public void undoExpenseLa() {
+        undoHistory.undo();
+        updateFilteredTransactionList(PREDICATE_SHOW_ALL_TRANSACTIONS, PREDICATE_SHOW_ALL_TRANSACTIONS);
+    }
+
+    @Override
+    public void redoExpenseLa() {
+        undoHistory.redo();
+        updateFilteredTransactionList(PREDICATE_SHOW_ALL_TRANSACTIONS, PREDICATE_SHOW_ALL_TRANSACTIONS);
+    }
+
+    /**
+     * Loads the months of {@code transactions} if they have not been loaded yet, so that checks for duplicates
+     * and changes to those months see every transaction in them.
+     */
+    private void loadMonthsOf(Collection<Transaction> transactions) {
+        if (history == null || history.getUnloadedMonths().isEmpty()) {
+            return;
+        }
+        Set<YearMonth> months = new HashSet<>();
+        for (Transaction transaction : transactions) {
+            months.add(YearMonth.from(transaction.getDate().transactionDate));
+        }
+        history.load(months);
+    }
+
+    /**
+     * Loads the months that {@code filter} can show if they have not been loaded yet.
+     */
+    private void loadMonthsShownBy(Filter filter) {
+        if (history == null || history.getUnloadedMonths().isEmpty()) {
+            return;
+        }
+        Predicate<Transaction> datePredicate = filter.getDateMonthPredicate();
+        if (!(datePredicate instanceof DateEqualsKeywordPredicate)) {
+            loadAllTransactions();
+            return;
+        }
+        List<String> keywords = ((DateEqualsKeywordPredicate) datePredicate).getKeywords();
+        if (keywords.contains("ALL")) {
+            loadAllTransactions();
+            return;
+        }
+        Set<YearMonth> months = new HashSet<>();
+        for (String keyword : keywords) {
+            try {
+                months.add(YearMonth.parse(keyword));
+            } catch (DateTimeParseException e) {
+                // Such a keyword matches no transaction, so there is nothing to load for it.
+            }
+        }
+        history.load(months);
+    }
+
     @Override
     public boolean hasTransaction(Transaction transaction) {
         requireNonNull(transaction);
+        loadMonthsOf(Collections.singletonList(transaction));
         return expenseLa.hasTransaction(transaction);
     }
 
     @Override
     public void deleteTransaction(Transaction target) {
         expenseLa.removeTransaction(target);
-        boolean positive = target.getAmount().positive;
-        double amount = target.getAmount().transactionAmount;
-        if (isTodaysMonth(target.getDate().transactionDate)) {
-            updateMonthlyData(positive, amount * (-1));
-        }
-        updateTotalBalance(positive, amount * (-1));
+        undoHistory.recordRemoved(Collections.singletonList(target));
+        refreshMonthlyData();
+        updateTotalBalance(-signedCentsOf(target));
         updateFilteredTransactionList(PREDICATE_SHOW_ALL_TRANSACTIONS, PREDICATE_SHOW_ALL_TRANSACTIONS);
     }
 
     @Override
     public void addTransaction(Transaction transaction) {
+        loadMonthsOf(Collections.singletonList(transaction));
         expenseLa.addTransaction(transaction);
-        boolean positive = transaction.getAmount().positive;
-        double amount = transaction.getAmount().transactionAmount;
-        if (isTodaysMonth(transaction.getDate().transactionDate)) {
-            updateMonthlyData(positive, amount);
-        }
-        updateTotalBalance(positive, amount);
+        undoHistory.recordAdded(Collections.singletonList(transaction));
+        refreshMonthlyData();
+        updateTotalBalance(signedCentsOf(transaction));
+        updateFilteredTransactionList(PREDICATE_SHOW_ALL_TRANSACTIONS, PREDICATE_SHOW_ALL_TRANSACTIONS);
+    }
+
+    @Override
+    public void deleteTransactions(Collection<Transaction> targets) {
+        requireAllNonNull(targets);
+        expenseLa.removeTransactions(targets);
+        undoHistory.recordRemoved(targets);
+        updateTotals(targets, -1);
+        updateFilteredTransactionList(PREDICATE_SHOW_ALL_TRANSACTIONS, PREDICATE_SHOW_ALL_TRANSACTIONS);
+    }
+
+    @Override
+    public void addTransactions(Collection<Transaction> transactions) {
+        requireAllNonNull(transactions);
+        loadMonthsOf(transactions);
+        expenseLa.addTransactions(transactions);
+        undoHistory.recordAdded(transactions);
+        updateTotals(transactions, 1);
         updateFilteredTransactionList(PREDICATE_SHOW_ALL_TRANSACTIONS, PREDICATE_SHOW_ALL_TRANSACTIONS);
     }
 
     /**
-     * Update monthly data depending whether it is a positive transaction and the amount
-     * @param positive whether transaction is income or expense
-     * @param amount positive for transaction insertion, negative for deletion
+     * Sums the amounts of {@code transactions} and applies them to the total balance in a single update,
+     * then refreshes the monthly data.
+     * @param transactions transactions that were added or removed
+     * @param sign 1 for insertion, -1 for deletion
      */
-    public void updateMonthlyData(boolean positive, double amount) {
-        if (this.expenseLa.getMonthlyData() == null) {
+    private void updateTotals(Collection<Transaction> transactions, int sign) {
+        if (transactions.isEmpty()) {
             return;
         }
-        if (positive) {
-            this.expenseLa.getMonthlyData()
-                    .setIncome(new Income(DECIMAL_FORMATTER.format(
-                           this.expenseLa.getMonthlyData().getIncome().incomeAmount + amount)));
-        } else {
-            this.expenseLa.getMonthlyData()
-                    .setExpense(new Expense(DECIMAL_FORMATTER.format(
-                            this.expenseLa.getMonthlyData().getExpense().expenseAmount + amount)));
+        long balanceChange = 0;
+        for (Transaction transaction : transactions) {
+            balanceChange += signedCentsOf(transaction) * sign;
+        }
+        refreshMonthlyData();
+        updateTotalBalance(balanceChange);
+    }
+
+    /**
+     * Copies this month's income and expense totals from the aggregates of the expensela into the monthly data.
+     */
+    private void refreshMonthlyData() {
+        if (this.expenseLa.getMonthlyData() == null) {
+            return;
         }
+        YearMonth thisMonth = YearMonth.now();
+        TransactionAggregates aggregates = expenseLa.getAggregates();
+        this.expenseLa.getMonthlyData().setIncome(new Income(aggregates.getIncomeCents(thisMonth)));
+        this.expenseLa.getMonthlyData().setExpense(new Expense(aggregates.getExpenseCents(thisMonth)));
     }
 
     @Override
     public void setTransaction(Transaction target, Transaction editedTransaction) {
         requireAllNonNull(target, editedTransaction);
-        boolean positiveBefore = target.getAmount().positive;
-        double amountBefore = target.getAmount().transactionAmount * -1;
-        boolean positive = editedTransaction.getAmount().positive;
-        double amount = editedTransaction.getAmount().transactionAmount;
-        if (isTodaysMonth(target.getDate().transactionDate)) {
-            updateMonthlyData(positiveBefore, amountBefore);
-        }
-        updateTotalBalance(positiveBefore, amountBefore);
-        if (isTodaysMonth(editedTransaction.getDate().transactionDate)) {
-            updateMonthlyData(positive, amount);
-        }
-        updateTotalBalance(positive, amount);
+        loadMonthsOf(Collections.singletonList(editedTransaction));
+        updateTotalBalance(signedCentsOf(editedTransaction) - signedCentsOf(target));
         expenseLa.setTransaction(target, editedTransaction);
+        undoHistory.recordRemoved(Collections.singletonList(target));
+        undoHistory.recordAdded(Collections.singletonList(editedTransaction));
+        refreshMonthlyData();
     }
 
     //=========== Filtered Transaction List Accessors =============================================================
@@ -225,22 +352,28 @@ public class ModelManager implements Model {
     }
 
     /**
-    * Applies setPredicate(predicate) to 2 different filteredLists and then making filteredTransactions
-     * a filteredList containing the elements list 1 and 2 have in common.
+     * Makes filteredTransactions show the transactions accepted by both predicates, either of which may be null.
+     * The predicates are compiled into a single {@code TransactionMatcher} first, which is only run over the
+     * transactions that the expensela's indexes find it may accept.
      */
     @Override
     public void updateFilteredTransactionList(Predicate<Transaction> predicate1, Predicate<Transaction> predicate2) {
-        if (predicate1 != null && predicate2 != null) {
-            Predicate<Transaction> predicate = predicate1.and(predicate2);
-            filteredTransactions.setPredicate(predicate);
-        } else if (predicate1 != null && predicate2 == null) {
-            filteredTransactions.setPredicate(predicate1);
-        } else if (predicate1 == null && predicate2 != null) {
-            filteredTransactions.setPredicate(predicate2);
-        } else {
+        if (predicate1 == null && predicate2 == null) {
             throw new NullPointerException();
         }
-
+        isFilterApplied = false;
+        List<Predicate<Transaction>> clauses = new ArrayList<>();
+        for (Predicate<Transaction> predicate : Arrays.asList(predicate1, predicate2)) {
+            if (predicate != null && predicate != PREDICATE_SHOW_ALL_TRANSACTIONS) {
+                clauses.add(predicate);
+            }
+        }
+        TransactionMatcher matcher = TransactionMatcher.compile(clauses);
+        if (matcher.matchesAll()) {
+            filteredTransactions.setPredicate(PREDICATE_SHOW_ALL_TRANSACTIONS);
+        } else {
+            filteredTransactions.setPredicate(matcher, expenseLa.findCandidateRows(matcher));
+        }
     }
 
     @Override
@@ -292,8 +425,15 @@ public class ModelManager implements Model {
      */
     @Override
     public void setFilter(Filter filter) {
+        loadMonthsShownBy(filter);
         expenseLa.setFilter(filter);
         updateFilteredTransactionList(filter.getCategoryNamePredicate(), filter.getDateMonthPredicate());
+        isFilterApplied = true;
+    }
+
+    @Override
+    public boolean isFilterApplied() {
+        return isFilterApplied;
     }
 
     @Override
@@ -328,20 +468,10 @@ public class ModelManager implements Model {
     }
 
     /**
-     * update balance given positive or not and amount
-     * @param positive
-     * @param amount
+     * Adds {@code cents} to the total balance.
      */
-    private void updateTotalBalance(boolean positive, double amount) {
-        if (positive) {
-            globalData.setTotalBalance(
-                    new Balance(DECIMAL_FORMATTER.format(globalData.getTotalBalance().balanceAmount + amount))
-            );
-        } else {
-            globalData.setTotalBalance(
-                    new Balance(DECIMAL_FORMATTER.format(globalData.getTotalBalance().balanceAmount - amount))
-            );
-        }
+    private void updateTotalBalance(long cents) {
+        globalData.setTotalBalance(new Balance(globalData.getTotalBalance().balanceCents + cents));
     }
 
     /**
@@ -352,6 +482,38 @@ public class ModelManager implements Model {
         globalData.setTotalBalance(balance);
     }
 
+    /**
+     * Returns the amount of {@code transaction} in cents, negative for expenses.
+     */
+    private static long signedCentsOf(Transaction transaction) {
+        Amount amount = transaction.getAmount();
+        return amount.positive ? amount.transactionCents : -amount.transactionCents;
+    }
+
+    //=========== Analytics Accessors =============================================================
+    /**
+     * Returns the running income and expense totals of all transactions, by month and category
+     */
+    @Override
+    public TransactionAggregates getAggregates() {
+        return expenseLa.getAggregates();
+    }
+
+    @Override
+    public TransactionColumns getTransactionColumns() {
+        return expenseLa.getColumns();
+    }
+
+    @Override
+    public int[] getFilteredTransactionRows() {
+        // The filtered list sits directly on the transaction list, so its source indexes are column rows.
+        int[] rows = new int[filteredTransactions.size()];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = filteredTransactions.getSourceIndex(i);
+        }
+        return rows;
+    }
+
     //=========== Monthly Data Accessors =============================================================
     /**
      * Returns toggleView object
@@ -365,19 +527,4 @@ public class ModelManager implements Model {
     public void switchToggleView() {
         expenseLa.switchToggleView();
     }
-
-    //=========== Monthly Data Accessors =============================================================
-
-    /**
-     * Check if the date from transaction is in today's month
-     * @param date
-     * @return booelan
-     */
-    private boolean isTodaysMonth(LocalDate date) {
-        if (date.getMonth().equals(LocalDate.now().getMonth())) {
-            return true;
-        } else {
-            return false;
-        }
-    }
 }
@@ -20,4 +20,10 @@ public interface ReadOnlyExpenseLa {
     ToggleView getToggleView();
 
     Filter getFilter();
+
+    /**
+     * Returns a number that increases whenever the transactions or monthly data change, so that callers can tell
+     * whether there is anything new to save.
+     */
+    long getVersion();
 }
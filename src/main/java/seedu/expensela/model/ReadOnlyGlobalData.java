@@ -18,4 +18,9 @@ public interface ReadOnlyGlobalData {
     ObservableList<Transaction> getRecurringTransactionList();
 
     LocalDate getLastUpdatedDate();
+
+    /**
+     * Returns a number that increases whenever any of the global data changes.
+     */
+    long getVersion();
 }
@@ -13,6 +13,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getExpenseLaFilePath();
 
+    DataFileFormat getExpenseLaFileFormat();
+
     Path getGlobalDataFilePath();
 
 }
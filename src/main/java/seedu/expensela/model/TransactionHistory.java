@@ -0,0 +1,33 @@
+package seedu.expensela.model;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Stored months of transactions that are only loaded into the model when they are needed.
+ */
+public interface TransactionHistory {
+
+    /**
+     * Starts loading months into {@code expenseLa}, the model's copy of the transactions read from storage.
+     */
+    void attach(ExpenseLa expenseLa);
+
+    /**
+     * Returns the stored months whose transactions have not been loaded yet.
+     */
+    Set<YearMonth> getUnloadedMonths();
+
+    /**
+     * Adds the stored transactions of those of {@code months} that have not been loaded yet to the attached
+     * {@code ExpenseLa}. Months that cannot be read are left unloaded.
+     */
+    void load(Collection<YearMonth> months);
+
+    /**
+     * Reads the stored transactions of {@code month} ahead of time, so that loading the month does not have to.
+     * Unlike the other methods, this may be called from any thread.
+     */
+    void prefetch(YearMonth month);
+}
@@ -0,0 +1,279 @@
+package seedu.expensela.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import seedu.expensela.model.monthlydata.Budget;
+import seedu.expensela.model.monthlydata.Expense;
+import seedu.expensela.model.monthlydata.Income;
+import seedu.expensela.model.monthlydata.MonthlyData;
+import seedu.expensela.model.transaction.Transaction;
+
+/**
+ * Records the changes that each command makes to an {@code ExpenseLa} and its {@code GlobalData}, so that they can
+ * be undone and redone.
+ * A change keeps only the transactions that were added and removed, which are immutable and shared with the
+ * model, together with the few values of the monthly and global data before and after it. Recording a command
+ * therefore costs memory in proportion to what the command changed rather than to the size of the data.
+ * The oldest changes are forgotten once the recorded changes are estimated to use more than the memory budget.
+ */
+class UndoHistory {
+
+    /** Memory that the recorded changes of a {@code ModelManager} are allowed to use. */
+    static final long DEFAULT_MEMORY_BUDGET_BYTES = 32L * 1024 * 1024;
+
+    /** Rough size of a transaction that only a recorded change still refers to, with its fields. */
+    static final long ESTIMATED_BYTES_PER_TRANSACTION = 256;
+
+    /** Rough size of a recorded change without its transactions. */
+    static final long ESTIMATED_BYTES_PER_CHANGE = 512;
+
+    private final ExpenseLa expenseLa;
+    private final GlobalData globalData;
+    private final long memoryBudgetBytes;
+    private final Deque<Change> undoStack = new ArrayDeque<>();
+    private final Deque<Change> redoStack = new ArrayDeque<>();
+    private long estimatedBytes;
+
+    private Set<Transaction> pendingAdded = new LinkedHashSet<>();
+    private Set<Transaction> pendingRemoved = new LinkedHashSet<>();
+    /** True if the changes since the last commit are too large to be undone, so they are no longer noted. */
+    private boolean isPendingOverBudget;
+    private DataState committedState;
+
+    UndoHistory(ExpenseLa expenseLa, GlobalData globalData, long memoryBudgetBytes) {
+        this.expenseLa = expenseLa;
+        this.globalData = globalData;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        committedState = DataState.of(expenseLa, globalData, null);
+    }
+
+    /**
+     * Notes that {@code transactions} were added to the expensela since the last commit.
+     */
+    void recordAdded(Collection<Transaction> transactions) {
+        if (isOverBudgetWith(transactions)) {
+            return;
+        }
+        for (Transaction transaction : transactions) {
+            if (!pendingRemoved.remove(transaction)) {
+                pendingAdded.add(transaction);
+            }
+        }
+    }
+
+    /**
+     * Notes that {@code transactions} were removed from the expensela since the last commit.
+     */
+    void recordRemoved(Collection<Transaction> transactions) {
+        if (isOverBudgetWith(transactions)) {
+            return;
+        }
+        for (Transaction transaction : transactions) {
+            if (!pendingAdded.remove(transaction)) {
+                pendingRemoved.add(transaction);
+            }
+        }
+    }
+
+    /**
+     * Returns true if the changes since the last commit, together with {@code transactions}, could be too large
+     * to fit in the memory budget. The changes noted so far are then forgotten, as they can never be undone.
+     */
+    private boolean isOverBudgetWith(Collection<Transaction> transactions) {
+        long transactionCount = (long) pendingAdded.size() + pendingRemoved.size() + transactions.size();
+        long estimate = ESTIMATED_BYTES_PER_CHANGE + transactionCount * ESTIMATED_BYTES_PER_TRANSACTION;
+        if (!isPendingOverBudget && estimate > memoryBudgetBytes) {
+            isPendingOverBudget = true;
+            pendingAdded = new LinkedHashSet<>();
+            pendingRemoved = new LinkedHashSet<>();
+        }
+        return isPendingOverBudget;
+    }
+
+    /**
+     * Records everything that changed since the last commit as one change that can be undone.
+     * Nothing is recorded if the data did not change, and the changes that were undone can no longer be redone
+     * once something is recorded. A change too large for the memory budget cannot be undone, and nothing before it
+     * can be undone either.
+     */
+    void commit() {
+        if (isPendingOverBudget) {
+            clear();
+            return;
+        }
+        DataState currentState = DataState.of(expenseLa, globalData, committedState);
+        if (pendingAdded.isEmpty() && pendingRemoved.isEmpty() && currentState.equals(committedState)) {
+            return;
+        }
+        Change change = new Change(new ArrayList<>(pendingAdded), new ArrayList<>(pendingRemoved),
+                committedState, currentState);
+        pendingAdded = new LinkedHashSet<>();
+        pendingRemoved = new LinkedHashSet<>();
+        committedState = currentState;
+
+        while (!redoStack.isEmpty()) {
+            estimatedBytes -= redoStack.pop().estimatedBytes;
+        }
+        undoStack.push(change);
+        estimatedBytes += change.estimatedBytes;
+        while (estimatedBytes > memoryBudgetBytes && !undoStack.isEmpty()) {
+            estimatedBytes -= undoStack.removeLast().estimatedBytes;
+        }
+    }
+
+    /**
+     * Forgets every recorded change, including the ones not committed yet, so that the current data is the
+     * oldest state that can be restored.
+     */
+    void clear() {
+        undoStack.clear();
+        redoStack.clear();
+        estimatedBytes = 0;
+        pendingAdded.clear();
+        pendingRemoved.clear();
+        isPendingOverBudget = false;
+        committedState = DataState.of(expenseLa, globalData, committedState);
+    }
+
+    boolean canUndo() {
+        return !undoStack.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoStack.isEmpty();
+    }
+
+    /**
+     * Reverts the most recent change that has not been undone.
+     * There must be such a change, and nothing may have changed since the last commit.
+     */
+    void undo() {
+        Change change = undoStack.pop();
+        apply(change.added, change.removed, change.before);
+        redoStack.push(change);
+    }
+
+    /**
+     * Makes the most recently undone change again.
+     * There must be such a change, and nothing may have changed since the last commit.
+     */
+    void redo() {
+        Change change = redoStack.pop();
+        apply(change.removed, change.added, change.after);
+        undoStack.push(change);
+    }
+
+    /**
+     * Removes {@code toRemove} from and adds {@code toAdd} to the expensela, then restores {@code state}.
+     */
+    private void apply(List<Transaction> toRemove, List<Transaction> toAdd, DataState state) {
+        if (!toRemove.isEmpty()) {
+            expenseLa.removeTransactions(toRemove);
+        }
+        if (!toAdd.isEmpty()) {
+            expenseLa.addTransactions(toAdd);
+        }
+        state.restore(expenseLa, globalData);
+        committedState = state;
+    }
+
+    /**
+     * The transactions that one command added and removed, and the monthly and global data around it.
+     */
+    private static class Change {
+        private final List<Transaction> added;
+        private final List<Transaction> removed;
+        private final DataState before;
+        private final DataState after;
+        private final long estimatedBytes;
+
+        Change(List<Transaction> added, List<Transaction> removed, DataState before, DataState after) {
+            this.added = added;
+            this.removed = removed;
+            this.before = before;
+            this.after = after;
+            long transactionCount = added.size() + removed.size();
+            if (before.recurringTransactions != after.recurringTransactions) {
+                transactionCount += before.recurringTransactions.size();
+            }
+            estimatedBytes = ESTIMATED_BYTES_PER_CHANGE + transactionCount * ESTIMATED_BYTES_PER_TRANSACTION;
+        }
+    }
+
+    /**
+     * The values of the monthly data and global data that a command can change.
+     * The date the global data was last updated is left out, as it tracks when recurring transactions were last
+     * added rather than anything the user entered.
+     */
+    private static class DataState {
+        private final Budget budget;
+        private final Expense expense;
+        private final Income income;
+        private final Balance totalBalance;
+        private final Budget recurringBudget;
+        private final List<Transaction> recurringTransactions;
+
+        private DataState(MonthlyData monthlyData, GlobalData globalData, List<Transaction> recurringTransactions) {
+            budget = monthlyData.getBudget();
+            expense = monthlyData.getExpense();
+            income = monthlyData.getIncome();
+            totalBalance = globalData.getTotalBalance();
+            recurringBudget = globalData.getRecurringBudget();
+            this.recurringTransactions = recurringTransactions;
+        }
+
+        /**
+         * Returns the current state of {@code expenseLa} and {@code globalData}.
+         * The recurring transactions of {@code previous} are reused if they have not changed, so that states
+         * share them.
+         */
+        static DataState of(ExpenseLa expenseLa, GlobalData globalData, DataState previous) {
+            List<Transaction> recurringTransactions = new ArrayList<>(globalData.getRecurringTransactionList());
+            if (previous != null && previous.recurringTransactions.equals(recurringTransactions)) {
+                recurringTransactions = previous.recurringTransactions;
+            }
+            return new DataState(expenseLa.getMonthlyData(), globalData, recurringTransactions);
+        }
+
+        /**
+         * Puts these values back into {@code expenseLa} and {@code globalData}.
+         */
+        void restore(ExpenseLa expenseLa, GlobalData globalData) {
+            expenseLa.setMonthlyData(new MonthlyData(expenseLa.getMonthlyData().getId(), budget, expense, income));
+            globalData.setTotalBalance(totalBalance);
+            globalData.setRecurringBudget(recurringBudget);
+            if (!recurringTransactions.equals(globalData.getRecurringTransactionList())) {
+                globalData.setRecurringTransactionsList(FXCollections.observableArrayList(recurringTransactions));
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof DataState)) {
+                return false;
+            }
+            DataState o = (DataState) other;
+            return budget.equals(o.budget)
+                    && expense.equals(o.expense)
+                    && income.equals(o.income)
+                    && totalBalance.equals(o.totalBalance)
+                    && recurringBudget.equals(o.recurringBudget)
+                    && recurringTransactions.equals(o.recurringTransactions);
+        }
+
+        @Override
+        public int hashCode() {
+            return totalBalance.hashCode();
+        }
+    }
+}
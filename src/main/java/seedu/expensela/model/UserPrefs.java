@@ -15,6 +15,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path expenseLaFilePath = Paths.get("data" , "expenseLa.json");
+    private DataFileFormat expenseLaFileFormat = DataFileFormat.PARTITIONED;
     private Path globalDataFilePath = Paths.get("data", "globalData.json");
 
     /**
@@ -38,6 +39,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setExpenseLaFilePath(newUserPrefs.getExpenseLaFilePath());
+        setExpenseLaFileFormat(newUserPrefs.getExpenseLaFileFormat());
         setGlobalDataFilePath(newUserPrefs.getGlobalDataFilePath());
     }
 
@@ -59,6 +61,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.expenseLaFilePath = expenseLaFilePath;
     }
 
+    public DataFileFormat getExpenseLaFileFormat() {
+        return expenseLaFileFormat;
+    }
+
+    public void setExpenseLaFileFormat(DataFileFormat expenseLaFileFormat) {
+        requireNonNull(expenseLaFileFormat);
+        this.expenseLaFileFormat = expenseLaFileFormat;
+    }
+
     public Path getGlobalDataFilePath() {
         return globalDataFilePath;
     }
@@ -80,12 +91,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && expenseLaFilePath.equals(o.expenseLaFilePath);
+                && expenseLaFilePath.equals(o.expenseLaFilePath)
+                && expenseLaFileFormat == o.expenseLaFileFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, expenseLaFilePath);
+        return Objects.hash(guiSettings, expenseLaFilePath, expenseLaFileFormat);
     }
 
     @Override
@@ -93,6 +105,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + expenseLaFilePath);
+        sb.append("\nLocal data file format : " + expenseLaFileFormat);
         return sb.toString();
     }
 
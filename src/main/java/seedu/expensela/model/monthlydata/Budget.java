@@ -3,7 +3,7 @@ package seedu.expensela.model.monthlydata;
 import static java.util.Objects.requireNonNull;
 import static seedu.expensela.commons.util.AppUtil.checkArgument;
 
-import java.text.DecimalFormat;
+import seedu.expensela.commons.util.MoneyUtil;
 
 /**
  * Monthly budget data set by user
@@ -12,9 +12,9 @@ public class Budget {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Budget should only contain positive numbers with 2 decimal places";
-    public static final String VALIDATION_REGEX = "^?\\d+\\.?\\d{0,2}$";
-    public static final DecimalFormat DECIMAL_FORMATTER = new DecimalFormat("#,##0.00");
-    public final Double budgetAmount;
+    public static final String VALIDATION_REGEX =
+            "^?\\d{1," + MoneyUtil.MAX_DOLLAR_DIGITS + "}(\\.\\d{0,2})?$";
+    public final long budgetCents;
 
     /**
      * Constructs a {@code Budget}.
@@ -24,7 +24,17 @@ public class Budget {
     public Budget(String value) {
         requireNonNull(value);
         checkArgument(isValidAmount(value), MESSAGE_CONSTRAINTS);
-        budgetAmount = Double.parseDouble(value);
+        budgetCents = MoneyUtil.parseCents(value);
+    }
+
+    /**
+     * Constructs a {@code Budget} of {@code cents}.
+     *
+     * @param cents A non-negative number of cents.
+     */
+    public Budget(long cents) {
+        checkArgument(cents >= 0, MESSAGE_CONSTRAINTS);
+        budgetCents = cents;
     }
 
     /**
@@ -37,7 +47,7 @@ public class Budget {
     @Override
     public String toString() {
         String printedAmount = "$";
-        printedAmount += DECIMAL_FORMATTER.format(budgetAmount);
+        printedAmount += MoneyUtil.format(budgetCents);
         return printedAmount;
     }
 
@@ -45,12 +55,12 @@ public class Budget {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Budget // instanceof handles nulls
-                && budgetAmount.equals(((Budget) other).budgetAmount)); // state check
+                && budgetCents == ((Budget) other).budgetCents); // state check
     }
 
     @Override
     public int hashCode() {
-        return (budgetAmount).hashCode();
+        return Long.hashCode(budgetCents);
     }
 
 }
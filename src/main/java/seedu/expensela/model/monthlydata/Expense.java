@@ -3,7 +3,7 @@ package seedu.expensela.model.monthlydata;
 import static java.util.Objects.requireNonNull;
 import static seedu.expensela.commons.util.AppUtil.checkArgument;
 
-import java.text.DecimalFormat;
+import seedu.expensela.commons.util.MoneyUtil;
 
 /**
  * Monthly expense data to be displayed in monthly data panel
@@ -12,9 +12,9 @@ public class Expense {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Expense should only contain positive numbers with 2 decimal places";
-    public static final String VALIDATION_REGEX = "^?\\d+\\.?\\d{0,2}$";
-    public static final DecimalFormat DECIMAL_FORMATTER = new DecimalFormat("#,##0.00");
-    public final Double expenseAmount;
+    public static final String VALIDATION_REGEX =
+            "^?\\d{1," + MoneyUtil.MAX_DOLLAR_DIGITS + "}(\\.\\d{0,2})?$";
+    public final long expenseCents;
 
     /**
      * Constructs a {@code Expense}.
@@ -24,7 +24,17 @@ public class Expense {
     public Expense(String value) {
         requireNonNull(value);
         checkArgument(isValidAmount(value), MESSAGE_CONSTRAINTS);
-        expenseAmount = Double.parseDouble(value);
+        expenseCents = MoneyUtil.parseCents(value);
+    }
+
+    /**
+     * Constructs a {@code Expense} of {@code cents}.
+     *
+     * @param cents A non-negative number of cents.
+     */
+    public Expense(long cents) {
+        checkArgument(cents >= 0, MESSAGE_CONSTRAINTS);
+        expenseCents = cents;
     }
 
     /**
@@ -37,7 +47,7 @@ public class Expense {
     @Override
     public String toString() {
         String printedAmount = "$";
-        printedAmount += DECIMAL_FORMATTER.format(expenseAmount);
+        printedAmount += MoneyUtil.format(expenseCents);
         return printedAmount;
     }
 
@@ -45,12 +55,12 @@ public class Expense {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Expense // instanceof handles nulls
-                && expenseAmount.equals(((Expense) other).expenseAmount)); // state check
+                && expenseCents == ((Expense) other).expenseCents); // state check
     }
 
     @Override
     public int hashCode() {
-        return (expenseAmount).hashCode();
+        return Long.hashCode(expenseCents);
     }
 
 }
@@ -3,7 +3,7 @@ package seedu.expensela.model.monthlydata;
 import static java.util.Objects.requireNonNull;
 import static seedu.expensela.commons.util.AppUtil.checkArgument;
 
-import java.text.DecimalFormat;
+import seedu.expensela.commons.util.MoneyUtil;
 
 /**
  * Monthly income data set by user
@@ -12,9 +12,9 @@ public class Income {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Income should only contain positive numbers with 2 decimal places";
-    public static final String VALIDATION_REGEX = "^?\\d+\\.?\\d{0,2}$";
-    public static final DecimalFormat DECIMAL_FORMATTER = new DecimalFormat("#,##0.00");
-    public final Double incomeAmount;
+    public static final String VALIDATION_REGEX =
+            "^?\\d{1," + MoneyUtil.MAX_DOLLAR_DIGITS + "}(\\.\\d{0,2})?$";
+    public final long incomeCents;
 
     /**
      * Constructs a {@code Income}.
@@ -24,7 +24,17 @@ public class Income {
     public Income(String value) {
         requireNonNull(value);
         checkArgument(isValidAmount(value), MESSAGE_CONSTRAINTS);
-        incomeAmount = Double.parseDouble(value);
+        incomeCents = MoneyUtil.parseCents(value);
+    }
+
+    /**
+     * Constructs a {@code Income} of {@code cents}.
+     *
+     * @param cents A non-negative number of cents.
+     */
+    public Income(long cents) {
+        checkArgument(cents >= 0, MESSAGE_CONSTRAINTS);
+        incomeCents = cents;
     }
 
     /**
@@ -37,7 +47,7 @@ public class Income {
     @Override
     public String toString() {
         String printedAmount = "$";
-        printedAmount += DECIMAL_FORMATTER.format(incomeAmount);
+        printedAmount += MoneyUtil.format(incomeCents);
         return printedAmount;
     }
 
@@ -45,12 +55,12 @@ public class Income {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Income // instanceof handles nulls
-                && incomeAmount.equals(((Income) other).incomeAmount)); // state check
+                && incomeCents == ((Income) other).incomeCents); // state check
     }
 
     @Override
     public int hashCode() {
-        return (incomeAmount).hashCode();
+        return Long.hashCode(incomeCents);
     }
 
 }
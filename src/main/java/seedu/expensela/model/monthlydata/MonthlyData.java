@@ -24,6 +24,13 @@ public class MonthlyData {
         this.income = income;
     }
 
+    /**
+     * Creates a copy of {@code toBeCopied} that does not change when it does.
+     */
+    public MonthlyData(MonthlyData toBeCopied) {
+        this(toBeCopied.id, toBeCopied.budget, toBeCopied.expense, toBeCopied.income);
+    }
+
     public String getId() {
         return id;
     }
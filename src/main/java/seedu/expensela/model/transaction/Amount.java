@@ -3,7 +3,9 @@ package seedu.expensela.model.transaction;
 import static java.util.Objects.requireNonNull;
 import static seedu.expensela.commons.util.AppUtil.checkArgument;
 
-import java.text.DecimalFormat;
+import java.util.regex.Pattern;
+
+import seedu.expensela.commons.util.MoneyUtil;
 
 /**
  * Represents a Transaction's cost/gain in the expensela.
@@ -18,9 +20,11 @@ public class Amount {
             "Transaction amount cannot be 1 million dollars or more!";
     public static final String MESSAGE_CONSTRAINTS_TOOSMALL =
             "Transaction amount cannot be less than 0!";
-    public static final String VALIDATION_REGEX = "^^?\\d+\\.?\\d{0,2}$";
-    public static final DecimalFormat DECIMAL_FORMATTER = new DecimalFormat("#,##0.00");
-    public final Double transactionAmount;
+    public static final String VALIDATION_REGEX =
+            "^^?\\d{1," + MoneyUtil.MAX_DOLLAR_DIGITS + "}(\\.\\d{0,2})?$";
+
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    public final long transactionCents;
     public final boolean positive;
 
     /**
@@ -31,7 +35,18 @@ public class Amount {
     public Amount(String value, boolean positive) {
         requireNonNull(value);
         checkArgument(isValidAmount(value), MESSAGE_CONSTRAINTS);
-        this.transactionAmount = Double.parseDouble(value);
+        this.transactionCents = MoneyUtil.parseCents(value);
+        this.positive = positive;
+    }
+
+    /**
+     * Constructs a {@code Amount} of {@code cents}.
+     *
+     * @param cents A non-negative number of cents.
+     */
+    public Amount(long cents, boolean positive) {
+        checkArgument(cents >= 0, MESSAGE_CONSTRAINTS);
+        this.transactionCents = cents;
         this.positive = positive;
     }
 
@@ -39,7 +54,7 @@ public class Amount {
      * Returns true if a given string is a valid transaction transactionAmount.
      */
     public static boolean isValidAmount(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -50,7 +65,7 @@ public class Amount {
         } else {
             printedAmount = "- $";
         }
-        printedAmount += DECIMAL_FORMATTER.format(transactionAmount);
+        printedAmount += MoneyUtil.format(transactionCents);
         return printedAmount;
     }
 
@@ -58,12 +73,12 @@ public class Amount {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Amount // instanceof handles nulls
-                && transactionAmount.equals(((Amount) other).transactionAmount)); //state check
+                && transactionCents == ((Amount) other).transactionCents); //state check
     }
 
     @Override
     public int hashCode() {
-        return transactionAmount.hashCode();
+        return Long.hashCode(transactionCents);
     }
 
 
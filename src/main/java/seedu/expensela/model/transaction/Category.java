@@ -3,8 +3,11 @@ package seedu.expensela.model.transaction;
 import static java.util.Objects.requireNonNull;
 import static seedu.expensela.commons.util.AppUtil.checkArgument;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
- * Represents a Transaction's category.
+ * Represents a Transaction's category, backed by one of the {@code CategoryEnum} constants.
  * Guarantees: immutable; is valid as declared in {@link #isValidCategory(String)}
  */
 public class Category {
@@ -25,6 +28,15 @@ public class Category {
      * otherwise " " (a blank string) becomes a valid input.
      */
 
+    private static final Map<CategoryEnum, Category> CATEGORIES = new EnumMap<>(CategoryEnum.class);
+
+    static {
+        for (CategoryEnum c : CategoryEnum.values()) {
+            CATEGORIES.put(c, new Category(c));
+        }
+    }
+
+    public final CategoryEnum categoryEnum;
     public final String transactionCategory;
 
     /**
@@ -33,21 +45,58 @@ public class Category {
      * @param category A valid category.
      */
     public Category(String category) {
+        this(toCategoryEnum(category));
+    }
+
+    private Category(CategoryEnum category) {
+        categoryEnum = category;
+        transactionCategory = category.name();
+    }
+
+    /**
+     * Returns the shared {@code Category} of {@code category}.
+     *
+     * @param category A valid category.
+     */
+    public static Category of(String category) {
+        return of(toCategoryEnum(category));
+    }
+
+    /**
+     * Returns the shared {@code Category} of {@code category}.
+     */
+    public static Category of(CategoryEnum category) {
         requireNonNull(category);
-        checkArgument(isValidCategory(category), MESSAGE_CONSTRAINTS);
-        transactionCategory = category.toUpperCase();
+        return CATEGORIES.get(category);
     }
 
     /**
      * Returns true if a given string is a valid category.
      */
     public static boolean isValidCategory(String test) {
+        return findCategoryEnum(test) != null;
+    }
+
+    /**
+     * Returns the {@code CategoryEnum} named by {@code category}, ignoring case.
+     */
+    private static CategoryEnum toCategoryEnum(String category) {
+        requireNonNull(category);
+        CategoryEnum found = findCategoryEnum(category);
+        checkArgument(found != null, MESSAGE_CONSTRAINTS);
+        return found;
+    }
+
+    /**
+     * Returns the {@code CategoryEnum} named by {@code test} ignoring case, or null if there is none.
+     */
+    private static CategoryEnum findCategoryEnum(String test) {
         for (CategoryEnum c : CategoryEnum.values()) {
             if (c.name().equalsIgnoreCase(test)) {
-                return true;
+                return c;
             }
         }
-        return false;
+        return null;
     }
 
 
@@ -60,7 +109,7 @@ public class Category {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Category // instanceof handles nulls
-                && transactionCategory.equals(((Category) other).transactionCategory)); // state check
+                && categoryEnum == ((Category) other).categoryEnum); // state check
     }
 
     @Override
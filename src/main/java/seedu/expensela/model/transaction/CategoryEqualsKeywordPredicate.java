@@ -24,6 +24,10 @@ public class CategoryEqualsKeywordPredicate implements Predicate<Transaction> {
                 .anyMatch(keyword -> StringUtil.equals(transaction.getCategory().transactionCategory, keyword));
     }
 
+    public List<String> getKeywords() {
+        return keyword;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.expensela.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.regex.Pattern;
 /**
  * Represents a Transaction's date in the expensela.
  * Guarantees: immutable; is valid as declared in {@link #isValidDate(String)}
@@ -19,6 +21,8 @@ public class Date {
      */
     public static final String VALIDATION_REGEX = "[\\d]{4}-[\\d]{2}-[\\d]{2}";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final LocalDate transactionDate;
 
     /**
@@ -28,15 +32,45 @@ public class Date {
      */
     public Date(String date) {
         requireNonNull(date);
-        checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
-        transactionDate = LocalDate.parse(date);
+        LocalDate parsedDate = toLocalDate(date);
+        checkArgument(parsedDate != null, MESSAGE_CONSTRAINTS);
+        transactionDate = parsedDate;
+    }
+
+    private Date(LocalDate date) {
+        transactionDate = date;
+    }
+
+    /**
+     * Returns a {@code Date} on {@code date}.
+     */
+    public static Date of(LocalDate date) {
+        requireNonNull(date);
+        return new Date(date);
     }
 
     /**
-     * Returns true if a given string is a valid date.
+     * Returns true if a given string is a valid date that exists in the calendar.
      */
     public static boolean isValidDate(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return toLocalDate(test) != null;
+    }
+
+    /**
+     * Returns the date {@code date} is written as, or null if it is not a valid date.
+     * This reads the digits directly, which is much faster than {@code LocalDate#parse} when loading many dates.
+     */
+    private static LocalDate toLocalDate(String date) {
+        if (!VALIDATION_PATTERN.matcher(date).matches()) {
+            return null;
+        }
+        int year = Integer.parseInt(date.substring(0, 4));
+        int month = Integer.parseInt(date.substring(5, 7));
+        int day = Integer.parseInt(date.substring(8, 10));
+        if (month < 1 || month > 12 || day < 1 || day > YearMonth.of(year, month).lengthOfMonth()) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
     }
 
     @Override
@@ -1,5 +1,6 @@
 package seedu.expensela.model.transaction;
 
+import java.time.YearMonth;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -24,13 +25,16 @@ public class DateEqualsKeywordPredicate implements Predicate<Transaction> {
 
     @Override
     public boolean test(Transaction transaction) {
-        String transactionDateString = transaction.getDate().transactionDate.toString();
         if (keyword.get(0).equals("ALL")) {
             return true;
         }
+        String transactionMonth = YearMonth.from(transaction.getDate().transactionDate).toString();
         return keyword.stream()
-                .anyMatch(keyword -> StringUtil.equals(transactionDateString.split("-")[0] + "-"
-                        + transactionDateString.split("-")[1], keyword));
+                .anyMatch(keyword -> StringUtil.equals(transactionMonth, keyword));
+    }
+
+    public List<String> getKeywords() {
+        return keyword;
     }
 
     @Override
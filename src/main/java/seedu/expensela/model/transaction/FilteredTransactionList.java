@@ -0,0 +1,227 @@
+package seedu.expensela.model.transaction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of the transactions in a source list that a predicate accepts, in the order of the source list.
+ *
+ * Works like {@code FilteredList}, except that a predicate can be set together with the rows of the source list that
+ * it may accept, such as those found by {@link TransactionList#findCandidateRows(TransactionMatcher)}. Only those
+ * rows are then tested, so setting the predicate costs time in proportion to the candidates rather than to the whole
+ * source list. Rows added to or changed in the source list afterwards are tested as they come in.
+ */
+public class FilteredTransactionList extends TransformationList<Transaction, Transaction> {
+
+    private static final Predicate<Transaction> ALWAYS_TRUE = unused -> true;
+
+    private Predicate<? super Transaction> predicate = ALWAYS_TRUE;
+    /** Indexes in the source list of the rows shown, in ascending order. Only the first {@code size} are used. */
+    private int[] rows = new int[0];
+    private int size;
+
+    /**
+     * Creates a view of {@code source} that shows every transaction in it.
+     */
+    public FilteredTransactionList(ObservableList<Transaction> source) {
+        super(source);
+        setPredicate(ALWAYS_TRUE);
+    }
+
+    public Predicate<? super Transaction> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows the transactions in the source list that {@code predicate} accepts, testing every one of them.
+     * A null predicate accepts every transaction.
+     */
+    public void setPredicate(Predicate<? super Transaction> predicate) {
+        setPredicate(predicate, null);
+    }
+
+    /**
+     * Shows the transactions in the source list that {@code predicate} accepts, testing only those at
+     * {@code candidateRows}.
+     *
+     * @param candidateRows the indexes in the source list, in ascending order, of every transaction that
+     *     {@code predicate} may accept, or null to test every transaction.
+     */
+    public void setPredicate(Predicate<? super Transaction> predicate, int[] candidateRows) {
+        this.predicate = predicate == null ? ALWAYS_TRUE : predicate;
+        ObservableList<? extends Transaction> source = getSource();
+        int[] newRows = new int[candidateRows == null ? source.size() : candidateRows.length];
+        int newSize = 0;
+        for (int i = 0; i < newRows.length; i++) {
+            int row = candidateRows == null ? i : candidateRows[i];
+            if (this.predicate.test(source.get(row))) {
+                newRows[newSize++] = row;
+            }
+        }
+
+        beginChange();
+        try {
+            List<Transaction> removed = new ArrayList<>(subList(0, size));
+            rows = newRows;
+            size = newSize;
+            if (!removed.isEmpty()) {
+                nextRemove(0, removed);
+            }
+            if (size > 0) {
+                nextAdd(0, size);
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public Transaction get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " of " + size);
+        }
+        return rows[index];
+    }
+
+    @Override
+    public int getViewIndex(int sourceIndex) {
+        int index = Arrays.binarySearch(rows, 0, size, sourceIndex);
+        return index < 0 ? -1 : index;
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends Transaction> change) {
+        beginChange();
+        try {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    permute(change);
+                } else if (change.wasUpdated()) {
+                    update(change);
+                } else {
+                    replace(change);
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Applies a change that removed rows from the source list, added rows to it, or both, at the same index.
+     */
+    private void replace(Change<? extends Transaction> change) {
+        int from = change.getFrom();
+        int removedSize = change.getRemovedSize();
+        int addedSize = change.getAddedSize();
+        int start = firstViewIndexAtOrAfter(from);
+        int end = firstViewIndexAtOrAfter(from + removedSize);
+
+        List<Transaction> removed = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            removed.add(change.getRemoved().get(rows[i] - from));
+        }
+        int[] added = new int[addedSize];
+        int addedCount = 0;
+        for (int row = from; row < from + addedSize; row++) {
+            if (predicate.test(getSource().get(row))) {
+                added[addedCount++] = row;
+            }
+        }
+
+        int newSize = size - (end - start) + addedCount;
+        int[] newRows = newSize > rows.length ? Arrays.copyOf(rows, Math.max(newSize, rows.length * 2)) : rows;
+        System.arraycopy(rows, end, newRows, start + addedCount, size - end);
+        System.arraycopy(added, 0, newRows, start, addedCount);
+        for (int i = start + addedCount; i < newSize; i++) {
+            newRows[i] += addedSize - removedSize;
+        }
+        rows = newRows;
+        size = newSize;
+
+        if (!removed.isEmpty()) {
+            nextRemove(start, removed);
+        }
+        if (addedCount > 0) {
+            nextAdd(start, start + addedCount);
+        }
+    }
+
+    /**
+     * Tests again the rows of the source list that were updated in place, showing or hiding them as needed.
+     */
+    private void update(Change<? extends Transaction> change) {
+        for (int row = change.getFrom(); row < change.getTo(); row++) {
+            Transaction transaction = getSource().get(row);
+            int index = firstViewIndexAtOrAfter(row);
+            boolean isShown = index < size && rows[index] == row;
+            boolean isAccepted = predicate.test(transaction);
+            if (isShown && isAccepted) {
+                nextUpdate(index);
+            } else if (isShown) {
+                System.arraycopy(rows, index + 1, rows, index, size - index - 1);
+                size--;
+                nextRemove(index, transaction);
+            } else if (isAccepted) {
+                if (size == rows.length) {
+                    rows = Arrays.copyOf(rows, Math.max(1, size * 2));
+                }
+                System.arraycopy(rows, index, rows, index + 1, size - index);
+                rows[index] = row;
+                size++;
+                nextAdd(index, index + 1);
+            }
+        }
+    }
+
+    /**
+     * Follows rows of the source list that were reordered. This is reported as the whole view being replaced.
+     */
+    private void permute(Change<? extends Transaction> change) {
+        List<Transaction> removed = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (rows[i] >= change.getFrom() && rows[i] < change.getTo()) {
+                rows[i] = change.getPermutation(rows[i]);
+            }
+            removed.add(getSource().get(rows[i]));
+        }
+        Arrays.sort(rows, 0, size);
+        if (size > 0) {
+            nextRemove(0, removed);
+            nextAdd(0, size);
+        }
+    }
+
+    /**
+     * Returns the index in this view of the first row shown at or after {@code sourceIndex} in the source list.
+     */
+    private int firstViewIndexAtOrAfter(int sourceIndex) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (rows[mid] < sourceIndex) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -3,6 +3,10 @@ package seedu.expensela.model.transaction;
 import static java.util.Objects.requireNonNull;
 import static seedu.expensela.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.expensela.commons.util.Interner;
+
 /**
  * Represents a Transaction's name.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,8 +23,15 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}]{1}.*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private static final Interner<Name> INTERNER = new Interner<>();
+
     public final String transactionName;
 
+    /** The whitespace-separated words of the name, split on first use. Must not be modified. */
+    private volatile String[] words;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -32,11 +43,33 @@ public class Name {
         transactionName = name;
     }
 
+    /**
+     * Returns a {@code Name} of {@code name}, shared with every other transaction that has the same name.
+     *
+     * @param name A valid name.
+     */
+    public static Name of(String name) {
+        return INTERNER.intern(new Name(name));
+    }
+
+    /**
+     * Returns the whitespace-separated words of this name. Names are shared between transactions,
+     * so the words are only split once per distinct name. The returned array must not be modified.
+     */
+    String[] getWords() {
+        String[] result = words;
+        if (result == null) {
+            result = transactionName.split("\\s+");
+            words = result;
+        }
+        return result;
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
@@ -21,6 +21,10 @@ public class NameContainsKeywordsPredicate implements Predicate<Transaction> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(transaction.getName().transactionName, keyword));
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -1,5 +1,9 @@
 package seedu.expensela.model.transaction;
 
+import java.util.regex.Pattern;
+
+import seedu.expensela.commons.util.Interner;
+
 /**
  * Represents a Transaction's remark which is optional.
  * Guarantees: immutable.
@@ -15,17 +19,28 @@ public class Remark {
         VALIDATION_REGEX = ".*";
     }
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private static final Interner<Remark> INTERNER = new Interner<>();
+
     public final String transactionRemark;
 
     public Remark(String remark) {
         transactionRemark = remark;
     }
 
+    /**
+     * Returns a {@code Remark} of {@code remark}, shared with every other transaction that has the same remark.
+     */
+    public static Remark of(String remark) {
+        return INTERNER.intern(new Remark(remark));
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidRemark(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
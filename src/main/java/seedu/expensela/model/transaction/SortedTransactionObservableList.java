@@ -0,0 +1,245 @@
+package seedu.expensela.model.transaction;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An observable list of transactions kept in {@code Transaction#compareTo(Transaction)} order.
+ * Positions are found by binary search and every mutation is reported to listeners as a single change,
+ * so observers such as {@code FilteredList} only ever see the rows that were actually touched.
+ *
+ * The list cannot be modified through the {@code List} interface; use the methods below instead.
+ * A {@link TransactionColumns} copy of the list is kept in step with it and is up to date by the time
+ * listeners are notified.
+ */
+class SortedTransactionObservableList extends ObservableListBase<Transaction> {
+
+    private final ArrayList<Transaction> elements = new ArrayList<>();
+    private final TransactionColumns columns = new TransactionColumns();
+
+    @Override
+    public Transaction get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    TransactionColumns getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns the index at which {@code toInsert} should be inserted to keep the list sorted.
+     * Transactions that compare equal to {@code toInsert} stay in front of it, which matches a stable sort.
+     */
+    int insertionIndexOf(Transaction toInsert) {
+        int low = 0;
+        int high = elements.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (elements.get(mid).compareTo(toInsert) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the transaction that {@code equals} {@code toFind}, or -1 if there is none.
+     * Only the run of transactions comparing equal to {@code toFind} is scanned.
+     */
+    int indexOf(Transaction toFind) {
+        int index = insertionIndexOf(toFind) - 1;
+        while (index >= 0 && elements.get(index).compareTo(toFind) == 0) {
+            if (elements.get(index).equals(toFind)) {
+                return index;
+            }
+            index--;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first transaction dated on or before the epoch day {@code day}. Transactions are
+     * sorted latest first, so every transaction from that index on is dated on or before it.
+     */
+    int firstIndexDatedOnOrBefore(long day) {
+        int low = 0;
+        int high = elements.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (columns.getEpochDay(mid) > day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Calls {@code action} with the index of each of the {@code copies} transactions that {@code equals}
+     * {@code toFind}. Only transactions dated the same day as {@code toFind} are scanned, until all copies are found.
+     */
+    void forEachIndexOf(Transaction toFind, int copies, IntConsumer action) {
+        long day = toFind.getDate().transactionDate.toEpochDay();
+        int found = 0;
+        for (int index = firstIndexDatedOnOrBefore(day);
+                found < copies && index < elements.size() && columns.getEpochDay(index) == day; index++) {
+            if (elements.get(index).equals(toFind)) {
+                action.accept(index);
+                found++;
+            }
+        }
+    }
+
+    /**
+     * Inserts {@code toAdd} at its sorted position.
+     */
+    void insert(Transaction toAdd) {
+        int index = insertionIndexOf(toAdd);
+        beginChange();
+        try {
+            elements.add(index, toAdd);
+            columns.insert(index, toAdd);
+            nextAdd(index, index + 1);
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Removes the transaction at {@code index}.
+     */
+    void removeAt(int index) {
+        beginChange();
+        try {
+            columns.remove(index);
+            nextRemove(index, elements.remove(index));
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Replaces the transaction at {@code index} with {@code replacement}, moving it if its sort position changed.
+     * A move is reported as one change containing the removal and the insertion.
+     */
+    void replace(int index, Transaction replacement) {
+        Transaction old = elements.get(index);
+        boolean fitsBefore = index == 0 || elements.get(index - 1).compareTo(replacement) <= 0;
+        boolean fitsAfter = index == elements.size() - 1 || elements.get(index + 1).compareTo(replacement) >= 0;
+
+        beginChange();
+        try {
+            if (fitsBefore && fitsAfter) {
+                elements.set(index, replacement);
+                columns.set(index, replacement);
+                nextSet(index, old);
+            } else {
+                elements.remove(index);
+                columns.remove(index);
+                nextRemove(index, old);
+                int newIndex = insertionIndexOf(replacement);
+                elements.add(newIndex, replacement);
+                columns.insert(newIndex, replacement);
+                nextAdd(newIndex, newIndex + 1);
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Merges {@code sortedTransactions}, which must already be sorted, into this list in a single pass.
+     * Each new transaction ends up after any existing transactions that compare equal to it, as with
+     * {@link #insert(Transaction)}, and all insertions are reported to listeners as one change.
+     */
+    void insertAll(List<Transaction> sortedTransactions) {
+        if (sortedTransactions.isEmpty()) {
+            return;
+        }
+        List<Transaction> existing = new ArrayList<>(elements);
+        elements.clear();
+        elements.ensureCapacity(existing.size() + sortedTransactions.size());
+
+        beginChange();
+        try {
+            int i = 0;
+            int j = 0;
+            while (i < existing.size() || j < sortedTransactions.size()) {
+                if (j == sortedTransactions.size()
+                        || (i < existing.size() && existing.get(i).compareTo(sortedTransactions.get(j)) <= 0)) {
+                    elements.add(existing.get(i++));
+                } else {
+                    elements.add(sortedTransactions.get(j++));
+                    nextAdd(elements.size() - 1, elements.size());
+                }
+            }
+            columns.setAll(elements);
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Removes the transactions at {@code sortedIndexes}, which must be distinct and in ascending order.
+     * All removals are reported to listeners as one change.
+     */
+    void removeAll(int[] sortedIndexes) {
+        if (sortedIndexes.length == 0) {
+            return;
+        }
+        List<Transaction> existing = new ArrayList<>(elements);
+        elements.clear();
+
+        beginChange();
+        try {
+            int next = 0;
+            for (int i = 0; i < existing.size(); i++) {
+                if (next < sortedIndexes.length && sortedIndexes[next] == i) {
+                    next++;
+                } else {
+                    elements.add(existing.get(i));
+                }
+            }
+            columns.setAll(elements);
+            // Reported from the back so that every index is still valid when its removal is applied.
+            for (int k = sortedIndexes.length - 1; k >= 0; k--) {
+                nextRemove(sortedIndexes[k], existing.get(sortedIndexes[k]));
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Replaces the whole contents of this list with {@code sortedTransactions}, which must already be sorted.
+     */
+    void replaceAll(Collection<Transaction> sortedTransactions) {
+        beginChange();
+        try {
+            List<Transaction> removed = new ArrayList<>(elements);
+            elements.clear();
+            elements.addAll(sortedTransactions);
+            columns.setAll(elements);
+            if (!removed.isEmpty()) {
+                nextRemove(0, removed);
+            }
+            if (!elements.isEmpty()) {
+                nextAdd(0, elements.size());
+            }
+        } finally {
+            endChange();
+        }
+    }
+}
@@ -15,6 +15,8 @@ public class Transaction implements Comparable<Transaction> {
     private final Date date;
     private final Remark remark;
     private final Category category;
+    /** Cached, as transactions are hashed on every identity check and the fields never change. */
+    private final int hash;
     private boolean isRecurringTransaction = false;
 
     /**
@@ -27,6 +29,7 @@ public class Transaction implements Comparable<Transaction> {
         this.date = date;
         this.remark = remark;
         this.category = category;
+        this.hash = Objects.hash(name, amount, date, remark, category);
     }
 
     public Name getName() {
@@ -98,8 +101,7 @@ public class Transaction implements Comparable<Transaction> {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, amount, date, remark, category);
+        return hash;
     }
 
     @Override
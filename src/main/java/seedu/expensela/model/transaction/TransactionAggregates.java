@@ -0,0 +1,138 @@
+package seedu.expensela.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Running income and expense totals, in cents, of the transactions in a {@code TransactionList}, kept per month
+ * and category.
+ * A transaction with a positive amount counts as income and any other transaction counts as expense,
+ * regardless of its category. Every add or remove updates a single cell, so reading a total never
+ * iterates over transactions.
+ */
+public class TransactionAggregates {
+
+    private static final int CATEGORY_COUNT = CategoryEnum.values().length;
+
+    private final Map<YearMonth, Cell[]> cells = new HashMap<>();
+
+    /**
+     * Income and expense totals of one month and category.
+     */
+    private static class Cell {
+        private long income;
+        private long expense;
+        private int incomeCount;
+        private int expenseCount;
+    }
+
+    /**
+     * Adds the amount of {@code transaction} to the cell of its month and category.
+     */
+    void add(Transaction transaction) {
+        Cell cell = cellOf(transaction);
+        long amount = transaction.getAmount().transactionCents;
+        if (transaction.getAmount().positive) {
+            cell.income += amount;
+            cell.incomeCount++;
+        } else {
+            cell.expense += amount;
+            cell.expenseCount++;
+        }
+    }
+
+    /**
+     * Subtracts the amount of {@code transaction} from the cell of its month and category.
+     */
+    void remove(Transaction transaction) {
+        Cell cell = cellOf(transaction);
+        long amount = transaction.getAmount().transactionCents;
+        if (transaction.getAmount().positive) {
+            cell.income -= amount;
+            cell.incomeCount--;
+        } else {
+            cell.expense -= amount;
+            cell.expenseCount--;
+        }
+    }
+
+    void clear() {
+        cells.clear();
+    }
+
+    /**
+     * Returns the months that have ever held a transaction.
+     */
+    public Set<YearMonth> getMonths() {
+        return Collections.unmodifiableSet(cells.keySet());
+    }
+
+    public long getIncomeCents(YearMonth month, CategoryEnum category) {
+        Cell cell = find(month, category);
+        return cell == null ? 0 : cell.income;
+    }
+
+    /**
+     * Returns the total income of {@code month} across all categories.
+     */
+    public long getIncomeCents(YearMonth month) {
+        long total = 0;
+        for (CategoryEnum category : CategoryEnum.values()) {
+            total += getIncomeCents(month, category);
+        }
+        return total;
+    }
+
+    public long getExpenseCents(YearMonth month, CategoryEnum category) {
+        Cell cell = find(month, category);
+        return cell == null ? 0 : cell.expense;
+    }
+
+    /**
+     * Returns the total expense of {@code month} across all categories.
+     */
+    public long getExpenseCents(YearMonth month) {
+        long total = 0;
+        for (CategoryEnum category : CategoryEnum.values()) {
+            total += getExpenseCents(month, category);
+        }
+        return total;
+    }
+
+    public int getIncomeCount(YearMonth month, CategoryEnum category) {
+        Cell cell = find(month, category);
+        return cell == null ? 0 : cell.incomeCount;
+    }
+
+    public int getExpenseCount(YearMonth month, CategoryEnum category) {
+        Cell cell = find(month, category);
+        return cell == null ? 0 : cell.expenseCount;
+    }
+
+    /**
+     * Returns the cell of {@code month} and {@code category}, or null if it has never held a transaction.
+     */
+    private Cell find(YearMonth month, CategoryEnum category) {
+        requireNonNull(month);
+        requireNonNull(category);
+        Cell[] row = cells.get(month);
+        return row == null ? null : row[category.ordinal()];
+    }
+
+    /**
+     * Returns the cell of the month and category of {@code transaction}, creating it if needed.
+     */
+    private Cell cellOf(Transaction transaction) {
+        Cell[] row = cells.computeIfAbsent(TransactionIndex.monthOf(transaction), unused -> new Cell[CATEGORY_COUNT]);
+        int column = TransactionIndex.categoryOf(transaction).ordinal();
+        if (row[column] == null) {
+            row[column] = new Cell();
+        }
+        return row[column];
+    }
+}
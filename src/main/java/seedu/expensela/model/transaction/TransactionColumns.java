@@ -0,0 +1,254 @@
+package seedu.expensela.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The fields that analytics read from each transaction of a {@code TransactionList}, stored column by column in
+ * primitive arrays. Row {@code i} describes the transaction at index {@code i} of the list, so the source indexes
+ * of a filtered view of the list can be used as rows.
+ *
+ * Scans only touch the columns they need and never dereference a {@code Transaction}, which keeps them to tight
+ * loops over contiguous memory. A row counts as expenditure if its amount is not positive and it is not in the
+ * {@code INCOME} category, matching what the charts have always shown.
+ */
+public class TransactionColumns {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int INCOME_CATEGORY = CategoryEnum.INCOME.ordinal();
+
+    private int size;
+    private int[] epochDay = new int[INITIAL_CAPACITY];
+    private long[] cents = new long[INITIAL_CAPACITY];
+    private byte[] category = new byte[INITIAL_CAPACITY];
+    private boolean[] positive = new boolean[INITIAL_CAPACITY];
+    private int[] nameId = new int[INITIAL_CAPACITY];
+
+    private final Map<String, Integer> nameIds = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+
+    public int size() {
+        return size;
+    }
+
+    public int getEpochDay(int row) {
+        checkRow(row);
+        return epochDay[row];
+    }
+
+    public long getCents(int row) {
+        checkRow(row);
+        return cents[row];
+    }
+
+    public CategoryEnum getCategory(int row) {
+        checkRow(row);
+        return CategoryEnum.values()[category[row]];
+    }
+
+    /**
+     * Returns true if the amount in {@code row} is income rather than expenditure.
+     */
+    public boolean isPositive(int row) {
+        checkRow(row);
+        return positive[row];
+    }
+
+    public int getNameId(int row) {
+        checkRow(row);
+        return nameId[row];
+    }
+
+    /**
+     * Returns the transaction name that {@code id} stands for.
+     */
+    public String getName(int id) {
+        return names.get(id);
+    }
+
+    /**
+     * Returns the expenditure in {@code rows}, in cents, indexed by {@code CategoryEnum#ordinal()}.
+     */
+    public long[] sumExpenseByCategory(int[] rows) {
+        long[] totals = new long[CategoryEnum.values().length];
+        for (int row : rows) {
+            if (isExpense(row)) {
+                totals[category[row]] += cents[row];
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Returns the number of expenditure rows in {@code rows}, indexed by {@code CategoryEnum#ordinal()}.
+     */
+    public int[] countExpenseByCategory(int[] rows) {
+        int[] counts = new int[CategoryEnum.values().length];
+        for (int row : rows) {
+            if (isExpense(row)) {
+                counts[category[row]]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the expenditure in {@code rows}, in cents, indexed by week of the month and then by day of the week.
+     * Week 0 holds days 1 to 7 of the month, and so on; day 0 is Monday.
+     */
+    public long[][] sumExpenseByWeekAndDay(int[] rows) {
+        long[][] totals = new long[5][7];
+        MonthCursor cursor = new MonthCursor();
+        for (int row : rows) {
+            if (!isExpense(row)) {
+                continue;
+            }
+            int day = epochDay[row];
+            cursor.moveTo(day);
+            int dayOfMonth = day - cursor.monthStart + 1;
+            // 1970-01-01 was a Thursday, which is day 3 counting from Monday.
+            int dayOfWeek = Math.floorMod(day + 3, 7);
+            totals[(dayOfMonth - 1) / 7][dayOfWeek] += cents[row];
+        }
+        return totals;
+    }
+
+    /**
+     * Returns the expenditure in {@code rows}, in cents, indexed by {@code latestYear} minus the year and then by
+     * month of the year starting from 0. Rows outside the {@code years} years up to {@code latestYear} are skipped.
+     */
+    public long[][] sumExpenseByYearAndMonth(int[] rows, int latestYear, int years) {
+        long[][] totals = new long[years][12];
+        MonthCursor cursor = new MonthCursor();
+        for (int row : rows) {
+            if (!isExpense(row)) {
+                continue;
+            }
+            cursor.moveTo(epochDay[row]);
+            int yearIndex = latestYear - cursor.year;
+            if (yearIndex >= 0 && yearIndex < years) {
+                totals[yearIndex][cursor.month - 1] += cents[row];
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Inserts {@code transaction} as {@code row}, moving the rows from {@code row} onwards down by one.
+     */
+    void insert(int row, Transaction transaction) {
+        ensureCapacity(size + 1);
+        int tail = size - row;
+        System.arraycopy(epochDay, row, epochDay, row + 1, tail);
+        System.arraycopy(cents, row, cents, row + 1, tail);
+        System.arraycopy(category, row, category, row + 1, tail);
+        System.arraycopy(positive, row, positive, row + 1, tail);
+        System.arraycopy(nameId, row, nameId, row + 1, tail);
+        size++;
+        set(row, transaction);
+    }
+
+    /**
+     * Removes {@code row}, moving the rows after it up by one.
+     */
+    void remove(int row) {
+        int tail = size - row - 1;
+        System.arraycopy(epochDay, row + 1, epochDay, row, tail);
+        System.arraycopy(cents, row + 1, cents, row, tail);
+        System.arraycopy(category, row + 1, category, row, tail);
+        System.arraycopy(positive, row + 1, positive, row, tail);
+        System.arraycopy(nameId, row + 1, nameId, row, tail);
+        size--;
+    }
+
+    void set(int row, Transaction transaction) {
+        Amount amount = transaction.getAmount();
+        epochDay[row] = Math.toIntExact(transaction.getDate().transactionDate.toEpochDay());
+        cents[row] = amount.transactionCents;
+        category[row] = (byte) TransactionIndex.categoryOf(transaction).ordinal();
+        positive[row] = amount.positive;
+        nameId[row] = idOf(transaction.getName().transactionName);
+    }
+
+    /**
+     * Replaces every row with the transactions in {@code transactions}, in order.
+     * Names that are no longer used are dropped.
+     */
+    void setAll(List<Transaction> transactions) {
+        nameIds.clear();
+        names.clear();
+        size = 0;
+        ensureCapacity(transactions.size());
+        size = transactions.size();
+        for (int row = 0; row < size; row++) {
+            set(row, transactions.get(row));
+        }
+    }
+
+    private boolean isExpense(int row) {
+        return !positive[row] && category[row] != INCOME_CATEGORY;
+    }
+
+    /**
+     * Returns the id of {@code name}, adding it to the name dictionary if it is new.
+     */
+    private int idOf(String name) {
+        requireNonNull(name);
+        return nameIds.computeIfAbsent(name, unused -> {
+            names.add(name);
+            return names.size() - 1;
+        });
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of " + size);
+        }
+    }
+
+    /**
+     * Grows the columns so that they can hold at least {@code capacity} rows.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= epochDay.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, epochDay.length * 2);
+        epochDay = Arrays.copyOf(epochDay, newCapacity);
+        cents = Arrays.copyOf(cents, newCapacity);
+        category = Arrays.copyOf(category, newCapacity);
+        positive = Arrays.copyOf(positive, newCapacity);
+        nameId = Arrays.copyOf(nameId, newCapacity);
+    }
+
+    /**
+     * The calendar month of the last epoch day looked up. Rows are sorted by date, so consecutive rows usually fall
+     * in the same month and a {@code LocalDate} only needs to be built when the month changes.
+     */
+    private static class MonthCursor {
+        private int monthStart = 1;
+        private int monthEnd = 0;
+        private int year;
+        private int month;
+
+        /**
+         * Moves the cursor to the month containing the epoch day {@code day}.
+         */
+        void moveTo(int day) {
+            if (day >= monthStart && day < monthEnd) {
+                return;
+            }
+            LocalDate date = LocalDate.ofEpochDay(day);
+            monthStart = day - date.getDayOfMonth() + 1;
+            monthEnd = monthStart + date.lengthOfMonth();
+            year = date.getYear();
+            month = date.getMonthValue();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.expensela.model.transaction;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Secondary indexes over the transactions of a {@code TransactionList}, grouped by category and by the case-folded
+ * words of their names, from which the transactions that a {@code TransactionMatcher} may accept are found without
+ * testing every transaction. Months need no index, as the list is sorted by date.
+ * Category buckets are handed out as live, unmodifiable views. Name-word postings are dropped once empty,
+ * so they should be looked up again rather than held.
+ */
+class TransactionIndex {
+
+    private final Map<CategoryEnum, Set<Transaction>> byCategory = new EnumMap<>(CategoryEnum.class);
+    private final Map<String, Set<Transaction>> byNameWord = new HashMap<>();
+
+    /**
+     * Returns the month that {@code transaction} is dated in.
+     */
+    static YearMonth monthOf(Transaction transaction) {
+        return YearMonth.from(transaction.getDate().transactionDate);
+    }
+
+    /**
+     * Returns the category that {@code transaction} is indexed under.
+     */
+    static CategoryEnum categoryOf(Transaction transaction) {
+        return transaction.getCategory().categoryEnum;
+    }
+
+    /**
+     * Returns the key that {@code word} is indexed under. Two words have the same key exactly when
+     * {@code String#equalsIgnoreCase(String)} holds between them, which lower-casing alone does not guarantee.
+     */
+    static String foldCase(String word) {
+        char[] folded = new char[word.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(word.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Adds {@code transaction} to the bucket of its category and each word of its name.
+     */
+    void add(Transaction transaction) {
+        categoryBucket(categoryOf(transaction)).add(transaction);
+        for (String word : transaction.getName().getWords()) {
+            byNameWord.computeIfAbsent(foldCase(word), unused -> new HashSet<>()).add(transaction);
+        }
+    }
+
+    /**
+     * Removes {@code transaction} from every bucket it was added to.
+     */
+    void remove(Transaction transaction) {
+        categoryBucket(categoryOf(transaction)).remove(transaction);
+        for (String word : transaction.getName().getWords()) {
+            byNameWord.computeIfPresent(foldCase(word), (key, postings) -> {
+                postings.remove(transaction);
+                return postings.isEmpty() ? null : postings;
+            });
+        }
+    }
+
+    /**
+     * Removes every transaction from the index.
+     */
+    void clear() {
+        // Buckets are emptied rather than dropped so that views handed out earlier stay live.
+        byCategory.values().forEach(Set::clear);
+        byNameWord.clear();
+    }
+
+    /**
+     * Returns buckets that together hold every transaction that {@code matcher} can accept: those of its categories
+     * or of its name keywords, whichever hold fewer transactions. A transaction may be in more than one of the
+     * buckets. Returns null if {@code matcher} filters by neither.
+     */
+    List<Set<Transaction>> findCandidateBuckets(TransactionMatcher matcher) {
+        List<Set<Transaction>> candidates = null;
+        Set<CategoryEnum> categories = matcher.getCategories();
+        if (categories != null) {
+            candidates = new ArrayList<>();
+            for (CategoryEnum category : categories) {
+                candidates.add(getCategory(category));
+            }
+        }
+        List<String> nameKeywords = matcher.getNameKeywords();
+        if (nameKeywords != null) {
+            List<Set<Transaction>> postings = new ArrayList<>();
+            for (String keyword : nameKeywords) {
+                postings.add(getNameWord(keyword));
+            }
+            if (candidates == null || sizeOf(postings) < sizeOf(candidates)) {
+                candidates = postings;
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the total size of {@code buckets}.
+     */
+    static int sizeOf(List<Set<Transaction>> buckets) {
+        int size = 0;
+        for (Set<Transaction> bucket : buckets) {
+            size += bucket.size();
+        }
+        return size;
+    }
+
+    Set<Transaction> getCategory(CategoryEnum category) {
+        return Collections.unmodifiableSet(categoryBucket(category));
+    }
+
+    Set<Transaction> getNameWord(String word) {
+        return Collections.unmodifiableSet(byNameWord.getOrDefault(foldCase(word), Collections.emptySet()));
+    }
+
+    private Set<Transaction> categoryBucket(CategoryEnum category) {
+        return byCategory.computeIfAbsent(category, unused -> new HashSet<>());
+    }
+}
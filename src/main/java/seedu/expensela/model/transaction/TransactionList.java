@@ -3,8 +3,21 @@ package seedu.expensela.model.transaction;
 import static java.util.Objects.requireNonNull;
 import static seedu.expensela.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,22 +32,45 @@ import seedu.expensela.model.transaction.exceptions.TransactionNotFoundException
  * However, the removal of a transaction uses Transaction#equals(Object) so
  * as to ensure that the transaction with exactly the same fields will be removed.
  *
+ * The list is kept sorted by {@code Transaction#compareTo(Transaction)}. Insertion points are found by binary search
+ * and identity checks go through a hash index, so single-row mutations do not re-sort or scan the list.
+ * Transactions are also indexed by category and by the words of their names, so that, together with the date
+ * order, {@link #findCandidateRows(TransactionMatcher)} can find the rows a filter may match without scanning the list.
+ * Those indexes are updated before listeners are notified, so they already see the change. Running totals per month
+ * and category are kept in {@link #getAggregates()}, and a column-wise copy of the list for analytics scans in
+ * {@link #getColumns()}.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Transaction#isSameTransaction(Transaction)
  */
 public class TransactionList implements Iterable<Transaction> {
 
-    private final ObservableList<Transaction> internalList = FXCollections.observableArrayList();
+    /*
+     * Looking a transaction in a category or name bucket up in the list costs a binary search and a scan of the
+     * transactions on its day, taken here to be as much as testing this many rows.
+     */
+    private static final int BUCKET_LOOKUP_COST = 32;
+
+    private final SortedTransactionObservableList internalList = new SortedTransactionObservableList();
     private final ObservableList<Transaction> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /*
+     * Number of transactions in the list for each identity. Transaction#equals and Transaction#hashCode cover
+     * exactly the fields compared by Transaction#isSameTransaction, so a transaction is its own identity key.
+     * Counts are kept because the bulk setters do not reject duplicates.
+     */
+    private final Map<Transaction, Integer> identityIndex = new HashMap<>();
+    private final TransactionIndex secondaryIndex = new TransactionIndex();
+    private final TransactionAggregates aggregates = new TransactionAggregates();
+
     /**
      * Returns true if the list contains an equivalent transaction as the given argument.
      */
     public boolean contains(Transaction toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTransaction);
+        return identityIndex.containsKey(toCheck);
     }
 
     /**
@@ -46,8 +82,27 @@ public class TransactionList implements Iterable<Transaction> {
         if (contains(toAdd)) {
             throw new DuplicateTransactionException();
         }
-        internalList.add(toAdd);
-        FXCollections.sort(internalList);
+        index(toAdd);
+        internalList.insert(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list.
+     * None of the transactions may already exist in the list, and {@code toAdd} must not contain duplicates.
+     * The whole batch is validated before the list is changed, so either every transaction is added or none is.
+     */
+    public void addAll(Collection<Transaction> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Transaction> seen = new HashSet<>();
+        for (Transaction transaction : toAdd) {
+            if (contains(transaction) || !seen.add(transaction)) {
+                throw new DuplicateTransactionException();
+            }
+        }
+        List<Transaction> sortedTransactions = new ArrayList<>(toAdd);
+        Collections.sort(sortedTransactions);
+        sortedTransactions.forEach(this::index);
+        internalList.insertAll(sortedTransactions);
     }
 
     /**
@@ -68,14 +123,18 @@ public class TransactionList implements Iterable<Transaction> {
             throw new DuplicateTransactionException();
         }
 
-        internalList.set(index, editedTransaction);
-        FXCollections.sort(internalList);
+        unindex(target);
+        index(editedTransaction);
+        internalList.replace(index, editedTransaction);
     }
 
     public void setTransaction(TransactionList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
-        FXCollections.sort(internalList);
+        identityIndex.clear();
+        secondaryIndex.clear();
+        aggregates.clear();
+        replacement.internalList.forEach(this::index);
+        internalList.replaceAll(replacement.internalList);
     }
 
     /**
@@ -84,8 +143,13 @@ public class TransactionList implements Iterable<Transaction> {
      */
     public void setTransaction(List<Transaction> transactions) {
         requireAllNonNull(transactions);
-        internalList.setAll(transactions);
-        FXCollections.sort(internalList);
+        List<Transaction> sortedTransactions = new ArrayList<>(transactions);
+        Collections.sort(sortedTransactions);
+        identityIndex.clear();
+        secondaryIndex.clear();
+        aggregates.clear();
+        sortedTransactions.forEach(this::index);
+        internalList.replaceAll(sortedTransactions);
     }
 
     /**
@@ -94,10 +158,143 @@ public class TransactionList implements Iterable<Transaction> {
      */
     public void remove(Transaction toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new TransactionNotFoundException();
         }
-        FXCollections.sort(internalList);
+        unindex(toRemove);
+        internalList.removeAt(index);
+    }
+
+    /**
+     * Removes the equivalent of every transaction in {@code toRemove} from the list.
+     * Every transaction must exist in the list. The whole batch is located before the list is changed,
+     * so either every transaction is removed or none is.
+     */
+    public void removeAll(Collection<Transaction> toRemove) {
+        requireAllNonNull(toRemove);
+        int[] indexes = new int[toRemove.size()];
+        int count = 0;
+        for (Transaction transaction : toRemove) {
+            int index = internalList.indexOf(transaction);
+            if (index == -1) {
+                throw new TransactionNotFoundException();
+            }
+            indexes[count++] = index;
+        }
+        Arrays.sort(indexes);
+        for (int i = 1; i < indexes.length; i++) {
+            if (indexes[i] == indexes[i - 1]) {
+                throw new TransactionNotFoundException();
+            }
+        }
+        toRemove.forEach(this::unindex);
+        internalList.removeAll(indexes);
+    }
+
+    /**
+     * Returns the transactions dated in {@code month}.
+     */
+    public Set<Transaction> getTransactionsInMonth(YearMonth month) {
+        requireNonNull(month);
+        int[] range = findMonthRanges(Collections.singletonList(month));
+        return new HashSet<>(internalList.subList(range[0], range[1]));
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the transactions in {@code category}.
+     */
+    public Set<Transaction> getTransactionsInCategory(CategoryEnum category) {
+        requireNonNull(category);
+        return secondaryIndex.getCategory(category);
+    }
+
+    /**
+     * Returns the transactions whose name contains {@code word} as a whole word, ignoring case.
+     * The returned set is unmodifiable and should be looked up again after the list changes.
+     */
+    public Set<Transaction> getTransactionsWithNameWord(String word) {
+        requireNonNull(word);
+        return secondaryIndex.getNameWord(word);
+    }
+
+    /**
+     * Returns the indexes in this list, in ascending order, of the transactions that {@code matcher} may accept.
+     * These are the transactions in the months it filters by, as the list is sorted by date, or those in the
+     * category or name-word buckets it filters by, whichever are fewer to test. The rows still have to be tested
+     * with {@code matcher}. Returns null if they cannot be narrowed down that way, in which case every row should be
+     * tested.
+     */
+    public int[] findCandidateRows(TransactionMatcher matcher) {
+        requireNonNull(matcher);
+        int[] monthRanges = findMonthRanges(matcher.getMonths());
+        long monthCost = monthRanges == null ? Long.MAX_VALUE : sizeOfRanges(monthRanges);
+        List<Set<Transaction>> buckets = secondaryIndex.findCandidateBuckets(matcher);
+        long bucketCost = buckets == null
+                ? Long.MAX_VALUE
+                : (long) TransactionIndex.sizeOf(buckets) * BUCKET_LOOKUP_COST;
+
+        if (Math.min(monthCost, bucketCost) >= internalList.size()) {
+            return null;
+        }
+        if (monthCost <= bucketCost) {
+            return IntStream.range(0, monthRanges.length / 2)
+                    .flatMap(i -> IntStream.range(monthRanges[2 * i], monthRanges[2 * i + 1]))
+                    .toArray();
+        }
+        IntStream.Builder rows = IntStream.builder();
+        for (Set<Transaction> bucket : buckets) {
+            for (Transaction transaction : bucket) {
+                internalList.forEachIndexOf(transaction, identityIndex.get(transaction), rows);
+            }
+        }
+        // A transaction whose name has more than one of the keywords is in more than one bucket.
+        return rows.build().sorted().distinct().toArray();
+    }
+
+    /**
+     * Returns the start (inclusive) and end (exclusive) index of the transactions dated in each of {@code months},
+     * in ascending order, or null if {@code months} is null.
+     */
+    private int[] findMonthRanges(List<YearMonth> months) {
+        if (months == null) {
+            return null;
+        }
+        // The list is sorted latest first.
+        SortedSet<YearMonth> latestFirst = new TreeSet<>(Comparator.reverseOrder());
+        latestFirst.addAll(months);
+        int[] ranges = new int[latestFirst.size() * 2];
+        int count = 0;
+        for (YearMonth month : latestFirst) {
+            ranges[count++] = internalList.firstIndexDatedOnOrBefore(month.atEndOfMonth().toEpochDay());
+            ranges[count++] = internalList.firstIndexDatedOnOrBefore(month.atDay(1).toEpochDay() - 1);
+        }
+        return ranges;
+    }
+
+    /**
+     * Returns the number of indexes in {@code ranges}, as returned by {@link #findMonthRanges(List)}.
+     */
+    private static long sizeOfRanges(int[] ranges) {
+        long size = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            size += ranges[i + 1] - ranges[i];
+        }
+        return size;
+    }
+
+    /**
+     * Returns the running income and expense totals of this list, by month and category.
+     */
+    public TransactionAggregates getAggregates() {
+        return aggregates;
+    }
+
+    /**
+     * Returns the transactions of this list stored column by column, in the same order as the list.
+     */
+    public TransactionColumns getColumns() {
+        return internalList.getColumns();
     }
 
     /**
@@ -109,7 +306,7 @@ public class TransactionList implements Iterable<Transaction> {
 
     @Override
     public Iterator<Transaction> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -124,7 +321,34 @@ public class TransactionList implements Iterable<Transaction> {
         return internalList.hashCode();
     }
 
+    /**
+     * Removes all transactions from the list.
+     */
     public void clear() {
-        internalList.clear();
+        identityIndex.clear();
+        secondaryIndex.clear();
+        aggregates.clear();
+        internalList.replaceAll(Collections.emptyList());
+    }
+
+    /**
+     * The category and name-word indexes hold each identity once, so they only change when the first copy of a
+     * transaction is added or the last copy is removed. The aggregates count every copy.
+     */
+    private void index(Transaction transaction) {
+        aggregates.add(transaction);
+        if (identityIndex.merge(transaction, 1, Integer::sum) == 1) {
+            secondaryIndex.add(transaction);
+        }
+    }
+
+    /**
+     * Reverses {@link #index(Transaction)} for one copy of {@code transaction}.
+     */
+    private void unindex(Transaction transaction) {
+        aggregates.remove(transaction);
+        if (identityIndex.computeIfPresent(transaction, (key, count) -> count == 1 ? null : count - 1) == null) {
+            secondaryIndex.remove(transaction);
+        }
     }
 }
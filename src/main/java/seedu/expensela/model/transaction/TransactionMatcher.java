@@ -0,0 +1,217 @@
+package seedu.expensela.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A single predicate compiled from category, month and name predicates that are all required to hold.
+ *
+ * Category keywords become a bitmask over {@code CategoryEnum} ordinals, month keywords become epoch-day ranges
+ * and name keywords are checked against the words of each {@code Name}, which are split once per distinct name.
+ * Clauses whose first keyword is "ALL" match every transaction and are dropped when compiling. Predicates of any
+ * other type are kept as they are and tested last.
+ */
+public class TransactionMatcher implements Predicate<Transaction> {
+
+    private static final int ALL_CATEGORIES = -1;
+
+    private int categoryMask = ALL_CATEGORIES;
+    /** Start (inclusive) and end (exclusive) epoch days of the months to match, or null for every month. */
+    private long[] dayRanges;
+    /** Trimmed name keywords, or null if names are not filtered. */
+    private String[] nameKeywords;
+    private final List<Predicate<Transaction>> otherClauses = new ArrayList<>();
+
+    private TransactionMatcher() {
+    }
+
+    /**
+     * Returns a matcher that accepts exactly the transactions accepted by all of {@code clauses}.
+     */
+    public static TransactionMatcher compile(List<Predicate<Transaction>> clauses) {
+        requireNonNull(clauses);
+        TransactionMatcher matcher = new TransactionMatcher();
+        for (Predicate<Transaction> clause : clauses) {
+            matcher.addClause(requireNonNull(clause));
+        }
+        return matcher;
+    }
+
+    /**
+     * Returns true if this matcher accepts every transaction.
+     */
+    public boolean matchesAll() {
+        return categoryMask == ALL_CATEGORIES && dayRanges == null && nameKeywords == null
+                && otherClauses.isEmpty();
+    }
+
+    /**
+     * Returns the categories of the transactions this matcher can accept, or null if it does not filter by category.
+     */
+    Set<CategoryEnum> getCategories() {
+        if (categoryMask == ALL_CATEGORIES) {
+            return null;
+        }
+        Set<CategoryEnum> categories = EnumSet.noneOf(CategoryEnum.class);
+        for (CategoryEnum category : CategoryEnum.values()) {
+            if ((categoryMask & (1 << category.ordinal())) != 0) {
+                categories.add(category);
+            }
+        }
+        return categories;
+    }
+
+    /**
+     * Returns the months of the transactions this matcher can accept, or null if it does not filter by month.
+     */
+    List<YearMonth> getMonths() {
+        if (dayRanges == null) {
+            return null;
+        }
+        List<YearMonth> months = new ArrayList<>(dayRanges.length / 2);
+        for (int i = 0; i < dayRanges.length; i += 2) {
+            months.add(YearMonth.from(LocalDate.ofEpochDay(dayRanges[i])));
+        }
+        return months;
+    }
+
+    /**
+     * Returns the words of which the name of a transaction this matcher accepts has at least one, or null if it
+     * does not filter by name.
+     */
+    List<String> getNameKeywords() {
+        return nameKeywords == null ? null : Arrays.asList(nameKeywords);
+    }
+
+    @Override
+    public boolean test(Transaction transaction) {
+        if (categoryMask != ALL_CATEGORIES
+                && (categoryMask & (1 << transaction.getCategory().categoryEnum.ordinal())) == 0) {
+            return false;
+        }
+        if (dayRanges != null && !isInDayRanges(transaction.getDate().transactionDate.toEpochDay())) {
+            return false;
+        }
+        if (nameKeywords != null && !hasNameKeyword(transaction.getName())) {
+            return false;
+        }
+        for (Predicate<Transaction> clause : otherClauses) {
+            if (!clause.test(transaction)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Folds {@code clause} into this matcher, or keeps it to be tested as it is.
+     */
+    private void addClause(Predicate<Transaction> clause) {
+        if (clause instanceof CategoryEqualsKeywordPredicate && categoryMask == ALL_CATEGORIES) {
+            addCategoryClause(((CategoryEqualsKeywordPredicate) clause).getKeywords());
+        } else if (clause instanceof DateEqualsKeywordPredicate && dayRanges == null) {
+            addMonthClause(((DateEqualsKeywordPredicate) clause).getKeywords());
+        } else if (clause instanceof NameContainsKeywordsPredicate && nameKeywords == null
+                && areSingleWords(((NameContainsKeywordsPredicate) clause).getKeywords())) {
+            addNameClause(((NameContainsKeywordsPredicate) clause).getKeywords());
+        } else {
+            otherClauses.add(clause);
+        }
+    }
+
+    /**
+     * Category keywords are compared case-sensitively with category names, so keywords that are not the exact
+     * name of a category match nothing.
+     */
+    private void addCategoryClause(List<String> keywords) {
+        if (keywords.get(0).equals("ALL")) {
+            return;
+        }
+        int mask = 0;
+        for (String keyword : keywords) {
+            for (CategoryEnum category : CategoryEnum.values()) {
+                if (category.name().equals(keyword)) {
+                    mask |= 1 << category.ordinal();
+                }
+            }
+        }
+        categoryMask = mask;
+    }
+
+    /**
+     * Month keywords are compared with the ISO form of the transaction month, e.g. "2020-02", so keywords in
+     * any other form match nothing.
+     */
+    private void addMonthClause(List<String> keywords) {
+        if (keywords.get(0).equals("ALL")) {
+            return;
+        }
+        long[] ranges = new long[keywords.size() * 2];
+        int count = 0;
+        for (String keyword : keywords) {
+            try {
+                YearMonth month = YearMonth.parse(keyword);
+                if (month.toString().equals(keyword)) {
+                    ranges[count++] = month.atDay(1).toEpochDay();
+                    ranges[count++] = month.atEndOfMonth().toEpochDay() + 1;
+                }
+            } catch (DateTimeParseException e) {
+                // matches no transaction
+            }
+        }
+        dayRanges = Arrays.copyOf(ranges, count);
+    }
+
+    private void addNameClause(List<String> keywords) {
+        nameKeywords = keywords.stream().map(String::trim).toArray(String[]::new);
+    }
+
+    /**
+     * NameContainsKeywordsPredicate throws on blank or multi-word keywords, so those predicates are kept as they
+     * are to fail in the same way.
+     */
+    private static boolean areSingleWords(List<String> keywords) {
+        for (String keyword : keywords) {
+            String word = keyword.trim();
+            if (word.isEmpty() || word.split("\\s+").length != 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code epochDay} falls in one of the months to match.
+     */
+    private boolean isInDayRanges(long epochDay) {
+        for (int i = 0; i < dayRanges.length; i += 2) {
+            if (epochDay >= dayRanges[i] && epochDay < dayRanges[i + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if a word of {@code name} equals one of the name keywords, ignoring case.
+     */
+    private boolean hasNameKeyword(Name name) {
+        for (String word : name.getWords()) {
+            for (String keyword : nameKeywords) {
+                if (keyword.equalsIgnoreCase(word)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.expensela.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.expensela.commons.core.LogsCenter;
+
+/**
+ * Runs {@link DeferredWrite}s one at a time on a single background thread.
+ *
+ * Each write is submitted under a key naming what it writes. A write that has not started yet is replaced by the
+ * next write submitted under the same key, so a burst of saves of the same data results in one write of its
+ * latest state.
+ */
+class BackgroundWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundWriter.class);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "expensela-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Writes that have been submitted but not started, by key. Guarded by {@code this}. */
+    private final Map<String, DeferredWrite> pendingWrites = new HashMap<>();
+    private IOException lastFailure;
+    private volatile Consumer<IOException> failureHandler = failure -> { };
+
+    /**
+     * Sets the handler that is called, on the writer thread, with the exception of each write that fails.
+     */
+    void setFailureHandler(Consumer<IOException> failureHandler) {
+        this.failureHandler = requireNonNull(failureHandler);
+    }
+
+    /**
+     * Queues {@code write} to be run after the writes already started, replacing any write under {@code key} that
+     * has not started yet.
+     */
+    synchronized void submit(String key, DeferredWrite write) {
+        requireNonNull(key);
+        requireNonNull(write);
+        if (pendingWrites.put(key, write) == null) {
+            executor.execute(() -> runPendingWrite(key));
+        }
+    }
+
+    /**
+     * Waits for every write submitted so far to finish.
+     *
+     * @throws IOException the most recent failure of a write since the last flush, if any.
+     */
+    void flush() throws IOException {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", e);
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail.", e);
+        }
+        IOException failure;
+        synchronized (this) {
+            failure = lastFailure;
+            lastFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Runs the latest write submitted under {@code key}, recording and reporting its failure if it fails.
+     */
+    private void runPendingWrite(String key) {
+        DeferredWrite write;
+        synchronized (this) {
+            write = pendingWrites.remove(key);
+        }
+        try {
+            write.write();
+        } catch (IOException | RuntimeException e) {
+            IOException failure = e instanceof IOException ? (IOException) e : new IOException(e);
+            logger.warning("Could not save " + key + ": " + failure);
+            synchronized (this) {
+                lastFailure = failure;
+            }
+            failureHandler.accept(failure);
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package seedu.expensela.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.expensela.commons.core.LogsCenter;
+import seedu.expensela.commons.exceptions.DataConversionException;
+import seedu.expensela.commons.exceptions.IllegalValueException;
+import seedu.expensela.commons.util.FileUtil;
+import seedu.expensela.model.ExpenseLa;
+import seedu.expensela.model.ReadOnlyExpenseLa;
+import seedu.expensela.model.monthlydata.Budget;
+import seedu.expensela.model.monthlydata.Expense;
+import seedu.expensela.model.monthlydata.Income;
+import seedu.expensela.model.monthlydata.MonthlyData;
+import seedu.expensela.model.transaction.Amount;
+import seedu.expensela.model.transaction.Category;
+import seedu.expensela.model.transaction.Date;
+import seedu.expensela.model.transaction.Name;
+import seedu.expensela.model.transaction.Remark;
+import seedu.expensela.model.transaction.Transaction;
+
+/**
+ * A class to access ExpenseLa data stored in a compact binary file on the hard disk.
+ *
+ * The file holds, in order and big-endian:
+ * <ul>
+ *     <li>the magic number {@code EXLA} and the format version, as ints;</li>
+ *     <li>the monthly budget, expense and income, as longs of cents;</li>
+ *     <li>the number of distinct strings, followed by each string as the int length of its UTF-8 bytes and the
+ *     bytes;</li>
+ *     <li>the number of transactions, followed by each transaction as the ints indexing its name, remark and
+ *     category in the strings, the int epoch day of its date, the long cents of its amount and a byte that is 1
+ *     if the amount is positive.</li>
+ * </ul>
+ * Strings that repeat across transactions, such as categories and common names, are stored and validated once.
+ * The file is read through a memory-mapped {@link FileChannel}.
+ */
+public class BinaryExpenseLaStorage implements ExpenseLaStorage {
+
+    public static final int MAGIC = 0x45584C41;
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "Not an ExpenseLa binary data file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported ExpenseLa binary data version %d";
+    public static final String MESSAGE_TRUNCATED = "ExpenseLa binary data file ends unexpectedly";
+    public static final String MESSAGE_INVALID_STRING_INDEX = "String index %d is out of range";
+
+    private static final int POSITIVE = 1;
+    private static final int TRANSACTION_BYTES = 4 * Integer.BYTES + Long.BYTES + 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryExpenseLaStorage.class);
+
+    private final Path filePath;
+
+    public BinaryExpenseLaStorage(Path filePath) {
+        this.filePath = requireNonNull(filePath);
+    }
+
+    public Path getExpenseLaFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyExpenseLa> readExpenseLa() throws DataConversionException {
+        return readExpenseLa(filePath);
+    }
+
+    /**
+     * Similar to {@link #readExpenseLa()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyExpenseLa> readExpenseLa(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return Optional.of(decode(buffer));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    @Override
+    public void saveExpenseLa(ReadOnlyExpenseLa expenseLa) throws IOException {
+        saveExpenseLa(expenseLa, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveExpenseLa(ReadOnlyExpenseLa)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveExpenseLa(ReadOnlyExpenseLa expenseLa, Path filePath) throws IOException {
+        requireNonNull(expenseLa);
+        requireNonNull(filePath);
+
+        write(filePath, expenseLa.getTransactionList(), expenseLa.getMonthlyData());
+    }
+
+    @Override
+    public DeferredWrite prepareSaveExpenseLa(ReadOnlyExpenseLa expenseLa) {
+        requireNonNull(expenseLa);
+
+        List<Transaction> transactions = new ArrayList<>(expenseLa.getTransactionList());
+        MonthlyData monthlyData = new MonthlyData(expenseLa.getMonthlyData());
+        return () -> write(filePath, transactions, monthlyData);
+    }
+
+    /**
+     * Writes {@code transactions} and {@code monthlyData} to {@code filePath} through a temporary file.
+     */
+    private static void write(Path filePath, List<Transaction> transactions, MonthlyData monthlyData)
+            throws IOException {
+        Map<String, Integer> stringIndices = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        int[] indices = new int[transactions.size() * 3];
+        for (int i = 0; i < transactions.size(); i++) {
+            Transaction transaction = transactions.get(i);
+            indices[3 * i] = indexOf(transaction.getName().transactionName, stringIndices, strings);
+            indices[3 * i + 1] = indexOf(transaction.getRemark().transactionRemark, stringIndices, strings);
+            indices[3 * i + 2] = indexOf(transaction.getCategory().transactionCategory, stringIndices, strings);
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temp = Files.createTempFile(filePath.toAbsolutePath().getParent(), filePath.getFileName().toString(),
+                ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(monthlyData.getBudget().budgetCents);
+                out.writeLong(monthlyData.getExpense().expenseCents);
+                out.writeLong(monthlyData.getIncome().incomeCents);
+
+                out.writeInt(strings.size());
+                for (String string : strings) {
+                    byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                }
+
+                out.writeInt(transactions.size());
+                for (int i = 0; i < transactions.size(); i++) {
+                    Transaction transaction = transactions.get(i);
+                    out.writeInt(indices[3 * i]);
+                    out.writeInt(indices[3 * i + 1]);
+                    out.writeInt(indices[3 * i + 2]);
+                    out.writeInt((int) transaction.getDate().transactionDate.toEpochDay());
+                    out.writeLong(transaction.getAmount().transactionCents);
+                    out.writeByte(transaction.getAmount().positive ? POSITIVE : 0);
+                }
+            }
+            FileUtil.replaceFile(temp, filePath);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads the number of items that follow in {@code buffer}, checking that {@code buffer} is long enough to hold
+     * that many items of at least {@code itemBytes} bytes each.
+     */
+    private static int readLength(ByteBuffer buffer, int itemBytes) throws IOException {
+        int length = buffer.getInt();
+        if (length < 0 || (long) length * itemBytes > buffer.remaining()) {
+            throw new IOException(MESSAGE_TRUNCATED);
+        }
+        return length;
+    }
+
+    /**
+     * Returns the index of {@code string} in {@code strings}, adding it to the end if it is not there yet.
+     */
+    private static int indexOf(String string, Map<String, Integer> stringIndices, List<String> strings) {
+        Integer index = stringIndices.get(string);
+        if (index == null) {
+            index = strings.size();
+            stringIndices.put(string, index);
+            strings.add(string);
+        }
+        return index;
+    }
+
+    /**
+     * Converts the contents of a binary data file into an {@code ExpenseLa}.
+     *
+     * @throws IOException if the contents are not laid out as expected.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    private static ExpenseLa decode(ByteBuffer buffer) throws IOException, IllegalValueException {
+        try {
+            if (buffer.remaining() < 8 || buffer.getInt() != MAGIC) {
+                throw new IOException(MESSAGE_NOT_BINARY_FILE);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            MonthlyData monthlyData = new MonthlyData("1", new Budget(buffer.getLong()),
+                    new Expense(buffer.getLong()), new Income(buffer.getLong()));
+
+            String[] strings = new String[readLength(buffer, Integer.BYTES)];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[readLength(buffer, 1)];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            StringFields fields = new StringFields(strings);
+            int count = readLength(buffer, TRANSACTION_BYTES);
+            List<Transaction> transactions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Name name = fields.getName(buffer.getInt());
+                Remark remark = fields.getRemark(buffer.getInt());
+                Category category = fields.getCategory(buffer.getInt());
+                Date date = Date.of(LocalDate.ofEpochDay(buffer.getInt()));
+                Amount amount = new Amount(buffer.getLong(), buffer.get() == POSITIVE);
+                transactions.add(new Transaction(name, amount, date, remark, category));
+            }
+
+            ExpenseLa expenseLa = new ExpenseLa();
+            JsonSerializableExpenseLa.addAllOrReject(expenseLa, transactions);
+            expenseLa.setMonthlyData(monthlyData);
+            return expenseLa;
+        } catch (BufferUnderflowException e) {
+            throw new IOException(MESSAGE_TRUNCATED, e);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The strings of a binary data file, converted into the transaction fields they are used as the first time
+     * each is used as one.
+     */
+    private static class StringFields {
+        private final String[] strings;
+        private final Name[] names;
+        private final Remark[] remarks;
+        private final Category[] categories;
+
+        StringFields(String[] strings) {
+            this.strings = strings;
+            names = new Name[strings.length];
+            remarks = new Remark[strings.length];
+            categories = new Category[strings.length];
+        }
+
+        Name getName(int index) throws IllegalValueException {
+            checkIndex(index);
+            if (names[index] == null) {
+                if (!Name.isValidName(strings[index])) {
+                    throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+                }
+                names[index] = Name.of(strings[index]);
+            }
+            return names[index];
+        }
+
+        Remark getRemark(int index) throws IllegalValueException {
+            checkIndex(index);
+            if (remarks[index] == null) {
+                if (!Remark.isValidRemark(strings[index])) {
+                    throw new IllegalValueException(Remark.MESSAGE_CONSTRAINTS);
+                }
+                remarks[index] = Remark.of(strings[index]);
+            }
+            return remarks[index];
+        }
+
+        Category getCategory(int index) throws IllegalValueException {
+            checkIndex(index);
+            if (categories[index] == null) {
+                if (!Category.isValidCategory(strings[index])) {
+                    throw new IllegalValueException(Category.MESSAGE_CONSTRAINTS);
+                }
+                categories[index] = Category.of(strings[index]);
+            }
+            return categories[index];
+        }
+
+        private void checkIndex(int index) throws IllegalValueException {
+            if (index < 0 || index >= strings.length) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_STRING_INDEX, index));
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package seedu.expensela.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+import seedu.expensela.commons.csv.CsvWriter;
+import seedu.expensela.commons.util.MoneyUtil;
+import seedu.expensela.model.transaction.Amount;
+import seedu.expensela.model.transaction.Transaction;
+
+/**
+ * Writes transactions to a CSV file in the format that {@code CsvTransactionImporter} reads.
+ *
+ * Names and remarks are quoted by {@link CsvWriter} where needed, so that commas and quotes in them are read back.
+ * Each row is built in one reused {@code StringBuilder}, copied into a fixed-size character buffer and encoded into a
+ * fixed-size byte buffer that is written to the file whenever it fills up. Exporting therefore uses the same small
+ * amount of memory however many transactions there are.
+ */
+public class CsvTransactionExporter implements Closeable {
+
+    public static final String HEADER = "NAME,AMOUNT,DATE,REMARK,CATEGORY";
+
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String INCOME_PREFIX = "+ $";
+    private static final String EXPENSE_PREFIX = "- $";
+
+    private final FileChannel channel;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+    private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+    private final StringBuilder row = new StringBuilder();
+    private final CsvWriter csv = new CsvWriter(row);
+    /** Holds the amount or date being formatted, before it is added to the row. */
+    private final StringBuilder value = new StringBuilder();
+
+    /**
+     * Creates {@code file}, or empties it if it exists, and writes the header row to it.
+     */
+    public CsvTransactionExporter(Path file) throws IOException {
+        requireNonNull(file);
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        row.append(HEADER).append(CsvWriter.RECORD_SEPARATOR);
+        putRow();
+    }
+
+    /**
+     * Writes all of {@code transactions} to {@code file} after the header row, replacing what was in the file.
+     */
+    public static void write(Path file, Iterable<Transaction> transactions) throws IOException {
+        try (CsvTransactionExporter exporter = new CsvTransactionExporter(file)) {
+            for (Transaction transaction : transactions) {
+                exporter.add(transaction);
+            }
+        }
+    }
+
+    /**
+     * Writes {@code transaction} as the next row.
+     */
+    public void add(Transaction transaction) throws IOException {
+        Amount amount = transaction.getAmount();
+        csv.field(transaction.getName().transactionName);
+        value.setLength(0);
+        value.append(amount.positive ? INCOME_PREFIX : EXPENSE_PREFIX);
+        csv.field(MoneyUtil.appendPlain(value, amount.transactionCents));
+        value.setLength(0);
+        csv.field(appendDate(value, transaction.getDate().transactionDate))
+                .field(transaction.getRemark().transactionRemark)
+                .field(transaction.getCategory().transactionCategory)
+                .endRecord();
+        putRow();
+    }
+
+    /**
+     * Appends {@code date} to {@code builder} in the same form as {@code LocalDate#toString()}, without building a
+     * string.
+     */
+    private static StringBuilder appendDate(StringBuilder builder, LocalDate date) {
+        builder.append(date.getYear()).append('-');
+        appendTwoDigits(builder, date.getMonthValue());
+        builder.append('-');
+        return appendTwoDigits(builder, date.getDayOfMonth());
+    }
+
+    private static StringBuilder appendTwoDigits(StringBuilder builder, int value) {
+        return builder.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    /**
+     * Writes the rest of the rows to the file and closes it.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            encode(true);
+            while (encoder.flush(bytes).isOverflow()) {
+                writeBytes();
+            }
+            writeBytes();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Moves the row being built into the character buffer, encoding the buffer whenever it fills up.
+     */
+    private void putRow() throws IOException {
+        for (int start = 0; start < row.length();) {
+            int end = Math.min(row.length(), start + chars.remaining());
+            row.getChars(start, end, chars.array(), chars.arrayOffset() + chars.position());
+            chars.position(chars.position() + end - start);
+            start = end;
+            if (!chars.hasRemaining()) {
+                encode(false);
+            }
+        }
+        row.setLength(0);
+    }
+
+    /**
+     * Encodes the characters in the character buffer, writing the byte buffer to the file whenever it fills up.
+     * A surrogate pair cut off at the end of the buffer is kept there until the rest of it is put in.
+     *
+     * @throws CharacterCodingException if the characters are not valid UTF-16.
+     */
+    private void encode(boolean isEndOfInput) throws IOException {
+        chars.flip();
+        CoderResult result;
+        while ((result = encoder.encode(chars, bytes, isEndOfInput)).isOverflow()) {
+            writeBytes();
+        }
+        chars.compact();
+        if (result.isError()) {
+            result.throwException();
+        }
+    }
+
+    /**
+     * Writes the encoded bytes to the file and empties the byte buffer.
+     */
+    private void writeBytes() throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        bytes.clear();
+    }
+}
@@ -0,0 +1,351 @@
+package seedu.expensela.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.expensela.commons.csv.CsvTokenizer;
+import seedu.expensela.commons.exceptions.IllegalValueException;
+import seedu.expensela.model.transaction.Transaction;
+
+/**
+ * Reads transactions from a CSV file in the format written by the export command.
+ *
+ * The file is read on the calling thread in blocks of text that end after a complete row, and each block is handed to
+ * a {@code ForkJoinPool}, where its rows are split by a {@link CsvTokenizer} and validated while the next block is
+ * being read. The valid transactions and the rejected rows are collected in the order they appear in the file. A pool
+ * with a single worker gains nothing from handing blocks to it, so blocks are then parsed as they are read.
+ * Reading reports its progress after each block, and stops if the reading thread is interrupted.
+ */
+public class CsvTransactionImporter {
+
+    /** Characters of the file read and handed to a worker at a time. */
+    static final int CHUNK_SIZE = 128 * 1024;
+    /** Longest row that is read, to keep a quoted field that is never closed from reading the rest of the file. */
+    static final int MAX_ROW_LENGTH = 1024 * 1024;
+    static final int COLUMN_COUNT = 5;
+    static final String MESSAGE_WRONG_COLUMN_COUNT = "Expected " + COLUMN_COUNT + " columns but found %1$d";
+    static final String MESSAGE_INVALID_AMOUNT_FORMAT = "Amount should be written as \"+ $12.00\" or \"- $12.00\"";
+    static final String MESSAGE_ROW_TOO_LONG = "A row is longer than " + MAX_ROW_LENGTH
+            + " characters, a quoted field may not be closed";
+    static final String MESSAGE_INTERRUPTED = "Reading the csv file was interrupted";
+
+    private static final String INCOME_PREFIX = "+ $";
+    private static final String EXPENSE_PREFIX = "- $";
+
+    private final ForkJoinPool pool;
+    private final boolean isParallel;
+    /** Enough chunks to keep every worker busy, without holding much unparsed text in memory. */
+    private final int maxChunksInFlight;
+
+    public CsvTransactionImporter() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    CsvTransactionImporter(ForkJoinPool pool) {
+        this.pool = requireNonNull(pool);
+        this.isParallel = pool.getParallelism() > 1;
+        this.maxChunksInFlight = pool.getParallelism() * 2;
+    }
+
+    /**
+     * Reads every row of {@code csvFile} after its header row. Blank lines are ignored.
+     *
+     * @throws IOException if the file cannot be read, or has a row longer than {@link #MAX_ROW_LENGTH}. Rows that
+     *     are not valid transactions do not cause an exception, but are returned as rejected rows.
+     */
+    public Result read(Path csvFile) throws IOException {
+        return read(csvFile, (bytesRead, totalBytes, rowsRead) -> { });
+    }
+
+    /**
+     * Reads every row of {@code csvFile} after its header row like {@link #read(Path)}, telling {@code listener}
+     * how far it has got after each block of the file is read.
+     *
+     * @throws InterruptedIOException if the calling thread is interrupted before the whole file is read.
+     */
+    public Result read(Path csvFile, ProgressListener listener) throws IOException {
+        requireNonNull(csvFile);
+        requireNonNull(listener);
+        Result result = new Result();
+        Deque<ChunkParse> chunksInFlight = new ArrayDeque<>();
+        long totalBytes;
+        try (FileChannel channel = FileChannel.open(csvFile);
+                Reader reader = Channels.newReader(channel, StandardCharsets.UTF_8.newDecoder(), -1)) {
+            totalBytes = channel.size();
+            char[] block = new char[CHUNK_SIZE];
+            int length = 0;
+            boolean isFirstChunk = true;
+            int read;
+            while ((read = reader.read(block, length, block.length - length)) != -1) {
+                length += read;
+                if (length < block.length) {
+                    continue;
+                }
+                int chunkLength = CsvTokenizer.findCompleteRecordsLength(CharBuffer.wrap(block, 0, length));
+                if (chunkLength == 0) {
+                    if (block.length >= MAX_ROW_LENGTH) {
+                        throw new IOException(MESSAGE_ROW_TOO_LONG);
+                    }
+                    block = Arrays.copyOf(block, block.length * 2);
+                    continue;
+                }
+                // the rest of the block is the start of the next row, which the next chunk begins with
+                char[] nextBlock = new char[block.length];
+                System.arraycopy(block, chunkLength, nextBlock, 0, length - chunkLength);
+                handChunk(new ChunkParse(CharBuffer.wrap(block, 0, chunkLength), isFirstChunk), chunksInFlight,
+                        result);
+                isFirstChunk = false;
+                block = nextBlock;
+                length -= chunkLength;
+                listener.onProgress(channel.position(), totalBytes, result.getRowCount());
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException(MESSAGE_INTERRUPTED);
+                }
+            }
+            if (length > 0) {
+                handChunk(new ChunkParse(CharBuffer.wrap(block, 0, length), isFirstChunk), chunksInFlight, result);
+            }
+        } catch (IOException e) {
+            chunksInFlight.forEach(parse -> parse.cancel(false));
+            throw e;
+        }
+        while (!chunksInFlight.isEmpty()) {
+            collect(chunksInFlight.removeFirst(), result);
+        }
+        listener.onProgress(totalBytes, totalBytes, result.getRowCount());
+        return result;
+    }
+
+    /**
+     * Hands {@code parse} to the pool, first collecting the oldest chunk if too many are in flight.
+     * Without a pool to hand it to, the chunk is parsed at once.
+     */
+    private void handChunk(ChunkParse parse, Deque<ChunkParse> chunksInFlight, Result result) {
+        if (!isParallel) {
+            parse.compute();
+            parse.addTo(result);
+            return;
+        }
+        if (chunksInFlight.size() >= maxChunksInFlight) {
+            collect(chunksInFlight.removeFirst(), result);
+        }
+        pool.execute(parse);
+        chunksInFlight.addLast(parse);
+    }
+
+    /**
+     * Waits for {@code parse} to finish and adds what it parsed to {@code result}.
+     */
+    private static void collect(ChunkParse parse, Result result) {
+        parse.join();
+        parse.addTo(result);
+    }
+
+    /**
+     * Returns the transaction in {@code row}, a row of the CSV file.
+     *
+     * @throws IllegalValueException if {@code row} does not hold a valid transaction.
+     */
+    static Transaction parseRow(String row) throws IllegalValueException {
+        CsvTokenizer tokenizer = new CsvTokenizer(CharBuffer.wrap(row));
+        tokenizer.nextRecord();
+        return parseRecord(tokenizer);
+    }
+
+    /**
+     * Returns the transaction in the current record of {@code tokenizer}.
+     *
+     * @throws IllegalValueException if the record does not hold a valid transaction.
+     */
+    private static Transaction parseRecord(CsvTokenizer tokenizer) throws IllegalValueException {
+        if (tokenizer.getFieldCount() != COLUMN_COUNT) {
+            throw new IllegalValueException(String.format(MESSAGE_WRONG_COLUMN_COUNT, tokenizer.getFieldCount()));
+        }
+        String amount = tokenizer.getField(1).toString();
+        boolean isIncome = amount.startsWith(INCOME_PREFIX);
+        if (!isIncome && !amount.startsWith(EXPENSE_PREFIX)) {
+            throw new IllegalValueException(MESSAGE_INVALID_AMOUNT_FORMAT);
+        }
+        try {
+            return new JsonAdaptedTransaction(tokenizer.getField(0).toString(),
+                    amount.substring(INCOME_PREFIX.length()), String.valueOf(isIncome),
+                    tokenizer.getField(2).toString(), tokenizer.getField(3).toString(),
+                    tokenizer.getField(4).toString()).toModelType();
+        } catch (IllegalArgumentException | ArithmeticException | DateTimeException e) {
+            // A value that passes validation but still cannot be converted rejects only its own row.
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns true if the current record of {@code tokenizer} is a line with nothing but whitespace on it.
+     */
+    private static boolean isBlank(CsvTokenizer tokenizer) {
+        if (tokenizer.getFieldCount() != 1) {
+            return false;
+        }
+        CharSequence field = tokenizer.getField(0);
+        for (int i = 0; i < field.length(); i++) {
+            if (field.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes {@code rejectedRows} to {@code reportFile}, each with its line number and the reason it was rejected,
+     * followed by the row as it was in the file.
+     */
+    public static void writeReport(Path reportFile, List<RejectedRow> rejectedRows) throws IOException {
+        requireNonNull(reportFile);
+        try (BufferedWriter writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+            for (RejectedRow rejectedRow : rejectedRows) {
+                writer.write(rejectedRow.toString());
+                writer.newLine();
+                writer.write(rejectedRow.getRow());
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * The transactions read from a CSV file, and the rows that could not be read as transactions.
+     */
+    public static class Result {
+        private final List<Transaction> transactions = new ArrayList<>();
+        private final List<RejectedRow> rejectedRows = new ArrayList<>();
+        /** Lines of the file in the chunks added so far. */
+        private int lineCount;
+
+        public List<Transaction> getTransactions() {
+            return Collections.unmodifiableList(transactions);
+        }
+
+        public List<RejectedRow> getRejectedRows() {
+            return Collections.unmodifiableList(rejectedRows);
+        }
+
+        /**
+         * Returns the number of rows read, whether they were valid transactions or not.
+         */
+        public int getRowCount() {
+            return transactions.size() + rejectedRows.size();
+        }
+    }
+
+    /**
+     * Told how far reading a CSV file has got.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called on the reading thread with the number of bytes of the file read so far, the size of the file, and
+         * the number of rows parsed so far.
+         */
+        void onProgress(long bytesRead, long totalBytes, int rowsRead);
+    }
+
+    /**
+     * A row of a CSV file that does not hold a valid transaction.
+     */
+    public static class RejectedRow {
+        private final int lineNumber;
+        private final String row;
+        private final String reason;
+
+        RejectedRow(int lineNumber, String row, String reason) {
+            this.lineNumber = lineNumber;
+            this.row = row;
+            this.reason = reason;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getRow() {
+            return row;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        @Override
+        public String toString() {
+            return "Line " + lineNumber + ": " + reason;
+        }
+    }
+
+    /**
+     * Parses one chunk of rows, keeping the transactions and the rejected rows apart.
+     */
+    private static class ChunkParse extends RecursiveAction {
+        private final CharBuffer text;
+        private final boolean hasHeader;
+        private final List<Transaction> transactions = new ArrayList<>();
+        /** Rejected rows, numbered from the first line of the chunk. */
+        private final List<RejectedRow> rejectedRows = new ArrayList<>();
+        private int lineCount;
+
+        ChunkParse(CharBuffer text, boolean hasHeader) {
+            this.text = text;
+            this.hasHeader = hasHeader;
+        }
+
+        @Override
+        protected void compute() {
+            CsvTokenizer tokenizer = new CsvTokenizer(text);
+            boolean isHeader = hasHeader;
+            boolean hasRecord = true;
+            while (hasRecord) {
+                try {
+                    hasRecord = tokenizer.nextRecord();
+                    if (hasRecord && !isHeader && !isBlank(tokenizer)) {
+                        transactions.add(parseRecord(tokenizer));
+                    }
+                } catch (IllegalValueException e) {
+                    if (!isHeader) {
+                        rejectedRows.add(new RejectedRow(tokenizer.getLineNumber(), tokenizer.getRecord().toString(),
+                                e.getMessage()));
+                    }
+                }
+                isHeader = false;
+            }
+            lineCount = tokenizer.getLineCount();
+        }
+
+        /**
+         * Adds what this chunk parsed to {@code result}, numbering its rejected rows from the line after those
+         * already in {@code result}. The chunk must have been parsed, after all the chunks before it were added.
+         */
+        void addTo(Result result) {
+            result.transactions.addAll(transactions);
+            for (RejectedRow rejectedRow : rejectedRows) {
+                result.rejectedRows.add(new RejectedRow(result.lineCount + rejectedRow.lineNumber, rejectedRow.row,
+                        rejectedRow.reason));
+            }
+            result.lineCount += lineCount;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package seedu.expensela.storage;
+
+import java.io.IOException;
+
+/**
+ * A save whose data has already been captured, so that it can be written to disk later on another thread.
+ */
+@FunctionalInterface
+public interface DeferredWrite {
+
+    /**
+     * Writes the captured data.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void write() throws IOException;
+}
@@ -0,0 +1,48 @@
+package seedu.expensela.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.expensela.commons.exceptions.DataConversionException;
+import seedu.expensela.model.ReadOnlyExpenseLa;
+
+/**
+ * Converts ExpenseLa data files between the json and binary formats.
+ * The json side is read and written as {@link JournaledExpenseLaStorage} keeps it, journal included.
+ */
+public class ExpenseLaFileConverter {
+
+    /**
+     * Writes the data in the json file {@code jsonFile} to the binary file {@code binaryFile}.
+     *
+     * @return false if {@code jsonFile} does not exist, in which case nothing is written.
+     * @throws DataConversionException if {@code jsonFile} is not in the correct format.
+     */
+    public static boolean jsonToBinary(Path jsonFile, Path binaryFile) throws DataConversionException, IOException {
+        return convert(new JournaledExpenseLaStorage(jsonFile), new BinaryExpenseLaStorage(binaryFile));
+    }
+
+    /**
+     * Writes the data in the binary file {@code binaryFile} to the json file {@code jsonFile}.
+     *
+     * @return false if {@code binaryFile} does not exist, in which case nothing is written.
+     * @throws DataConversionException if {@code binaryFile} is not in the correct format.
+     */
+    public static boolean binaryToJson(Path binaryFile, Path jsonFile) throws DataConversionException, IOException {
+        return convert(new BinaryExpenseLaStorage(binaryFile), new JournaledExpenseLaStorage(jsonFile));
+    }
+
+    /**
+     * Saves the data read from {@code source} to {@code target}, returning false if {@code source} has none.
+     */
+    private static boolean convert(ExpenseLaStorage source, ExpenseLaStorage target)
+            throws DataConversionException, IOException {
+        Optional<ReadOnlyExpenseLa> expenseLa = source.readExpenseLa();
+        if (!expenseLa.isPresent()) {
+            return false;
+        }
+        target.saveExpenseLa(expenseLa.get());
+        return true;
+    }
+}
@@ -42,4 +42,12 @@ public interface ExpenseLaStorage {
      */
     void saveExpenseLa(ReadOnlyExpenseLa expenseLa, Path filePath) throws IOException;
 
+    /**
+     * Captures what {@link #saveExpenseLa(ReadOnlyExpenseLa)} would save of {@code expenseLa} and returns the
+     * write that saves it. The write may be run later on another thread, and need not be run if a write prepared
+     * later is run instead.
+     * @param expenseLa cannot be null.
+     */
+    DeferredWrite prepareSaveExpenseLa(ReadOnlyExpenseLa expenseLa);
+
 }
@@ -43,4 +43,12 @@ public interface GlobalDataStorage {
      */
     void saveGlobalData(ReadOnlyGlobalData globalData, Path filePath) throws IOException;
 
+    /**
+     * Captures {@code globalData} and returns the write that saves it, like
+     * {@link #saveGlobalData(ReadOnlyGlobalData)}. The write may be run later on another thread, and need not be
+     * run if a write prepared later is run instead.
+     * @param globalData cannot be null.
+     */
+    DeferredWrite prepareSaveGlobalData(ReadOnlyGlobalData globalData);
+
 }
@@ -0,0 +1,342 @@
+package seedu.expensela.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+
+import seedu.expensela.commons.core.LogsCenter;
+import seedu.expensela.commons.exceptions.DataConversionException;
+import seedu.expensela.commons.exceptions.IllegalValueException;
+import seedu.expensela.commons.util.FileUtil;
+import seedu.expensela.commons.util.JsonUtil;
+import seedu.expensela.model.ExpenseLa;
+import seedu.expensela.model.ReadOnlyExpenseLa;
+import seedu.expensela.model.monthlydata.MonthlyData;
+import seedu.expensela.model.transaction.Transaction;
+
+/**
+ * A class to access ExpenseLa data stored as a json snapshot plus a journal of the changes made since the
+ * snapshot was written.
+ *
+ * The first save of an {@code ExpenseLa} writes a full snapshot. After that, changes to its transaction list and
+ * monthly data are appended to the journal as one compact json record per line, so a save costs about as much as
+ * the change rather than the whole ledger. Once the journal holds more than a threshold number of records, the
+ * next save writes a new snapshot in its place.
+ *
+ * Changes are captured when a save is prepared and written when the prepared write runs, so the writing can be
+ * left to a background thread while the ledger keeps changing.
+ *
+ * Reading loads the snapshot and replays the journal records that are newer than it. A record that cannot be
+ * parsed, such as one cut short by a crash, ends the replay. Records made after reading are numbered on from the
+ * newest record read, so a snapshot written later is newer than every record left over in the journal.
+ */
+public class JournaledExpenseLaStorage implements ExpenseLaStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledExpenseLaStorage.class);
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final int compactionThreshold;
+
+    /** Guards the snapshot and journal files. */
+    private final Object fileLock = new Object();
+    /** Guards the snapshot and records that have been captured but not written yet. */
+    private final Object pendingLock = new Object();
+    private Snapshot unwrittenSnapshot;
+    private final List<JsonAdaptedJournalRecord> unwrittenRecords = new ArrayList<>();
+    private volatile boolean hasWriteFailed;
+
+    // The rest is only used by the thread that prepares saves.
+    private final ListChangeListener<Transaction> changeListener = this::recordChange;
+    private final List<JsonAdaptedJournalRecord> pendingRecords = new ArrayList<>();
+    private ReadOnlyExpenseLa tracked;
+    private boolean needsSnapshot = true;
+    private MonthlyData lastMonthlyData;
+    private long lastSequence;
+    private int journalRecords;
+
+    public JournaledExpenseLaStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    JournaledExpenseLaStorage(Path filePath, int compactionThreshold) {
+        this.filePath = requireNonNull(filePath);
+        this.journalPath = journalPathOf(filePath);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getExpenseLaFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyExpenseLa> readExpenseLa() throws DataConversionException {
+        return readExpenseLa(filePath);
+    }
+
+    /**
+     * Similar to {@link #readExpenseLa()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or a journal record is not in the correct format.
+     */
+    public Optional<ReadOnlyExpenseLa> readExpenseLa(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            StreamingJsonExpenseLa snapshot = StreamingJsonExpenseLa.read(filePath);
+            ExpenseLa expenseLa = snapshot.getExpenseLa();
+            long newestSequence = replayJournal(expenseLa, journalPathOf(filePath), snapshot.getJournalSequence());
+            if (filePath.equals(this.filePath)) {
+                // A crash between writing a snapshot and deleting the journal leaves the old records behind,
+                // so the next snapshot must be numbered past them or they would be replayed onto it.
+                lastSequence = Math.max(lastSequence, newestSequence);
+            }
+            return Optional.of(expenseLa);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading " + filePath + " or its journal: " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    @Override
+    public void saveExpenseLa(ReadOnlyExpenseLa expenseLa) throws IOException {
+        prepareSaveExpenseLa(expenseLa).write();
+    }
+
+    /**
+     * Similar to {@link #saveExpenseLa(ReadOnlyExpenseLa)}.
+     * Saving to a location other than this storage's own writes a full snapshot there without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveExpenseLa(ReadOnlyExpenseLa expenseLa, Path filePath) throws IOException {
+        requireNonNull(expenseLa);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveExpenseLa(expenseLa);
+            return;
+        }
+        StreamingJsonExpenseLa.write(filePath, expenseLa.getTransactionList(), expenseLa.getMonthlyData(), 0);
+        Files.deleteIfExists(journalPathOf(filePath));
+    }
+
+    /**
+     * Captures the changes made to {@code expenseLa} since the last prepared save, or a snapshot of it if one is
+     * due, and returns a write that saves everything captured so far that has not been written yet.
+     */
+    @Override
+    public DeferredWrite prepareSaveExpenseLa(ReadOnlyExpenseLa expenseLa) {
+        requireNonNull(expenseLa);
+
+        if (expenseLa != tracked) {
+            track(expenseLa);
+        }
+        if (hasWriteFailed) {
+            // Records may have been lost, so the journal can no longer be trusted to follow on from the snapshot.
+            hasWriteFailed = false;
+            needsSnapshot = true;
+            pendingRecords.clear();
+        }
+
+        MonthlyData monthlyData = expenseLa.getMonthlyData();
+        if (!needsSnapshot && !isSameMonthlyData(monthlyData, lastMonthlyData)) {
+            pendingRecords.add(JsonAdaptedJournalRecord.monthlyData(++lastSequence, monthlyData));
+        }
+        lastMonthlyData = new MonthlyData(monthlyData);
+        journalRecords += pendingRecords.size();
+
+        if (needsSnapshot || journalRecords > compactionThreshold) {
+            Snapshot snapshot = new Snapshot(new ArrayList<>(expenseLa.getTransactionList()), lastMonthlyData,
+                    lastSequence);
+            synchronized (pendingLock) {
+                unwrittenSnapshot = snapshot;
+                unwrittenRecords.clear();
+            }
+            needsSnapshot = false;
+            journalRecords = 0;
+        } else if (!pendingRecords.isEmpty()) {
+            synchronized (pendingLock) {
+                unwrittenRecords.addAll(pendingRecords);
+            }
+        }
+        pendingRecords.clear();
+        return this::writeUnwritten;
+    }
+
+    static Path journalPathOf(Path filePath) {
+        return Paths.get(filePath.toString() + JOURNAL_SUFFIX);
+    }
+
+    /**
+     * Starts recording the changes made to {@code expenseLa} instead of the one tracked so far.
+     */
+    private void track(ReadOnlyExpenseLa expenseLa) {
+        if (tracked != null) {
+            tracked.getTransactionList().removeListener(changeListener);
+        }
+        tracked = expenseLa;
+        tracked.getTransactionList().addListener(changeListener);
+        pendingRecords.clear();
+        needsSnapshot = true;
+    }
+
+    /**
+     * Turns {@code change} to the tracked transaction list into journal records, to be captured by
+     * the next prepared save.
+     */
+    private void recordChange(ListChangeListener.Change<? extends Transaction> change) {
+        int limit = change.getList().size();
+        while (change.next() && !needsSnapshot) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            List<? extends Transaction> removed = change.getRemoved();
+            List<? extends Transaction> added = change.getAddedSubList();
+            if (pendingRecords.size() + removed.size() + added.size() > limit) {
+                // Bulk changes such as a reset are cheaper to save as a snapshot than record by record.
+                needsSnapshot = true;
+                pendingRecords.clear();
+            } else if (removed.size() == 1 && added.size() == 1) {
+                pendingRecords.add(JsonAdaptedJournalRecord.edit(++lastSequence, removed.get(0), added.get(0)));
+            } else {
+                for (Transaction transaction : removed) {
+                    pendingRecords.add(JsonAdaptedJournalRecord.delete(++lastSequence, transaction));
+                }
+                for (Transaction transaction : added) {
+                    pendingRecords.add(JsonAdaptedJournalRecord.add(++lastSequence, transaction));
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the snapshot and journal records that have been captured but not written yet.
+     * Once a write has failed, records are not appended until a new snapshot has been written.
+     */
+    private void writeUnwritten() throws IOException {
+        synchronized (fileLock) {
+            Snapshot snapshot;
+            List<JsonAdaptedJournalRecord> records;
+            synchronized (pendingLock) {
+                snapshot = unwrittenSnapshot;
+                records = new ArrayList<>(unwrittenRecords);
+                unwrittenSnapshot = null;
+                unwrittenRecords.clear();
+            }
+            if (snapshot == null && (records.isEmpty() || hasWriteFailed)) {
+                return;
+            }
+
+            try {
+                if (snapshot != null) {
+                    StreamingJsonExpenseLa.write(filePath, snapshot.transactions, snapshot.monthlyData,
+                            snapshot.sequence);
+                    Files.deleteIfExists(journalPath);
+                }
+                if (!records.isEmpty()) {
+                    appendToJournal(records);
+                }
+            } catch (IOException ioe) {
+                // The journal may now end with a partial record, so start again from a snapshot.
+                hasWriteFailed = true;
+                throw ioe;
+            }
+        }
+    }
+
+    /**
+     * Appends {@code records} to the journal, one per line.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        FileUtil.createParentDirsOfFile(journalPath);
+        try (BufferedWriter writer = Files.newBufferedWriter(journalPath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (JsonAdaptedJournalRecord record : records) {
+                writer.write(JsonUtil.toCompactJsonString(record));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalPath} that are newer than {@code snapshotSequence}
+     * to {@code expenseLa}, in order, and returns the sequence number of the newest record or snapshot read.
+     */
+    private static long replayJournal(ExpenseLa expenseLa, Path journalPath, long snapshotSequence)
+            throws IOException, IllegalValueException {
+        long newestSequence = snapshotSequence;
+        if (!Files.exists(journalPath)) {
+            return newestSequence;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                JsonAdaptedJournalRecord record;
+                try {
+                    record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+                } catch (IOException e) {
+                    logger.warning("Ignoring the rest of journal " + journalPath + " from an unreadable record: "
+                            + e.getMessage());
+                    return newestSequence;
+                }
+                if (record.getSequence() > snapshotSequence) {
+                    record.applyTo(expenseLa);
+                }
+                newestSequence = Math.max(newestSequence, record.getSequence());
+            }
+        }
+        return newestSequence;
+    }
+
+    private static boolean isSameMonthlyData(MonthlyData first, MonthlyData second) {
+        return first.getBudget().budgetCents == second.getBudget().budgetCents
+                && first.getExpense().expenseCents == second.getExpense().expenseCents
+                && first.getIncome().incomeCents == second.getIncome().incomeCents;
+    }
+
+    /**
+     * The transactions and monthly data of an {@code ExpenseLa} as they were after the journal record numbered
+     * {@code sequence} was made.
+     */
+    private static class Snapshot {
+        private final List<Transaction> transactions;
+        private final MonthlyData monthlyData;
+        private final long sequence;
+
+        Snapshot(List<Transaction> transactions, MonthlyData monthlyData, long sequence) {
+            this.transactions = transactions;
+            this.monthlyData = monthlyData;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.expensela.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.expensela.commons.exceptions.IllegalValueException;
+import seedu.expensela.model.ExpenseLa;
+import seedu.expensela.model.monthlydata.MonthlyData;
+import seedu.expensela.model.transaction.Transaction;
+
+/**
+ * Jackson-friendly version of one change made to an {@link ExpenseLa}, written as a line of the journal kept by
+ * {@link JournaledExpenseLaStorage}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String OPERATION_ADD = "add";
+    public static final String OPERATION_DELETE = "delete";
+    public static final String OPERATION_EDIT = "edit";
+    public static final String OPERATION_MONTHLY_DATA = "monthlyData";
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_OPERATION = "Journal record operation %s is not known!";
+
+    private final long sequence;
+    private final String operation;
+    private final JsonAdaptedTransaction transaction;
+    private final JsonAdaptedTransaction oldTransaction;
+    private final JsonAdaptedMonthlyData monthlyData;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("sequence") long sequence,
+                                    @JsonProperty("operation") String operation,
+                                    @JsonProperty("transaction") JsonAdaptedTransaction transaction,
+                                    @JsonProperty("oldTransaction") JsonAdaptedTransaction oldTransaction,
+                                    @JsonProperty("monthlyData") JsonAdaptedMonthlyData monthlyData) {
+        this.sequence = sequence;
+        this.operation = operation;
+        this.transaction = transaction;
+        this.oldTransaction = oldTransaction;
+        this.monthlyData = monthlyData;
+    }
+
+    /**
+     * Returns a record of {@code transaction} being added.
+     */
+    public static JsonAdaptedJournalRecord add(long sequence, Transaction transaction) {
+        return new JsonAdaptedJournalRecord(sequence, OPERATION_ADD, new JsonAdaptedTransaction(transaction),
+                null, null);
+    }
+
+    /**
+     * Returns a record of {@code transaction} being deleted.
+     */
+    public static JsonAdaptedJournalRecord delete(long sequence, Transaction transaction) {
+        return new JsonAdaptedJournalRecord(sequence, OPERATION_DELETE, new JsonAdaptedTransaction(transaction),
+                null, null);
+    }
+
+    /**
+     * Returns a record of {@code oldTransaction} being replaced by {@code transaction}.
+     */
+    public static JsonAdaptedJournalRecord edit(long sequence, Transaction oldTransaction, Transaction transaction) {
+        return new JsonAdaptedJournalRecord(sequence, OPERATION_EDIT, new JsonAdaptedTransaction(transaction),
+                new JsonAdaptedTransaction(oldTransaction), null);
+    }
+
+    /**
+     * Returns a record of the monthly data being set to {@code monthlyData}.
+     */
+    public static JsonAdaptedJournalRecord monthlyData(long sequence, MonthlyData monthlyData) {
+        return new JsonAdaptedJournalRecord(sequence, OPERATION_MONTHLY_DATA, null, null,
+                new JsonAdaptedMonthlyData(monthlyData));
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Applies this change to {@code expenseLa}.
+     * Applying a record more than once leaves {@code expenseLa} as applying it once does, so records that are
+     * already part of a snapshot can be replayed safely.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the record.
+     */
+    public void applyTo(ExpenseLa expenseLa) throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+        switch (operation) {
+        case OPERATION_ADD:
+            addIfAbsent(expenseLa, toModelType(transaction, "transaction"));
+            break;
+        case OPERATION_DELETE:
+            deleteIfPresent(expenseLa, toModelType(transaction, "transaction"));
+            break;
+        case OPERATION_EDIT:
+            Transaction target = toModelType(oldTransaction, "oldTransaction");
+            Transaction edited = toModelType(transaction, "transaction");
+            if (expenseLa.hasTransaction(target) && !expenseLa.hasTransaction(edited)) {
+                expenseLa.setTransaction(target, edited);
+            } else {
+                deleteIfPresent(expenseLa, target);
+                addIfAbsent(expenseLa, edited);
+            }
+            break;
+        case OPERATION_MONTHLY_DATA:
+            if (monthlyData == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "monthlyData"));
+            }
+            expenseLa.setMonthlyData(monthlyData.toModelType());
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, operation));
+        }
+    }
+
+    /**
+     * Converts {@code transaction}, which was read from the field {@code fieldName}, into a model transaction.
+     */
+    private static Transaction toModelType(JsonAdaptedTransaction transaction, String fieldName)
+            throws IllegalValueException {
+        if (transaction == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return transaction.toModelType();
+    }
+
+    private static void addIfAbsent(ExpenseLa expenseLa, Transaction transaction) {
+        if (!expenseLa.hasTransaction(transaction)) {
+            expenseLa.addTransaction(transaction);
+        }
+    }
+
+    private static void deleteIfPresent(ExpenseLa expenseLa, Transaction transaction) {
+        if (expenseLa.hasTransaction(transaction)) {
+            expenseLa.removeTransaction(transaction);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.expensela.commons.exceptions.IllegalValueException;
+import seedu.expensela.commons.util.MoneyUtil;
 import seedu.expensela.model.monthlydata.Budget;
 import seedu.expensela.model.monthlydata.Expense;
 import seedu.expensela.model.monthlydata.Income;
@@ -35,9 +36,9 @@ public class JsonAdaptedMonthlyData {
      * Converts a given {@code Transaction} into this class for Jackson use.
      */
     public JsonAdaptedMonthlyData(MonthlyData source) {
-        budget = source.getBudget().budgetAmount.toString();
-        expense = source.getExpense().expenseAmount.toString();
-        income = source.getIncome().incomeAmount.toString();
+        budget = MoneyUtil.toPlainString(source.getBudget().budgetCents);
+        expense = MoneyUtil.toPlainString(source.getExpense().expenseCents);
+        income = MoneyUtil.toPlainString(source.getIncome().incomeCents);
     }
 
     /**
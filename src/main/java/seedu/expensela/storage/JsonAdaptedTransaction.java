@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.expensela.commons.exceptions.IllegalValueException;
+import seedu.expensela.commons.util.MoneyUtil;
 import seedu.expensela.model.transaction.Amount;
 import seedu.expensela.model.transaction.Category;
 import seedu.expensela.model.transaction.Date;
@@ -45,7 +46,7 @@ class JsonAdaptedTransaction {
      */
     public JsonAdaptedTransaction(Transaction source) {
         name = source.getName().transactionName;
-        amount = source.getAmount().transactionAmount.toString();
+        amount = MoneyUtil.toPlainString(source.getAmount().transactionCents);
         positive = String.valueOf(source.getAmount().positive);
         date = source.getDate().transactionDate.toString();
         remark = source.getRemark().transactionRemark;
@@ -65,7 +66,7 @@ class JsonAdaptedTransaction {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.of(name);
 
         if (amount == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Amount.class.getSimpleName()));
@@ -89,7 +90,7 @@ class JsonAdaptedTransaction {
         if (!Remark.isValidRemark(remark)) {
             throw new IllegalValueException(Remark.MESSAGE_CONSTRAINTS);
         }
-        final Remark modelRemark = new Remark(remark);
+        final Remark modelRemark = Remark.of(remark);
 
         if (category == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -98,7 +99,7 @@ class JsonAdaptedTransaction {
         if (!Category.isValidCategory(category)) {
             throw new IllegalValueException(Category.MESSAGE_CONSTRAINTS);
         }
-        final Category modelCategory = new Category(category);
+        final Category modelCategory = Category.of(category);
 
         return new Transaction(modelName, modelAmount, modelDate, modelRemark, modelCategory);
     }
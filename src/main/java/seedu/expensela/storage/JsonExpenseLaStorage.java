@@ -3,19 +3,23 @@ package seedu.expensela.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.expensela.commons.core.LogsCenter;
 import seedu.expensela.commons.exceptions.DataConversionException;
 import seedu.expensela.commons.exceptions.IllegalValueException;
-import seedu.expensela.commons.util.FileUtil;
-import seedu.expensela.commons.util.JsonUtil;
 import seedu.expensela.model.ReadOnlyExpenseLa;
+import seedu.expensela.model.monthlydata.MonthlyData;
+import seedu.expensela.model.transaction.Transaction;
 
 /**
  * A class to access ExpenseLa data stored as a json file on the hard disk.
+ * The file is read and written one transaction at a time, through {@link StreamingJsonExpenseLa}.
  */
 public class JsonExpenseLaStorage implements ExpenseLaStorage {
 
@@ -45,17 +49,19 @@ public class JsonExpenseLaStorage implements ExpenseLaStorage {
     public Optional<ReadOnlyExpenseLa> readExpenseLa(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableExpenseLa> jsonExpenseLa = JsonUtil.readJsonFile(
-                filePath, JsonSerializableExpenseLa.class);
-        if (!jsonExpenseLa.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonExpenseLa.get().toModelType());
+            return Optional.of(StreamingJsonExpenseLa.read(filePath).getExpenseLa());
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         }
     }
 
@@ -73,8 +79,20 @@ public class JsonExpenseLaStorage implements ExpenseLaStorage {
         requireNonNull(expenseLa);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableExpenseLa(expenseLa), filePath);
+        StreamingJsonExpenseLa.write(filePath, expenseLa.getTransactionList(), expenseLa.getMonthlyData(), 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the list of transactions is copied here. Converting them to json is left to the write.
+     */
+    @Override
+    public DeferredWrite prepareSaveExpenseLa(ReadOnlyExpenseLa expenseLa) {
+        requireNonNull(expenseLa);
+
+        List<Transaction> transactions = new ArrayList<>(expenseLa.getTransactionList());
+        MonthlyData monthlyData = new MonthlyData(expenseLa.getMonthlyData());
+        return () -> StreamingJsonExpenseLa.write(filePath, transactions, monthlyData, 0);
     }
 
 }
@@ -78,4 +78,15 @@ public class JsonGlobalDataStorage implements GlobalDataStorage {
         JsonUtil.saveJsonFile(new JsonSerializableGlobalData(globalData), filePath);
     }
 
+    @Override
+    public DeferredWrite prepareSaveGlobalData(ReadOnlyGlobalData globalData) {
+        requireNonNull(globalData);
+
+        JsonSerializableGlobalData data = new JsonSerializableGlobalData(globalData);
+        return () -> {
+            FileUtil.createIfMissing(filePath);
+            JsonUtil.saveJsonFile(data, filePath);
+        };
+    }
+
 }
@@ -13,6 +13,7 @@ import seedu.expensela.model.ExpenseLa;
 import seedu.expensela.model.ReadOnlyExpenseLa;
 import seedu.expensela.model.monthlydata.MonthlyData;
 import seedu.expensela.model.transaction.Transaction;
+import seedu.expensela.model.transaction.exceptions.DuplicateTransactionException;
 
 /**
  * An Immutable ExpenseLa that is serializable to JSON format.
@@ -24,15 +25,19 @@ class JsonSerializableExpenseLa {
 
     private final List<JsonAdaptedTransaction> transactions = new ArrayList<>();
     private final JsonAdaptedMonthlyData monthlyData;
+    /** Sequence number of the last journal record already applied to this data, or 0 if none. */
+    private final long journalSequence;
 
     /**
      * Constructs a {@code JsonSerializableExpenseLa} with the given transactions.
      */
     @JsonCreator
     public JsonSerializableExpenseLa(@JsonProperty("transactions") List<JsonAdaptedTransaction> transactions,
-                                     @JsonProperty("monthlyData") JsonAdaptedMonthlyData monthlyData) {
+                                     @JsonProperty("monthlyData") JsonAdaptedMonthlyData monthlyData,
+                                     @JsonProperty("journalSequence") Long journalSequence) {
         this.transactions.addAll(transactions);
         this.monthlyData = monthlyData;
+        this.journalSequence = journalSequence == null ? 0 : journalSequence;
     }
 
     /**
@@ -41,9 +46,20 @@ class JsonSerializableExpenseLa {
      * @param source future changes to this will not affect the created {@code JsonSerializableExpenseLa}.
      */
     public JsonSerializableExpenseLa(ReadOnlyExpenseLa source) {
-        transactions.addAll(source.getTransactionList().stream().map(JsonAdaptedTransaction::new)
-                .collect(Collectors.toList()));
-        monthlyData = new JsonAdaptedMonthlyData(source.getMonthlyData());
+        this(source.getTransactionList(), source.getMonthlyData(), 0);
+    }
+
+    /**
+     * Converts the given transactions and monthly data into this class for Jackson use.
+     */
+    public JsonSerializableExpenseLa(List<Transaction> transactions, MonthlyData monthlyData, long journalSequence) {
+        this.transactions.addAll(transactions.stream().map(JsonAdaptedTransaction::new).collect(Collectors.toList()));
+        this.monthlyData = new JsonAdaptedMonthlyData(monthlyData);
+        this.journalSequence = journalSequence;
+    }
+
+    public long getJournalSequence() {
+        return journalSequence;
     }
 
     /**
@@ -53,16 +69,25 @@ class JsonSerializableExpenseLa {
      */
     public ExpenseLa toModelType() throws IllegalValueException {
         ExpenseLa expenseLa = new ExpenseLa();
-        for (JsonAdaptedTransaction jsonAdaptedTransaction : transactions) {
-            Transaction transaction = jsonAdaptedTransaction.toModelType();
-            if (expenseLa.hasTransaction(transaction)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_TRANSACTION);
-            }
-            expenseLa.addTransaction(transaction);
-        }
+        List<Transaction> modelTransactions = ParallelTransactionConverter.convertAll(transactions);
+        addAllOrReject(expenseLa, modelTransactions);
         MonthlyData monthlyData = this.monthlyData.toModelType();
         expenseLa.setMonthlyData(monthlyData);
         return expenseLa;
     }
 
+    /**
+     * Adds {@code transactions} to the empty {@code expenseLa} in one bulk call, which sorts them once and checks
+     * for duplicates through the list's identity index.
+     *
+     * @throws IllegalValueException if {@code transactions} contains duplicates.
+     */
+    static void addAllOrReject(ExpenseLa expenseLa, List<Transaction> transactions) throws IllegalValueException {
+        try {
+            expenseLa.addTransactions(transactions);
+        } catch (DuplicateTransactionException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_TRANSACTION, e);
+        }
+    }
+
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.expensela.commons.exceptions.IllegalValueException;
+import seedu.expensela.commons.util.MoneyUtil;
 import seedu.expensela.model.Balance;
 import seedu.expensela.model.GlobalData;
 import seedu.expensela.model.ReadOnlyGlobalData;
@@ -50,8 +51,10 @@ public class JsonSerializableGlobalData {
     public JsonSerializableGlobalData(ReadOnlyGlobalData source) {
         transactions.addAll(source.getRecurringTransactionList().stream().map(JsonAdaptedTransaction::new)
                 .collect(Collectors.toList()));
-        budget = source.getRecurringBudget() != null ? source.getRecurringBudget().budgetAmount.toString() : "null";
-        totalBalance = source.getTotalBalance().balanceAmount.toString();
+        budget = source.getRecurringBudget() != null
+                ? MoneyUtil.toPlainString(source.getRecurringBudget().budgetCents)
+                : "null";
+        totalBalance = MoneyUtil.toPlainString(source.getTotalBalance().balanceCents);
         date = source.getLastUpdatedDate().toString();
     }
 
@@ -66,8 +69,14 @@ public class JsonSerializableGlobalData {
             Transaction transaction = jsonAdaptedTransaction.toModelType();
             globalData.addTransaction(transaction);
         }
+        if (!budget.equals("null") && !Budget.isValidAmount(budget)) {
+            throw new IllegalValueException(Budget.MESSAGE_CONSTRAINTS);
+        }
         globalData.setRecurringBudget(!budget.equals("null") ? new Budget(budget) : null);
         globalData.setLastUpdatedDate(LocalDate.parse(date));
+        if (!Balance.isValidAmount(totalBalance)) {
+            throw new IllegalValueException(Balance.MESSAGE_CONSTRAINTS);
+        }
         globalData.setTotalBalance(new Balance(totalBalance));
         return globalData;
     }
@@ -0,0 +1,78 @@
+package seedu.expensela.storage;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.expensela.commons.exceptions.IllegalValueException;
+import seedu.expensela.model.monthlydata.MonthlyData;
+
+/**
+ * The months stored by a {@link PartitionedExpenseLaStorage} and its monthly data, in a form serializable to JSON.
+ */
+class JsonSerializablePartitionManifest {
+
+    public static final String MESSAGE_INVALID_MONTH = "Partition manifest lists an invalid month: %s";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Partition manifest %s field is missing!";
+
+    private final List<String> months = new ArrayList<>();
+    private final JsonAdaptedMonthlyData monthlyData;
+
+    /**
+     * Constructs a {@code JsonSerializablePartitionManifest} with the given months and monthly data.
+     */
+    @JsonCreator
+    public JsonSerializablePartitionManifest(@JsonProperty("months") List<String> months,
+                                             @JsonProperty("monthlyData") JsonAdaptedMonthlyData monthlyData) {
+        if (months != null) {
+            this.months.addAll(months);
+        }
+        this.monthlyData = monthlyData;
+    }
+
+    /**
+     * Converts the given months and monthly data into this class for Jackson use.
+     */
+    public JsonSerializablePartitionManifest(Collection<YearMonth> months, MonthlyData monthlyData) {
+        for (YearMonth month : new TreeSet<>(months)) {
+            this.months.add(month.toString());
+        }
+        this.monthlyData = new JsonAdaptedMonthlyData(monthlyData);
+    }
+
+    /**
+     * Returns the months listed in this manifest.
+     *
+     * @throws IllegalValueException if a month is not of the form yyyy-MM.
+     */
+    public Set<YearMonth> getMonths() throws IllegalValueException {
+        Set<YearMonth> result = new TreeSet<>();
+        for (String month : months) {
+            try {
+                result.add(YearMonth.parse(month));
+            } catch (DateTimeParseException e) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_MONTH, month));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the monthly data in this manifest.
+     *
+     * @throws IllegalValueException if it is missing or violates any data constraints.
+     */
+    public MonthlyData getMonthlyData() throws IllegalValueException {
+        if (monthlyData == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "monthlyData"));
+        }
+        return monthlyData.toModelType();
+    }
+}
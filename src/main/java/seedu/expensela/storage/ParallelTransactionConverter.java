@@ -0,0 +1,154 @@
+package seedu.expensela.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.expensela.commons.exceptions.IllegalValueException;
+import seedu.expensela.model.transaction.Transaction;
+
+/**
+ * Validates and converts {@code JsonAdaptedTransaction}s into the model's {@code Transaction}s on a
+ * {@code ForkJoinPool}, one chunk of rows per task, while the caller carries on adding rows.
+ *
+ * The converted transactions keep the order the rows were added in. If several rows are invalid, the error
+ * reported is the one for the first of them, the same as converting the rows one by one would report.
+ * A pool with a single worker gains nothing from handing rows to it, so rows are then converted as they are added.
+ */
+class ParallelTransactionConverter {
+
+    static final int CHUNK_SIZE = 2048;
+
+    private final ForkJoinPool pool;
+    private final boolean isParallel;
+    /** Enough chunks to keep every worker busy, without holding many unconverted rows in memory. */
+    private final int maxChunksInFlight;
+    private final Deque<ChunkConversion> chunksInFlight = new ArrayDeque<>();
+    private final List<Transaction> converted = new ArrayList<>();
+    private List<JsonAdaptedTransaction> chunk = new ArrayList<>(CHUNK_SIZE);
+
+    ParallelTransactionConverter() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    ParallelTransactionConverter(ForkJoinPool pool) {
+        this.pool = requireNonNull(pool);
+        this.isParallel = pool.getParallelism() > 1;
+        this.maxChunksInFlight = pool.getParallelism() * 2;
+    }
+
+    /**
+     * Converts all of {@code adapted}, keeping their order.
+     *
+     * @throws IllegalValueException for the first of them that is invalid.
+     */
+    static List<Transaction> convertAll(List<JsonAdaptedTransaction> adapted) throws IllegalValueException {
+        ParallelTransactionConverter converter = new ParallelTransactionConverter();
+        for (JsonAdaptedTransaction jsonAdaptedTransaction : adapted) {
+            converter.add(jsonAdaptedTransaction);
+        }
+        return converter.finish();
+    }
+
+    /**
+     * Adds {@code adapted} to be converted after the rows added before it.
+     *
+     * @throws IllegalValueException if an earlier row has already been found to be invalid.
+     */
+    void add(JsonAdaptedTransaction adapted) throws IllegalValueException {
+        requireNonNull(adapted);
+        if (!isParallel) {
+            converted.add(adapted.toModelType());
+            return;
+        }
+
+        chunk.add(adapted);
+        if (chunk.size() == CHUNK_SIZE) {
+            submitChunk();
+        }
+    }
+
+    /**
+     * Waits for every row added so far to be converted, and returns the transactions in the order the rows were
+     * added.
+     *
+     * @throws IllegalValueException for the first row added that is invalid.
+     */
+    List<Transaction> finish() throws IllegalValueException {
+        if (chunksInFlight.isEmpty()) {
+            // A lone chunk is converted faster here than by handing it to another thread.
+            ChunkConversion conversion = new ChunkConversion(chunk);
+            List<Transaction> transactions = conversion.compute();
+            if (conversion.error != null) {
+                throw conversion.error;
+            }
+            converted.addAll(transactions);
+            chunk = new ArrayList<>(CHUNK_SIZE);
+        } else if (!chunk.isEmpty()) {
+            submitChunk();
+        }
+        while (!chunksInFlight.isEmpty()) {
+            collectOldestChunk();
+        }
+        return converted;
+    }
+
+    /**
+     * Hands the current chunk to the pool, first waiting for the oldest chunk if too many are in flight.
+     */
+    private void submitChunk() throws IllegalValueException {
+        if (chunksInFlight.size() >= maxChunksInFlight) {
+            collectOldestChunk();
+        }
+        ChunkConversion conversion = new ChunkConversion(chunk);
+        pool.execute(conversion);
+        chunksInFlight.addLast(conversion);
+        chunk = new ArrayList<>(CHUNK_SIZE);
+    }
+
+    /**
+     * Waits for the oldest chunk in flight and adds its transactions to the converted ones.
+     * If it has an invalid row, the chunks after it are abandoned and that row's error is thrown.
+     */
+    private void collectOldestChunk() throws IllegalValueException {
+        ChunkConversion oldest = chunksInFlight.removeFirst();
+        List<Transaction> transactions = oldest.join();
+        if (oldest.error != null) {
+            chunksInFlight.forEach(conversion -> conversion.cancel(false));
+            chunksInFlight.clear();
+            throw oldest.error;
+        }
+        converted.addAll(transactions);
+    }
+
+    /**
+     * Converts one chunk of rows in order, stopping at the first invalid row.
+     */
+    private static class ChunkConversion extends RecursiveTask<List<Transaction>> {
+        private final List<JsonAdaptedTransaction> rows;
+        private IllegalValueException error;
+
+        ChunkConversion(List<JsonAdaptedTransaction> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        protected List<Transaction> compute() {
+            List<Transaction> transactions = new ArrayList<>(rows.size());
+            for (JsonAdaptedTransaction row : rows) {
+                try {
+                    transactions.add(row.toModelType());
+                } catch (IllegalValueException e) {
+                    error = e;
+                    break;
+                }
+            }
+            return transactions;
+        }
+    }
+}
@@ -0,0 +1,491 @@
+package seedu.expensela.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+
+import seedu.expensela.commons.core.LogsCenter;
+import seedu.expensela.commons.exceptions.DataConversionException;
+import seedu.expensela.commons.exceptions.IllegalValueException;
+import seedu.expensela.commons.util.JsonUtil;
+import seedu.expensela.model.ExpenseLa;
+import seedu.expensela.model.ReadOnlyExpenseLa;
+import seedu.expensela.model.TransactionHistory;
+import seedu.expensela.model.monthlydata.MonthlyData;
+import seedu.expensela.model.transaction.Transaction;
+
+/**
+ * A class to access ExpenseLa data stored as one json file per month of transactions, plus a manifest listing the
+ * months and holding the monthly data.
+ *
+ * The files are kept in a directory next to the ExpenseLa file path, named after it. Reading loads only the current
+ * and previous month; older months are loaded into the model when it asks for them. A save rewrites only the
+ * months whose transactions changed since the last save, and the manifest.
+ *
+ * If there is no manifest yet but there is a json ExpenseLa file at the file path, that file is read instead and
+ * split into months by the first save.
+ */
+public class PartitionedExpenseLaStorage implements ExpenseLaStorage, TransactionHistory {
+
+    private static final String PARTITIONS_SUFFIX = "-partitions";
+    private static final String MANIFEST_FILE = "manifest.json";
+    private static final String PARTITION_EXTENSION = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(PartitionedExpenseLaStorage.class);
+
+    private final Path filePath;
+    private final Path directory;
+
+    /** Guards the partition and manifest files. */
+    private final Object fileLock = new Object();
+    /** Guards the partitions and manifest that have been captured but not written yet. */
+    private final Object pendingLock = new Object();
+    private final Map<YearMonth, Partition> unwrittenPartitions = new HashMap<>();
+    private JsonSerializablePartitionManifest unwrittenManifest;
+    private volatile boolean hasWriteFailed;
+    /** Months read ahead of being loaded, by any thread. */
+    private final Map<YearMonth, List<Transaction>> prefetched = new ConcurrentHashMap<>();
+
+    // The rest is only used by the thread that reads, loads months and prepares saves.
+    private final ListChangeListener<Transaction> changeListener = this::recordChange;
+    private final Set<YearMonth> storedMonths = new HashSet<>();
+    private final Set<YearMonth> unloadedMonths = new HashSet<>();
+    private final Set<YearMonth> dirtyMonths = new HashSet<>();
+    /** The data returned by the last read of the partitions, or null if it did not come from partitions. */
+    private ExpenseLa lastRead;
+    private ExpenseLa attached;
+    private ReadOnlyExpenseLa tracked;
+    private MonthlyData lastMonthlyData;
+    private boolean isLoading;
+
+    public PartitionedExpenseLaStorage(Path filePath) {
+        this.filePath = requireNonNull(filePath);
+        this.directory = partitionDirectoryOf(filePath);
+    }
+
+    public Path getExpenseLaFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Reads the current and previous month of transactions, leaving the other stored months to be loaded later.
+     */
+    @Override
+    public Optional<ReadOnlyExpenseLa> readExpenseLa() throws DataConversionException {
+        Path manifestPath = directory.resolve(MANIFEST_FILE);
+        if (!Files.exists(manifestPath)) {
+            logger.info("Partition manifest " + manifestPath + " not found, reading " + filePath + " instead");
+            storedMonths.clear();
+            unloadedMonths.clear();
+            lastRead = null;
+            return new JournaledExpenseLaStorage(filePath).readExpenseLa();
+        }
+
+        try {
+            JsonSerializablePartitionManifest manifest = readManifest(directory);
+            Set<YearMonth> months = manifest.getMonths();
+            YearMonth currentMonth = YearMonth.now();
+            ExpenseLa expenseLa = new ExpenseLa();
+            Set<YearMonth> unloaded = new HashSet<>(months);
+            for (YearMonth month : Arrays.asList(currentMonth.minusMonths(1), currentMonth)) {
+                if (months.contains(month)) {
+                    expenseLa.addTransactions(readPartition(directory, month));
+                    unloaded.remove(month);
+                }
+            }
+            expenseLa.setMonthlyData(manifest.getMonthlyData());
+
+            storedMonths.clear();
+            storedMonths.addAll(months);
+            unloadedMonths.clear();
+            unloadedMonths.addAll(unloaded);
+            lastRead = new ExpenseLa(expenseLa);
+            lastRead.setMonthlyData(new MonthlyData(expenseLa.getMonthlyData()));
+            return Optional.of(expenseLa);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directory + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading " + directory + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Similar to {@link #readExpenseLa()}, but reads every month when {@code filePath} is not this storage's own.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the manifest or a partition is not in the correct format.
+     */
+    public Optional<ReadOnlyExpenseLa> readExpenseLa(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            return readExpenseLa();
+        }
+        Path otherDirectory = partitionDirectoryOf(filePath);
+        if (!Files.exists(otherDirectory.resolve(MANIFEST_FILE))) {
+            return new JournaledExpenseLaStorage(filePath).readExpenseLa();
+        }
+
+        try {
+            JsonSerializablePartitionManifest manifest = readManifest(otherDirectory);
+            ExpenseLa expenseLa = new ExpenseLa();
+            for (YearMonth month : manifest.getMonths()) {
+                expenseLa.addTransactions(readPartition(otherDirectory, month));
+            }
+            expenseLa.setMonthlyData(manifest.getMonthlyData());
+            return Optional.of(expenseLa);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + otherDirectory + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading " + otherDirectory + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    @Override
+    public void saveExpenseLa(ReadOnlyExpenseLa expenseLa) throws IOException {
+        prepareSaveExpenseLa(expenseLa).write();
+    }
+
+    /**
+     * Similar to {@link #saveExpenseLa(ReadOnlyExpenseLa)}.
+     * Saving to a location other than this storage's own writes every month there.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveExpenseLa(ReadOnlyExpenseLa expenseLa, Path filePath) throws IOException {
+        requireNonNull(expenseLa);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveExpenseLa(expenseLa);
+            return;
+        }
+        Path otherDirectory = partitionDirectoryOf(filePath);
+        Map<YearMonth, List<Transaction>> byMonth = new HashMap<>();
+        for (Transaction transaction : expenseLa.getTransactionList()) {
+            byMonth.computeIfAbsent(monthOf(transaction), month -> new ArrayList<>()).add(transaction);
+        }
+        for (Map.Entry<YearMonth, List<Transaction>> entry : byMonth.entrySet()) {
+            StreamingJsonExpenseLa.write(partitionPath(otherDirectory, entry.getKey()), entry.getValue(),
+                    expenseLa.getMonthlyData(), 0);
+        }
+        JsonUtil.saveJsonFile(new JsonSerializablePartitionManifest(byMonth.keySet(), expenseLa.getMonthlyData()),
+                otherDirectory.resolve(MANIFEST_FILE));
+    }
+
+    /**
+     * Captures the months of {@code expenseLa} whose transactions changed since the last prepared save, and
+     * returns a write that saves everything captured so far that has not been written yet.
+     */
+    @Override
+    public DeferredWrite prepareSaveExpenseLa(ReadOnlyExpenseLa expenseLa) {
+        requireNonNull(expenseLa);
+
+        if (expenseLa != tracked) {
+            track(expenseLa);
+        }
+        if (hasWriteFailed) {
+            // Captured months may have been lost, so write every month there is in memory again.
+            hasWriteFailed = false;
+            markLoadedMonthsDirty();
+            lastMonthlyData = null;
+        }
+
+        MonthlyData monthlyData = expenseLa.getMonthlyData();
+        boolean isManifestDirty = lastMonthlyData == null || !isSameMonthlyData(monthlyData, lastMonthlyData);
+        if (dirtyMonths.isEmpty() && !isManifestDirty) {
+            return this::writeUnwritten;
+        }
+        lastMonthlyData = new MonthlyData(monthlyData);
+
+        Map<YearMonth, List<Transaction>> byMonth = new HashMap<>();
+        for (YearMonth month : dirtyMonths) {
+            byMonth.put(month, new ArrayList<>());
+        }
+        for (Transaction transaction : expenseLa.getTransactionList()) {
+            List<Transaction> transactions = byMonth.get(monthOf(transaction));
+            if (transactions != null) {
+                transactions.add(transaction);
+            }
+        }
+        Map<YearMonth, Partition> partitions = new HashMap<>();
+        for (Map.Entry<YearMonth, List<Transaction>> entry : byMonth.entrySet()) {
+            YearMonth month = entry.getKey();
+            List<Transaction> transactions = entry.getValue();
+            // Only additions can be in memory for a month that was never loaded, so they are merged into its file.
+            boolean isMerged = unloadedMonths.contains(month);
+            if (transactions.isEmpty() && isMerged) {
+                continue;
+            }
+            partitions.put(month, new Partition(transactions, lastMonthlyData, isMerged));
+            if (transactions.isEmpty()) {
+                storedMonths.remove(month);
+            } else {
+                storedMonths.add(month);
+            }
+        }
+        dirtyMonths.clear();
+
+        JsonSerializablePartitionManifest manifest = new JsonSerializablePartitionManifest(storedMonths,
+                lastMonthlyData);
+        synchronized (pendingLock) {
+            unwrittenPartitions.putAll(partitions);
+            unwrittenManifest = manifest;
+        }
+        return this::writeUnwritten;
+    }
+
+    /**
+     * Starts loading months into {@code expenseLa}. If it holds what was last read, nothing is written until it
+     * changes; otherwise the next save writes every month it holds.
+     */
+    @Override
+    public void attach(ExpenseLa expenseLa) {
+        requireNonNull(expenseLa);
+        attached = expenseLa;
+        track(expenseLa);
+        if (lastRead != null && lastRead.equals(expenseLa)
+                && isSameMonthlyData(lastRead.getMonthlyData(), expenseLa.getMonthlyData())) {
+            dirtyMonths.clear();
+            lastMonthlyData = new MonthlyData(expenseLa.getMonthlyData());
+        }
+    }
+
+    @Override
+    public Set<YearMonth> getUnloadedMonths() {
+        return new HashSet<>(unloadedMonths);
+    }
+
+    @Override
+    public void load(Collection<YearMonth> months) {
+        requireNonNull(months);
+        if (attached == null) {
+            throw new IllegalStateException("No ExpenseLa to load months into");
+        }
+
+        List<Transaction> loaded = new ArrayList<>();
+        for (YearMonth month : new HashSet<>(months)) {
+            List<Transaction> prefetchedTransactions = prefetched.remove(month);
+            if (!unloadedMonths.contains(month)) {
+                continue;
+            }
+            try {
+                List<Transaction> stored = prefetchedTransactions != null
+                        ? prefetchedTransactions
+                        : readPartition(directory, month);
+                for (Transaction transaction : stored) {
+                    // Transactions added to the month before it was loaded are in both places.
+                    if (!attached.hasTransaction(transaction)) {
+                        loaded.add(transaction);
+                    }
+                }
+                unloadedMonths.remove(month);
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Could not load the transactions of " + month + ": " + e);
+            }
+        }
+        if (loaded.isEmpty()) {
+            return;
+        }
+        logger.fine("Loaded " + loaded.size() + " stored transactions");
+
+        isLoading = true;
+        try {
+            attached.addTransactions(loaded);
+        } finally {
+            isLoading = false;
+        }
+    }
+
+    @Override
+    public void prefetch(YearMonth month) {
+        requireNonNull(month);
+        try {
+            prefetched.put(month, readPartition(directory, month));
+        } catch (IOException | IllegalValueException e) {
+            // Loading the month reads it again and reports the problem then.
+            logger.fine("Could not read ahead the transactions of " + month + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the directory the months of the ExpenseLa data at {@code filePath} are kept in.
+     */
+    static Path partitionDirectoryOf(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + PARTITIONS_SUFFIX);
+    }
+
+    static Path partitionPath(Path directory, YearMonth month) {
+        return directory.resolve(month + PARTITION_EXTENSION);
+    }
+
+    /**
+     * Starts recording the months changed in {@code expenseLa} instead of the one tracked so far.
+     * Every month it holds is due to be written by the next save.
+     */
+    private void track(ReadOnlyExpenseLa expenseLa) {
+        if (tracked != null) {
+            tracked.getTransactionList().removeListener(changeListener);
+        }
+        tracked = expenseLa;
+        tracked.getTransactionList().addListener(changeListener);
+        markLoadedMonthsDirty();
+        lastMonthlyData = null;
+    }
+
+    /**
+     * Marks every month that has transactions in the tracked {@code ExpenseLa}, or that was loaded, as changed.
+     */
+    private void markLoadedMonthsDirty() {
+        for (Transaction transaction : tracked.getTransactionList()) {
+            dirtyMonths.add(monthOf(transaction));
+        }
+        for (YearMonth month : storedMonths) {
+            if (!unloadedMonths.contains(month)) {
+                dirtyMonths.add(month);
+            }
+        }
+    }
+
+    /**
+     * Marks the months of the transactions removed and added by {@code change} as changed, unless the change is
+     * stored months being loaded.
+     */
+    private void recordChange(ListChangeListener.Change<? extends Transaction> change) {
+        if (isLoading) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (Transaction transaction : change.getRemoved()) {
+                dirtyMonths.add(monthOf(transaction));
+            }
+            for (Transaction transaction : change.getAddedSubList()) {
+                dirtyMonths.add(monthOf(transaction));
+            }
+        }
+    }
+
+    /**
+     * Writes the partitions and manifest that have been captured but not written yet.
+     */
+    private void writeUnwritten() throws IOException {
+        synchronized (fileLock) {
+            Map<YearMonth, Partition> partitions;
+            JsonSerializablePartitionManifest manifest;
+            synchronized (pendingLock) {
+                partitions = new HashMap<>(unwrittenPartitions);
+                manifest = unwrittenManifest;
+                unwrittenPartitions.clear();
+                unwrittenManifest = null;
+            }
+
+            try {
+                for (Map.Entry<YearMonth, Partition> entry : partitions.entrySet()) {
+                    writePartition(entry.getKey(), entry.getValue());
+                }
+                if (manifest != null) {
+                    JsonUtil.saveJsonFile(manifest, directory.resolve(MANIFEST_FILE));
+                }
+            } catch (IOException ioe) {
+                hasWriteFailed = true;
+                throw ioe;
+            }
+        }
+    }
+
+    /**
+     * Writes {@code partition} as the file of {@code month}, or deletes that file if the month has no transactions.
+     */
+    private void writePartition(YearMonth month, Partition partition) throws IOException {
+        Path path = partitionPath(directory, month);
+        Collection<Transaction> transactions = partition.transactions;
+        if (partition.isMerged && Files.exists(path)) {
+            Set<Transaction> merged = new LinkedHashSet<>(readPartitionToMerge(month));
+            merged.addAll(transactions);
+            transactions = merged;
+        }
+
+        if (transactions.isEmpty()) {
+            Files.deleteIfExists(path);
+        } else {
+            StreamingJsonExpenseLa.write(path, new ArrayList<>(transactions), partition.monthlyData, 0);
+        }
+    }
+
+    private static JsonSerializablePartitionManifest readManifest(Path directory)
+            throws DataConversionException, IllegalValueException {
+        Path manifestPath = directory.resolve(MANIFEST_FILE);
+        return JsonUtil.readJsonFile(manifestPath, JsonSerializablePartitionManifest.class)
+                .orElseThrow(() -> new IllegalValueException("Partition manifest " + manifestPath + " not found"));
+    }
+
+    private static List<Transaction> readPartition(Path directory, YearMonth month)
+            throws IOException, IllegalValueException {
+        return StreamingJsonExpenseLa.read(partitionPath(directory, month)).getExpenseLa().getTransactionList();
+    }
+
+    /**
+     * Reads the stored transactions of {@code month} for new ones to be merged into.
+     * Invalid data cannot be merged into, so it is reported as a failed write.
+     */
+    private List<Transaction> readPartitionToMerge(YearMonth month) throws IOException {
+        try {
+            return readPartition(directory, month);
+        } catch (IllegalValueException ive) {
+            throw new IOException("Cannot add to the stored transactions of " + month + ": " + ive.getMessage(), ive);
+        }
+    }
+
+    private static YearMonth monthOf(Transaction transaction) {
+        return YearMonth.from(transaction.getDate().transactionDate);
+    }
+
+    private static boolean isSameMonthlyData(MonthlyData first, MonthlyData second) {
+        return first.getBudget().budgetCents == second.getBudget().budgetCents
+                && first.getExpense().expenseCents == second.getExpense().expenseCents
+                && first.getIncome().incomeCents == second.getIncome().incomeCents;
+    }
+
+    /**
+     * The transactions of a month to be written, with the monthly data as it was when they were captured.
+     */
+    private static class Partition {
+        private final List<Transaction> transactions;
+        private final MonthlyData monthlyData;
+        /** Whether the transactions are to be added to those already in the file rather than replace them. */
+        private final boolean isMerged;
+
+        Partition(List<Transaction> transactions, MonthlyData monthlyData, boolean isMerged) {
+            this.transactions = transactions;
+            this.monthlyData = monthlyData;
+            this.isMerged = isMerged;
+        }
+    }
+}
@@ -0,0 +1,819 @@
+package seedu.expensela.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+
+import seedu.expensela.commons.core.LogsCenter;
+import seedu.expensela.commons.exceptions.DataConversionException;
+import seedu.expensela.commons.exceptions.IllegalValueException;
+import seedu.expensela.commons.util.FileUtil;
+import seedu.expensela.model.ExpenseLa;
+import seedu.expensela.model.ReadOnlyExpenseLa;
+import seedu.expensela.model.TransactionHistory;
+import seedu.expensela.model.monthlydata.Budget;
+import seedu.expensela.model.monthlydata.Expense;
+import seedu.expensela.model.monthlydata.Income;
+import seedu.expensela.model.monthlydata.MonthlyData;
+import seedu.expensela.model.transaction.Amount;
+import seedu.expensela.model.transaction.Category;
+import seedu.expensela.model.transaction.Date;
+import seedu.expensela.model.transaction.Name;
+import seedu.expensela.model.transaction.Remark;
+import seedu.expensela.model.transaction.Transaction;
+
+/**
+ * A class to access ExpenseLa data stored in an embedded H2 database on the hard disk.
+ *
+ * The database is kept next to the ExpenseLa file path, named after it with the extension {@code .mv.db}. It holds a
+ * table of transactions, indexed by date, and a table with the single row of monthly data.
+ * Reading loads only the current and previous month; older months are loaded into the model when it asks for them,
+ * each with one query on the date index. A save deletes and inserts only the rows of the transactions removed and
+ * added since the last save, in one database transaction. When a whole month changes at once, or the model starts
+ * over with other data, the rows of each month it holds are replaced instead.
+ *
+ * If there is no database yet but there is a json ExpenseLa file at the file path, that file is read instead and
+ * copied into the database by the first save.
+ */
+public class SqlExpenseLaStorage implements ExpenseLaStorage, TransactionHistory {
+
+    public static final String DATABASE_EXTENSION = ".mv.db";
+
+    private static final String JDBC_URL_PREFIX = "jdbc:h2:file:";
+    /** Keeps the database open between connections, until it is closed or the app exits. */
+    private static final String KEEP_OPEN_OPTION = ";DB_CLOSE_DELAY=-1";
+    /** The number of rows sent to the database at a time. H2 slows down when a batch grows much larger. */
+    private static final int BATCH_SIZE = 1000;
+    /** The number of changed rows above which the loaded months they are in are replaced rather than changed. */
+    private static final int ROW_CHANGE_LIMIT = 1000;
+    private static final String NEW_DATABASE_SUFFIX = "-new";
+    private static final String[] CREATE_TABLES = {
+        "CREATE TABLE IF NOT EXISTS transactions (name VARCHAR NOT NULL, amount_cents BIGINT NOT NULL,"
+                + " is_positive BOOLEAN NOT NULL, transaction_date DATE NOT NULL, remark VARCHAR NOT NULL,"
+                + " category VARCHAR NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS monthly_data (id INT PRIMARY KEY, budget_cents BIGINT NOT NULL,"
+                + " expense_cents BIGINT NOT NULL, income_cents BIGINT NOT NULL)"
+    };
+    private static final String[] CREATE_INDEXES = {
+        "CREATE INDEX IF NOT EXISTS transactions_date ON transactions (transaction_date)"
+    };
+    private static final String SELECT_TRANSACTIONS =
+            "SELECT name, amount_cents, is_positive, transaction_date, remark, category FROM transactions";
+    private static final String SELECT_TRANSACTIONS_IN_RANGE =
+            SELECT_TRANSACTIONS + " WHERE transaction_date >= ? AND transaction_date < ?";
+    private static final String SELECT_MONTHS =
+            "SELECT DISTINCT YEAR(transaction_date), MONTH(transaction_date) FROM transactions";
+    private static final String SELECT_MONTHLY_DATA =
+            "SELECT budget_cents, expense_cents, income_cents FROM monthly_data WHERE id = 1";
+    private static final String INSERT_TRANSACTION = "INSERT INTO transactions"
+            + " (name, amount_cents, is_positive, transaction_date, remark, category) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String DELETE_TRANSACTION = "DELETE FROM transactions WHERE name = ? AND amount_cents = ?"
+            + " AND is_positive = ? AND transaction_date = ? AND remark = ? AND category = ?";
+    private static final String DELETE_TRANSACTIONS_IN_RANGE =
+            "DELETE FROM transactions WHERE transaction_date >= ? AND transaction_date < ?";
+    private static final String MERGE_MONTHLY_DATA =
+            "MERGE INTO monthly_data (id, budget_cents, expense_cents, income_cents) KEY (id) VALUES (1, ?, ?, ?)";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlExpenseLaStorage.class);
+
+    private final Path filePath;
+    private final Path databasePath;
+
+    /** Guards the database while it is being written. */
+    private final Object databaseLock = new Object();
+    /** Guards the changes and monthly data that have been captured but not written yet. */
+    private final Object pendingLock = new Object();
+    private final List<Capture> unwrittenCaptures = new ArrayList<>();
+    private MonthlyData unwrittenMonthlyData;
+    private volatile boolean hasWriteFailed;
+    /** Months read ahead of being loaded, by any thread. */
+    private final Map<YearMonth, List<Transaction>> prefetched = new ConcurrentHashMap<>();
+
+    // The rest is only used by the thread that reads, loads months and prepares saves.
+    private final ListChangeListener<Transaction> changeListener = this::recordChange;
+    private final Set<YearMonth> storedMonths = new HashSet<>();
+    private final Set<YearMonth> unloadedMonths = new HashSet<>();
+    private final Set<YearMonth> dirtyMonths = new HashSet<>();
+    /** The rows removed and added since the last prepared save, in order, outside of the dirty months. */
+    private final List<RowChange> rowChanges = new ArrayList<>();
+    /** The data returned by the last read of the database, or null if it did not come from the database. */
+    private ExpenseLa lastRead;
+    private ExpenseLa attached;
+    private ReadOnlyExpenseLa tracked;
+    private MonthlyData lastMonthlyData;
+    private boolean isLoading;
+
+    public SqlExpenseLaStorage(Path filePath) {
+        this.filePath = requireNonNull(filePath);
+        this.databasePath = databasePathOf(filePath);
+    }
+
+    public Path getExpenseLaFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Reads the current and previous month of transactions, leaving the other stored months to be loaded later.
+     */
+    @Override
+    public Optional<ReadOnlyExpenseLa> readExpenseLa() throws DataConversionException {
+        if (!Files.exists(databasePath)) {
+            logger.info("Database " + databasePath + " not found, reading " + filePath + " instead");
+            storedMonths.clear();
+            unloadedMonths.clear();
+            lastRead = null;
+            return new JournaledExpenseLaStorage(filePath).readExpenseLa();
+        }
+
+        try (Connection connection = connect(databasePath)) {
+            Set<YearMonth> months = readMonths(connection);
+            YearMonth currentMonth = YearMonth.now();
+            List<Transaction> transactions = new ArrayList<>();
+            Set<YearMonth> unloaded = new HashSet<>(months);
+            for (YearMonth month : Arrays.asList(currentMonth.minusMonths(1), currentMonth)) {
+                if (months.contains(month)) {
+                    transactions.addAll(readMonth(connection, month));
+                    unloaded.remove(month);
+                }
+            }
+            ExpenseLa expenseLa = new ExpenseLa();
+            JsonSerializableExpenseLa.addAllOrReject(expenseLa, transactions);
+            expenseLa.setMonthlyData(readMonthlyData(connection));
+
+            storedMonths.clear();
+            storedMonths.addAll(months);
+            unloadedMonths.clear();
+            unloadedMonths.addAll(unloaded);
+            lastRead = new ExpenseLa(expenseLa);
+            lastRead.setMonthlyData(new MonthlyData(expenseLa.getMonthlyData()));
+            return Optional.of(expenseLa);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + databasePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (SQLException sqle) {
+            logger.warning("Error reading from database " + databasePath + ": " + sqle);
+            throw new DataConversionException(sqle);
+        }
+    }
+
+    /**
+     * Similar to {@link #readExpenseLa()}, but reads every month when {@code filePath} is not this storage's own.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the database does not hold valid transactions.
+     */
+    public Optional<ReadOnlyExpenseLa> readExpenseLa(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            return readExpenseLa();
+        }
+        Path otherDatabasePath = databasePathOf(filePath);
+        if (!Files.exists(otherDatabasePath)) {
+            return new JournaledExpenseLaStorage(filePath).readExpenseLa();
+        }
+
+        try (Connection connection = connect(otherDatabasePath, false, true);
+                PreparedStatement select = connection.prepareStatement(SELECT_TRANSACTIONS)) {
+            ExpenseLa expenseLa = new ExpenseLa();
+            JsonSerializableExpenseLa.addAllOrReject(expenseLa, readTransactions(select));
+            expenseLa.setMonthlyData(readMonthlyData(connection));
+            return Optional.of(expenseLa);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + otherDatabasePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (SQLException sqle) {
+            logger.warning("Error reading from database " + otherDatabasePath + ": " + sqle);
+            throw new DataConversionException(sqle);
+        }
+    }
+
+    @Override
+    public void saveExpenseLa(ReadOnlyExpenseLa expenseLa) throws IOException {
+        prepareSaveExpenseLa(expenseLa).write();
+    }
+
+    /**
+     * Similar to {@link #saveExpenseLa(ReadOnlyExpenseLa)}.
+     * Saving to a location other than this storage's own replaces every transaction there.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveExpenseLa(ReadOnlyExpenseLa expenseLa, Path filePath) throws IOException {
+        requireNonNull(expenseLa);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveExpenseLa(expenseLa);
+            return;
+        }
+        // A new database is filled and indexed, then moved over the old one, so that it never holds a partial write.
+        Path otherDatabasePath = databasePathOf(filePath);
+        String fileName = otherDatabasePath.getFileName().toString();
+        Path newDatabasePath = otherDatabasePath.resolveSibling(fileName.substring(0,
+                fileName.length() - DATABASE_EXTENSION.length()) + NEW_DATABASE_SUFFIX + DATABASE_EXTENSION);
+        FileUtil.createParentDirsOfFile(otherDatabasePath);
+        Files.deleteIfExists(newDatabasePath);
+        try {
+            try (Connection connection = connect(newDatabasePath, false, false)) {
+                connection.setAutoCommit(false);
+                insertTransactions(connection, expenseLa.getTransactionList());
+                writeMonthlyData(connection, expenseLa.getMonthlyData());
+                connection.commit();
+                createIndexes(connection);
+            }
+            FileUtil.replaceFile(newDatabasePath, otherDatabasePath);
+        } catch (SQLException sqle) {
+            throw new IOException("Error writing to database " + otherDatabasePath + ": " + sqle.getMessage(), sqle);
+        } finally {
+            Files.deleteIfExists(newDatabasePath);
+        }
+    }
+
+    /**
+     * Captures the rows of {@code expenseLa} that changed since the last prepared save, and returns a write that
+     * saves everything captured so far that has not been written yet.
+     */
+    @Override
+    public DeferredWrite prepareSaveExpenseLa(ReadOnlyExpenseLa expenseLa) {
+        requireNonNull(expenseLa);
+
+        if (expenseLa != tracked) {
+            track(expenseLa);
+        }
+        if (hasWriteFailed) {
+            // Captured changes may have been lost, so write every month there is in memory again.
+            hasWriteFailed = false;
+            markLoadedMonthsDirty();
+            lastMonthlyData = null;
+        }
+        if (rowChanges.size() > ROW_CHANGE_LIMIT) {
+            markChangedLoadedMonthsDirty();
+        }
+
+        MonthlyData monthlyData = expenseLa.getMonthlyData();
+        boolean isMonthlyDataDirty = lastMonthlyData == null || !isSameMonthlyData(monthlyData, lastMonthlyData);
+        if (dirtyMonths.isEmpty() && rowChanges.isEmpty() && !isMonthlyDataDirty) {
+            return this::writeUnwritten;
+        }
+        lastMonthlyData = new MonthlyData(monthlyData);
+
+        Capture capture = new Capture();
+        for (RowChange rowChange : rowChanges) {
+            YearMonth month = monthOf(rowChange.transaction);
+            if (!dirtyMonths.contains(month)) {
+                capture.rowChanges.add(rowChange);
+                if (rowChange.isAdded) {
+                    storedMonths.add(month);
+                }
+            }
+        }
+        rowChanges.clear();
+        capture.months.putAll(captureDirtyMonths(expenseLa));
+
+        synchronized (pendingLock) {
+            unwrittenCaptures.add(capture);
+            unwrittenMonthlyData = lastMonthlyData;
+        }
+        return this::writeUnwritten;
+    }
+
+    /**
+     * Starts loading months into {@code expenseLa}. If it holds what was last read, nothing is written until it
+     * changes; otherwise the next save writes every month it holds.
+     */
+    @Override
+    public void attach(ExpenseLa expenseLa) {
+        requireNonNull(expenseLa);
+        attached = expenseLa;
+        track(expenseLa);
+        if (lastRead != null && lastRead.equals(expenseLa)
+                && isSameMonthlyData(lastRead.getMonthlyData(), expenseLa.getMonthlyData())) {
+            dirtyMonths.clear();
+            rowChanges.clear();
+            lastMonthlyData = new MonthlyData(expenseLa.getMonthlyData());
+        }
+    }
+
+    @Override
+    public Set<YearMonth> getUnloadedMonths() {
+        return new HashSet<>(unloadedMonths);
+    }
+
+    @Override
+    public void load(Collection<YearMonth> months) {
+        requireNonNull(months);
+        if (attached == null) {
+            throw new IllegalStateException("No ExpenseLa to load months into");
+        }
+
+        List<Transaction> loaded = new ArrayList<>();
+        for (YearMonth month : new HashSet<>(months)) {
+            List<Transaction> prefetchedTransactions = prefetched.remove(month);
+            if (!unloadedMonths.contains(month)) {
+                continue;
+            }
+            try {
+                List<Transaction> stored = prefetchedTransactions != null
+                        ? prefetchedTransactions
+                        : readMonth(month);
+                for (Transaction transaction : stored) {
+                    // Transactions added to the month before it was loaded are in both places.
+                    if (!attached.hasTransaction(transaction)) {
+                        loaded.add(transaction);
+                    }
+                }
+                unloadedMonths.remove(month);
+            } catch (SQLException | IllegalValueException e) {
+                logger.warning("Could not load the transactions of " + month + ": " + e);
+            }
+        }
+        if (loaded.isEmpty()) {
+            return;
+        }
+        logger.fine("Loaded " + loaded.size() + " stored transactions");
+
+        isLoading = true;
+        try {
+            attached.addTransactions(loaded);
+        } finally {
+            isLoading = false;
+        }
+    }
+
+    @Override
+    public void prefetch(YearMonth month) {
+        requireNonNull(month);
+        try {
+            prefetched.put(month, readMonth(month));
+        } catch (SQLException | IllegalValueException e) {
+            // Loading the month reads it again and reports the problem then.
+            logger.fine("Could not read ahead the transactions of " + month + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the path of the database file that holds the ExpenseLa data at {@code filePath}.
+     */
+    static Path databasePathOf(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + DATABASE_EXTENSION);
+    }
+
+    /**
+     * Closes the database, writing out anything it still holds in memory. It is otherwise closed when the app exits.
+     */
+    public void close() throws IOException {
+        synchronized (databaseLock) {
+            if (!Files.exists(databasePath)) {
+                return;
+            }
+            try (Connection connection = connect(databasePath);
+                    Statement statement = connection.createStatement()) {
+                statement.execute("SHUTDOWN");
+            } catch (SQLException sqle) {
+                throw new IOException("Error closing database " + databasePath + ": " + sqle.getMessage(), sqle);
+            }
+        }
+    }
+
+    /**
+     * Opens a connection to the database in {@code databasePath}, creating the database, its tables and indexes if
+     * they do not exist yet. The database stays open after the connection is closed, so that the next one opens
+     * quickly.
+     */
+    static Connection connect(Path databasePath) throws SQLException {
+        return connect(databasePath, true, true);
+    }
+
+    /**
+     * Opens a connection to the database in {@code databasePath} like {@link #connect(Path)}, but unless
+     * {@code isKeptOpen}, the database is closed with the last connection to it. Unless {@code isIndexed}, the
+     * indexes are not created, which makes filling a new database several times faster; they are then created by
+     * {@link #createIndexes(Connection)} once it is filled.
+     */
+    private static Connection connect(Path databasePath, boolean isKeptOpen, boolean isIndexed) throws SQLException {
+        String fileName = databasePath.toAbsolutePath().toString();
+        String databaseName = fileName.substring(0, fileName.length() - DATABASE_EXTENSION.length());
+        Connection connection = DriverManager.getConnection(JDBC_URL_PREFIX + databaseName
+                + (isKeptOpen ? KEEP_OPEN_OPTION : ""));
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : CREATE_TABLES) {
+                statement.execute(sql);
+            }
+            if (isIndexed) {
+                createIndexes(connection);
+            }
+        } catch (SQLException sqle) {
+            connection.close();
+            throw sqle;
+        }
+        return connection;
+    }
+
+    /**
+     * Creates the indexes of the transactions table, if they do not exist yet.
+     */
+    private static void createIndexes(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : CREATE_INDEXES) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    /**
+     * Starts recording the rows changed in {@code expenseLa} instead of the one tracked so far.
+     * Every month it holds is due to be written by the next save.
+     */
+    private void track(ReadOnlyExpenseLa expenseLa) {
+        if (tracked != null) {
+            tracked.getTransactionList().removeListener(changeListener);
+        }
+        tracked = expenseLa;
+        rowChanges.clear();
+        tracked.getTransactionList().addListener(changeListener);
+        markLoadedMonthsDirty();
+        lastMonthlyData = null;
+    }
+
+    /**
+     * Marks every month that has transactions in the tracked {@code ExpenseLa}, or that was loaded, as changed.
+     */
+    private void markLoadedMonthsDirty() {
+        for (Transaction transaction : tracked.getTransactionList()) {
+            dirtyMonths.add(monthOf(transaction));
+        }
+        for (YearMonth month : storedMonths) {
+            if (!unloadedMonths.contains(month)) {
+                dirtyMonths.add(month);
+            }
+        }
+    }
+
+    /**
+     * Marks the loaded months that the recorded row changes are in as changed, so that their rows are replaced
+     * rather than changed one by one. The row changes in unloaded months are kept, as those months cannot be
+     * replaced with what is in memory.
+     */
+    private void markChangedLoadedMonthsDirty() {
+        List<RowChange> unloadedRowChanges = new ArrayList<>();
+        for (RowChange rowChange : rowChanges) {
+            YearMonth month = monthOf(rowChange.transaction);
+            if (unloadedMonths.contains(month)) {
+                unloadedRowChanges.add(rowChange);
+            } else {
+                dirtyMonths.add(month);
+            }
+        }
+        rowChanges.clear();
+        rowChanges.addAll(unloadedRowChanges);
+    }
+
+    /**
+     * Returns the transactions of {@code expenseLa} in each of the dirty months, to replace the rows of the month
+     * with, and marks the months clean.
+     */
+    private Map<YearMonth, MonthRows> captureDirtyMonths(ReadOnlyExpenseLa expenseLa) {
+        if (dirtyMonths.isEmpty()) {
+            return new HashMap<>();
+        }
+        Map<YearMonth, List<Transaction>> byMonth = new HashMap<>();
+        for (YearMonth month : dirtyMonths) {
+            byMonth.put(month, new ArrayList<>());
+        }
+        for (Transaction transaction : expenseLa.getTransactionList()) {
+            List<Transaction> transactions = byMonth.get(monthOf(transaction));
+            if (transactions != null) {
+                transactions.add(transaction);
+            }
+        }
+        Map<YearMonth, MonthRows> months = new HashMap<>();
+        for (Map.Entry<YearMonth, List<Transaction>> entry : byMonth.entrySet()) {
+            YearMonth month = entry.getKey();
+            List<Transaction> transactions = entry.getValue();
+            // Only additions can be in memory for a month that was never loaded, so they are added to its rows.
+            boolean isMerged = unloadedMonths.contains(month);
+            if (transactions.isEmpty() && isMerged) {
+                continue;
+            }
+            months.put(month, new MonthRows(transactions, isMerged));
+            if (transactions.isEmpty()) {
+                storedMonths.remove(month);
+            } else {
+                storedMonths.add(month);
+            }
+        }
+        dirtyMonths.clear();
+        return months;
+    }
+
+    /**
+     * Records the transactions removed and added by {@code change}, unless the change is stored months being loaded.
+     */
+    private void recordChange(ListChangeListener.Change<? extends Transaction> change) {
+        if (isLoading) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (Transaction transaction : change.getRemoved()) {
+                rowChanges.add(new RowChange(transaction, false));
+            }
+            for (Transaction transaction : change.getAddedSubList()) {
+                rowChanges.add(new RowChange(transaction, true));
+            }
+        }
+    }
+
+    /**
+     * Writes the changes and monthly data that have been captured but not written yet, in the order they were
+     * captured and in one database transaction.
+     */
+    private void writeUnwritten() throws IOException {
+        synchronized (databaseLock) {
+            List<Capture> captures;
+            MonthlyData monthlyData;
+            synchronized (pendingLock) {
+                captures = new ArrayList<>(unwrittenCaptures);
+                monthlyData = unwrittenMonthlyData;
+                unwrittenCaptures.clear();
+                unwrittenMonthlyData = null;
+            }
+            if (captures.isEmpty() && monthlyData == null) {
+                return;
+            }
+
+            try {
+                FileUtil.createParentDirsOfFile(databasePath);
+                // A new database is indexed once it is filled, which is faster than keeping the indexes up to date.
+                boolean isNew = !Files.exists(databasePath);
+                try (Connection connection = connect(databasePath, true, !isNew)) {
+                    connection.setAutoCommit(false);
+                    for (Capture capture : captures) {
+                        for (Map.Entry<YearMonth, MonthRows> entry : capture.months.entrySet()) {
+                            writeMonth(connection, entry.getKey(), entry.getValue());
+                        }
+                        writeRowChanges(connection, capture.rowChanges);
+                    }
+                    if (monthlyData != null) {
+                        writeMonthlyData(connection, monthlyData);
+                    }
+                    connection.commit();
+                    if (isNew) {
+                        createIndexes(connection);
+                    }
+                }
+            } catch (IOException | SQLException e) {
+                hasWriteFailed = true;
+                throw e instanceof IOException
+                        ? (IOException) e
+                        : new IOException("Error writing to database " + databasePath + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Deletes the rows of the removed transactions in {@code rowChanges} and inserts those of the added ones, in
+     * order. Any stored row equal to an added transaction is deleted first, so that it is not stored twice.
+     */
+    private static void writeRowChanges(Connection connection, List<RowChange> rowChanges) throws SQLException {
+        if (rowChanges.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement delete = connection.prepareStatement(DELETE_TRANSACTION);
+                PreparedStatement insert = connection.prepareStatement(INSERT_TRANSACTION)) {
+            for (RowChange rowChange : rowChanges) {
+                setTransaction(delete, rowChange.transaction);
+                delete.executeUpdate();
+                if (rowChange.isAdded) {
+                    setTransaction(insert, rowChange.transaction);
+                    insert.executeUpdate();
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the rows of {@code month} with {@code rows}, or adds {@code rows} to them if they are to be merged.
+     */
+    private static void writeMonth(Connection connection, YearMonth month, MonthRows rows) throws SQLException {
+        if (rows.isMerged) {
+            try (PreparedStatement delete = connection.prepareStatement(DELETE_TRANSACTION)) {
+                executeBatches(delete, rows.transactions);
+            }
+        } else {
+            try (PreparedStatement delete = connection.prepareStatement(DELETE_TRANSACTIONS_IN_RANGE)) {
+                delete.setObject(1, month.atDay(1));
+                delete.setObject(2, month.plusMonths(1).atDay(1));
+                delete.executeUpdate();
+            }
+        }
+        insertTransactions(connection, rows.transactions);
+    }
+
+    /**
+     * Adds {@code transactions} to the transactions table in one batch.
+     */
+    private static void insertTransactions(Connection connection, List<Transaction> transactions)
+            throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_TRANSACTION)) {
+            executeBatches(insert, transactions);
+        }
+    }
+
+    /**
+     * Executes {@code statement} once for each of {@code transactions}, in batches of {@link #BATCH_SIZE}.
+     */
+    private static void executeBatches(PreparedStatement statement, List<Transaction> transactions)
+            throws SQLException {
+        for (int i = 0; i < transactions.size(); i++) {
+            setTransaction(statement, transactions.get(i));
+            statement.addBatch();
+            if (i % BATCH_SIZE == BATCH_SIZE - 1) {
+                statement.executeBatch();
+            }
+        }
+        statement.executeBatch();
+    }
+
+    /**
+     * Sets the six parameters of {@code statement} to the fields of {@code transaction}, in the order of the
+     * columns of the transactions table.
+     */
+    private static void setTransaction(PreparedStatement statement, Transaction transaction) throws SQLException {
+        statement.setString(1, transaction.getName().transactionName);
+        statement.setLong(2, transaction.getAmount().transactionCents);
+        statement.setBoolean(3, transaction.getAmount().positive);
+        statement.setObject(4, transaction.getDate().transactionDate);
+        statement.setString(5, transaction.getRemark().transactionRemark);
+        statement.setString(6, transaction.getCategory().transactionCategory);
+    }
+
+    /**
+     * Replaces the stored monthly data with {@code monthlyData}.
+     */
+    private static void writeMonthlyData(Connection connection, MonthlyData monthlyData) throws SQLException {
+        try (PreparedStatement merge = connection.prepareStatement(MERGE_MONTHLY_DATA)) {
+            merge.setLong(1, monthlyData.getBudget().budgetCents);
+            merge.setLong(2, monthlyData.getExpense().expenseCents);
+            merge.setLong(3, monthlyData.getIncome().incomeCents);
+            merge.executeUpdate();
+        }
+    }
+
+    /**
+     * Returns the months that have stored transactions.
+     */
+    private static Set<YearMonth> readMonths(Connection connection) throws SQLException {
+        Set<YearMonth> months = new HashSet<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(SELECT_MONTHS)) {
+            while (resultSet.next()) {
+                months.add(YearMonth.of(resultSet.getInt(1), resultSet.getInt(2)));
+            }
+        }
+        return months;
+    }
+
+    private List<Transaction> readMonth(YearMonth month) throws SQLException, IllegalValueException {
+        try (Connection connection = connect(databasePath)) {
+            return readMonth(connection, month);
+        }
+    }
+
+    /**
+     * Reads the stored transactions dated in {@code month}, through the index on their dates.
+     */
+    private static List<Transaction> readMonth(Connection connection, YearMonth month)
+            throws SQLException, IllegalValueException {
+        try (PreparedStatement select = connection.prepareStatement(SELECT_TRANSACTIONS_IN_RANGE)) {
+            select.setObject(1, month.atDay(1));
+            select.setObject(2, month.plusMonths(1).atDay(1));
+            return readTransactions(select);
+        }
+    }
+
+    /**
+     * Runs {@code select}, which returns the columns of the transactions table, and converts the rows into
+     * transactions.
+     *
+     * @throws IllegalValueException if a row violates the constraints of a transaction field.
+     */
+    private static List<Transaction> readTransactions(PreparedStatement select)
+            throws SQLException, IllegalValueException {
+        List<Transaction> transactions = new ArrayList<>();
+        try (ResultSet resultSet = select.executeQuery()) {
+            while (resultSet.next()) {
+                String name = resultSet.getString(1);
+                String remark = resultSet.getString(5);
+                String category = resultSet.getString(6);
+                if (!Name.isValidName(name)) {
+                    throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+                }
+                if (!Remark.isValidRemark(remark)) {
+                    throw new IllegalValueException(Remark.MESSAGE_CONSTRAINTS);
+                }
+                if (!Category.isValidCategory(category)) {
+                    throw new IllegalValueException(Category.MESSAGE_CONSTRAINTS);
+                }
+                try {
+                    Amount amount = new Amount(resultSet.getLong(2), resultSet.getBoolean(3));
+                    Date date = Date.of(resultSet.getObject(4, LocalDate.class));
+                    transactions.add(new Transaction(Name.of(name), amount, date, Remark.of(remark),
+                            Category.of(category)));
+                } catch (IllegalArgumentException | DateTimeException e) {
+                    throw new IllegalValueException(e.getMessage(), e);
+                }
+            }
+        }
+        return transactions;
+    }
+
+    /**
+     * Reads the monthly data, or returns monthly data of zeros if none has been saved.
+     */
+    private static MonthlyData readMonthlyData(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(SELECT_MONTHLY_DATA)) {
+            if (!resultSet.next()) {
+                return new MonthlyData("1", new Budget(0), new Expense(0), new Income(0));
+            }
+            return new MonthlyData("1", new Budget(resultSet.getLong(1)), new Expense(resultSet.getLong(2)),
+                    new Income(resultSet.getLong(3)));
+        }
+    }
+
+    private static YearMonth monthOf(Transaction transaction) {
+        return YearMonth.from(transaction.getDate().transactionDate);
+    }
+
+    private static boolean isSameMonthlyData(MonthlyData first, MonthlyData second) {
+        return first.getBudget().budgetCents == second.getBudget().budgetCents
+                && first.getExpense().expenseCents == second.getExpense().expenseCents
+                && first.getIncome().incomeCents == second.getIncome().incomeCents;
+    }
+
+    /**
+     * The changes captured by one prepared save.
+     */
+    private static class Capture {
+        private final Map<YearMonth, MonthRows> months = new HashMap<>();
+        private final List<RowChange> rowChanges = new ArrayList<>();
+    }
+
+    /**
+     * A transaction removed from or added to the model.
+     */
+    private static class RowChange {
+        private final Transaction transaction;
+        private final boolean isAdded;
+
+        RowChange(Transaction transaction, boolean isAdded) {
+            this.transaction = transaction;
+            this.isAdded = isAdded;
+        }
+    }
+
+    /**
+     * The transactions of a month to be written, and whether they are to be added to the rows already stored for the
+     * month rather than replace them.
+     */
+    private static class MonthRows {
+        private final List<Transaction> transactions;
+        private final boolean isMerged;
+
+        MonthRows(List<Transaction> transactions, boolean isMerged) {
+            this.transactions = transactions;
+            this.isMerged = isMerged;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.expensela.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.expensela.commons.exceptions.DataConversionException;
 import seedu.expensela.model.ReadOnlyExpenseLa;
@@ -32,4 +33,16 @@ public interface Storage extends ExpenseLaStorage, UserPrefsStorage, GlobalDataS
 
     @Override
     void saveGlobalData(ReadOnlyGlobalData globalData) throws IOException;
+
+    /**
+     * Waits for the saves made so far to be written.
+     * @throws IOException if a write has failed since the last flush.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Sets the handler called with the exception of each save that fails after it has returned.
+     * The handler may be called on any thread.
+     */
+    void setWriteFailureHandler(Consumer<IOException> handler);
 }
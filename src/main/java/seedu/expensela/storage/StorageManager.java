@@ -3,6 +3,7 @@ package seedu.expensela.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.expensela.commons.core.LogsCenter;
@@ -15,6 +16,12 @@ import seedu.expensela.model.UserPrefs;
 
 /**
  * Manages storage of ExpenseLa data in local storage.
+ * Saving the same ExpenseLa or GlobalData again without a change to its version since it was last saved
+ * successfully does not write anything.
+ *
+ * ExpenseLa and GlobalData saved to their own files are written behind, by a single background thread. Saves made
+ * while an earlier write of the same data is still waiting are combined with it into one write. Reads wait for
+ * the writes queued before them, and {@link #flush()} waits for all of them.
  */
 public class StorageManager implements Storage {
 
@@ -22,7 +29,12 @@ public class StorageManager implements Storage {
     private ExpenseLaStorage expenseLaStorage;
     private UserPrefsStorage userPrefsStorage;
     private GlobalDataStorage globalDataStorage;
+    private final BackgroundWriter writer = new BackgroundWriter();
 
+    private ReadOnlyExpenseLa lastSavedExpenseLa;
+    private long lastSavedExpenseLaVersion;
+    private ReadOnlyGlobalData lastSavedGlobalData;
+    private long lastSavedGlobalDataVersion;
 
     public StorageManager(ExpenseLaStorage expenseLaStorage, UserPrefsStorage userPrefsStorage,
                           GlobalDataStorage globalDataStorage) {
@@ -58,18 +70,34 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<GlobalData> readGlobalData() throws DataConversionException, IOException {
-        return globalDataStorage.readGlobalData();
+        return readGlobalData(globalDataStorage.getGlobalDataFilePath());
     }
 
     @Override
     public Optional<GlobalData> readGlobalData(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
+        flush();
         return globalDataStorage.readGlobalData(filePath);
     }
 
     @Override
-    public void saveGlobalData(ReadOnlyGlobalData globalData) throws IOException {
-        globalDataStorage.saveGlobalData(globalData);
+    public synchronized void saveGlobalData(ReadOnlyGlobalData globalData) throws IOException {
+        long version = globalData.getVersion();
+        if (globalData == lastSavedGlobalData && version == lastSavedGlobalDataVersion) {
+            logger.fine("Global data unchanged since last save");
+            return;
+        }
+        DeferredWrite write = prepareSaveGlobalData(globalData);
+        writer.submit("global data", () -> {
+            try {
+                write.write();
+            } catch (IOException ioe) {
+                forgetLastSavedGlobalData();
+                throw ioe;
+            }
+        });
+        lastSavedGlobalData = globalData;
+        lastSavedGlobalDataVersion = version;
     }
 
     @Override
@@ -77,6 +105,15 @@ public class StorageManager implements Storage {
 
     }
 
+    @Override
+    public DeferredWrite prepareSaveGlobalData(ReadOnlyGlobalData globalData) {
+        return globalDataStorage.prepareSaveGlobalData(globalData);
+    }
+
+    private synchronized void forgetLastSavedGlobalData() {
+        lastSavedGlobalData = null;
+    }
+
 
     // ================ ExpenseLa methods ==============================
 
@@ -93,12 +130,29 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyExpenseLa> readExpenseLa(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
+        flush();
         return expenseLaStorage.readExpenseLa(filePath);
     }
 
     @Override
-    public void saveExpenseLa(ReadOnlyExpenseLa expenseLa) throws IOException {
-        saveExpenseLa(expenseLa, expenseLaStorage.getExpenseLaFilePath());
+    public synchronized void saveExpenseLa(ReadOnlyExpenseLa expenseLa) throws IOException {
+        long version = expenseLa.getVersion();
+        if (expenseLa == lastSavedExpenseLa && version == lastSavedExpenseLaVersion) {
+            logger.fine("ExpenseLa data unchanged since last save");
+            return;
+        }
+        logger.fine("Queueing write to data file: " + expenseLaStorage.getExpenseLaFilePath());
+        DeferredWrite write = prepareSaveExpenseLa(expenseLa);
+        writer.submit("ExpenseLa data", () -> {
+            try {
+                write.write();
+            } catch (IOException ioe) {
+                forgetLastSavedExpenseLa();
+                throw ioe;
+            }
+        });
+        lastSavedExpenseLa = expenseLa;
+        lastSavedExpenseLaVersion = version;
     }
 
     @Override
@@ -107,4 +161,25 @@ public class StorageManager implements Storage {
         expenseLaStorage.saveExpenseLa(expenseLa, filePath);
     }
 
+    @Override
+    public DeferredWrite prepareSaveExpenseLa(ReadOnlyExpenseLa expenseLa) {
+        return expenseLaStorage.prepareSaveExpenseLa(expenseLa);
+    }
+
+    private synchronized void forgetLastSavedExpenseLa() {
+        lastSavedExpenseLa = null;
+    }
+
+    // ================ Write-behind methods ==============================
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void setWriteFailureHandler(Consumer<IOException> handler) {
+        writer.setFailureHandler(handler);
+    }
+
 }
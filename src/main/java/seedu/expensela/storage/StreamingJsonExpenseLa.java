@@ -0,0 +1,167 @@
+package seedu.expensela.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.expensela.commons.exceptions.IllegalValueException;
+import seedu.expensela.commons.util.FileUtil;
+import seedu.expensela.commons.util.JsonUtil;
+import seedu.expensela.model.ExpenseLa;
+import seedu.expensela.model.monthlydata.MonthlyData;
+import seedu.expensela.model.transaction.Transaction;
+
+/**
+ * Reads and writes ExpenseLa data files in the format of {@link JsonSerializableExpenseLa}, one transaction at a
+ * time.
+ *
+ * Transactions are read and written one {@link JsonAdaptedTransaction} at a time, so no text or json tree of the
+ * whole file is held in memory. Rows read are validated and converted a chunk at a time on other threads by a
+ * {@link ParallelTransactionConverter}. Files are written without indentation.
+ */
+class StreamingJsonExpenseLa {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "ExpenseLa %s field is missing!";
+
+    private static final String FIELD_TRANSACTIONS = "transactions";
+    private static final String FIELD_MONTHLY_DATA = "monthlyData";
+    private static final String FIELD_JOURNAL_SEQUENCE = "journalSequence";
+
+    private final ExpenseLa expenseLa;
+    private final long journalSequence;
+
+    private StreamingJsonExpenseLa(ExpenseLa expenseLa, long journalSequence) {
+        this.expenseLa = expenseLa;
+        this.journalSequence = journalSequence;
+    }
+
+    public ExpenseLa getExpenseLa() {
+        return expenseLa;
+    }
+
+    /**
+     * Returns the sequence number of the last journal record already applied to the data, or 0 if none.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /**
+     * Reads the ExpenseLa data in {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read or is not valid json of the expected shape.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static StreamingJsonExpenseLa read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        try (InputStream in = Files.newInputStream(filePath);
+             JsonParser parser = JsonUtil.createParser(in)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+
+            List<Transaction> transactions = new ArrayList<>();
+            MonthlyData monthlyData = null;
+            long journalSequence = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (field) {
+                case FIELD_TRANSACTIONS:
+                    readTransactions(parser, transactions);
+                    break;
+                case FIELD_MONTHLY_DATA:
+                    monthlyData = parser.readValueAs(JsonAdaptedMonthlyData.class).toModelType();
+                    break;
+                case FIELD_JOURNAL_SEQUENCE:
+                    journalSequence = parser.getLongValue();
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+            expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+
+            ExpenseLa expenseLa = new ExpenseLa();
+            JsonSerializableExpenseLa.addAllOrReject(expenseLa, transactions);
+            if (monthlyData == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, FIELD_MONTHLY_DATA));
+            }
+            expenseLa.setMonthlyData(monthlyData);
+            return new StreamingJsonExpenseLa(expenseLa, journalSequence);
+        }
+    }
+
+    /**
+     * Writes {@code transactions} and {@code monthlyData} to {@code filePath}, replacing its contents.
+     * The file is written to a temporary file first, so it never holds partially written data.
+     *
+     * @param journalSequence sequence number of the last journal record already applied to the data.
+     */
+    public static void write(Path filePath, List<Transaction> transactions, MonthlyData monthlyData,
+            long journalSequence) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(transactions);
+        requireNonNull(monthlyData);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temp = Files.createTempFile(filePath.toAbsolutePath().getParent(), filePath.getFileName().toString(),
+                ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp);
+                 JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(FIELD_TRANSACTIONS);
+                for (Transaction transaction : transactions) {
+                    generator.writeObject(new JsonAdaptedTransaction(transaction));
+                }
+                generator.writeEndArray();
+                generator.writeObjectField(FIELD_MONTHLY_DATA, new JsonAdaptedMonthlyData(monthlyData));
+                generator.writeNumberField(FIELD_JOURNAL_SEQUENCE, journalSequence);
+                generator.writeEndObject();
+            }
+            FileUtil.replaceFile(temp, filePath);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads the array of transactions the parser is at into {@code transactions}. Rows are converted on other
+     * threads while the rest of the array is read.
+     */
+    private static void readTransactions(JsonParser parser, List<Transaction> transactions)
+            throws IOException, IllegalValueException {
+        expect(parser, parser.getCurrentToken(), JsonToken.START_ARRAY);
+        ParallelTransactionConverter converter = new ParallelTransactionConverter();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonAdaptedTransaction jsonAdaptedTransaction = parser.readValueAs(JsonAdaptedTransaction.class);
+            if (jsonAdaptedTransaction == null) {
+                // An invalid row before this one is reported first.
+                converter.finish();
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "transaction"));
+            }
+            converter.add(jsonAdaptedTransaction);
+        }
+        transactions.addAll(converter.finish());
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
@@ -1,8 +1,15 @@
 package seedu.expensela.ui;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.beans.binding.Bindings;
@@ -17,8 +24,11 @@ import javafx.scene.chart.StackedBarChart;
 import javafx.scene.chart.XYChart;
 import javafx.scene.layout.Region;
 import seedu.expensela.commons.core.LogsCenter;
-import seedu.expensela.model.transaction.Amount;
-import seedu.expensela.model.transaction.Transaction;
+import seedu.expensela.commons.util.MoneyUtil;
+import seedu.expensela.model.Filter;
+import seedu.expensela.model.transaction.CategoryEnum;
+import seedu.expensela.model.transaction.TransactionAggregates;
+import seedu.expensela.model.transaction.TransactionColumns;
 
 
 
@@ -45,14 +55,30 @@ public class ChartAnalyticsPanel extends UiPart<Region> {
     @FXML
     private PieChart pieChart;
 
-    public ChartAnalyticsPanel(ObservableList<Transaction> transactionList, boolean isFilterMonth) {
+    /**
+     * Creates the charts for the transactions at {@code rows} of {@code columns}.
+     * If {@code aggregates} is present, {@code rows} must hold exactly the transactions selected by
+     * {@code filter}; the monthly and category charts are then read from the aggregates instead of the rows.
+     */
+    public ChartAnalyticsPanel(TransactionColumns columns, int[] rows, boolean isFilterMonth, Filter filter,
+                               Optional<TransactionAggregates> aggregates) {
         super(chooseFxml(isFilterMonth));
+        Optional<List<CategoryEnum>> categories = aggregates.flatMap(unused -> getExpenseCategories(filter));
+        Optional<List<YearMonth>> months = aggregates.flatMap(totals -> getMonths(filter, totals));
+
         if (isFilterMonth) {
-            graphByWeek(transactionList);
+            graphByWeek(columns, rows);
+        } else if (categories.isPresent()) {
+            graphByMonth(aggregates.get(), categories.get());
         } else {
-            graphByMonth(transactionList);
+            graphByMonth(columns, rows);
+        }
+
+        if (categories.isPresent() && months.isPresent()) {
+            graphByCategory(aggregates.get(), categories.get(), months.get());
+        } else {
+            graphByCategory(columns, rows);
         }
-        graphByCategory(transactionList);
     }
 
     /**
@@ -69,36 +95,87 @@ public class ChartAnalyticsPanel extends UiPart<Region> {
     }
 
     /**
-     * Creates a pie chart which displays the expenditure by category
-     * @param transactionList
+     * Returns the categories selected by {@code filter} that count towards expenditure,
+     * or an empty {@code Optional} if the category filter is not a single category or "ALL".
      */
-    private void graphByCategory(ObservableList<Transaction> transactionList) {
-        ObservableList<PieChart.Data> pieChartData = FXCollections.observableArrayList();
-        ArrayList<String> categories = new ArrayList<String>();
-        ArrayList<Double> amounts = new ArrayList<Double>();
+    private static Optional<List<CategoryEnum>> getExpenseCategories(Filter filter) {
+        String category = filter.getFilterCategoryName();
+        if (category.equals("ALL")) {
+            List<CategoryEnum> categories = new ArrayList<>(Arrays.asList(CategoryEnum.values()));
+            categories.remove(CategoryEnum.INCOME);
+            return Optional.of(categories);
+        }
+        try {
+            CategoryEnum selected = CategoryEnum.valueOf(category);
+            return Optional.of(selected == CategoryEnum.INCOME
+                    ? Collections.emptyList()
+                    : Collections.singletonList(selected));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
 
-        for (Transaction transaction : transactionList) {
-            String category = transaction.getCategory().toString();
-            if (category.equals("INCOME") || transaction.getAmount().positive) {
-                continue;
+    /**
+     * Returns the months selected by {@code filter}, or an empty {@code Optional} if the month filter is not
+     * a single month or "ALL".
+     */
+    private static Optional<List<YearMonth>> getMonths(Filter filter, TransactionAggregates aggregates) {
+        String month = filter.getDateMonth();
+        if (month.equals("ALL")) {
+            return Optional.of(new ArrayList<>(aggregates.getMonths()));
+        }
+        try {
+            return Optional.of(Collections.singletonList(YearMonth.parse(month)));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Creates a pie chart which displays the expenditure by category, read from the running totals
+     * of {@code months}.
+     */
+    private void graphByCategory(TransactionAggregates aggregates, List<CategoryEnum> categories,
+                                 List<YearMonth> months) {
+        Map<String, Double> amountsByCategory = new LinkedHashMap<>();
+        for (CategoryEnum category : categories) {
+            long cents = 0;
+            int count = 0;
+            for (YearMonth month : months) {
+                cents += aggregates.getExpenseCents(month, category);
+                count += aggregates.getExpenseCount(month, category);
             }
-            Amount amount = transaction.getAmount();
-            double amountDouble = amount.transactionAmount;
-            if (categories.contains(category)) {
-                int index = categories.indexOf(category);
-                double newCategoryAmount = amountDouble + amounts.get(index);
-                amounts.set(index, newCategoryAmount);
-            } else {
-                categories.add(category);
-                int index = categories.size() - 1;
-                amounts.add(index, amountDouble);
+            if (count > 0) {
+                amountsByCategory.put(category.name(), MoneyUtil.toDollars(cents));
             }
         }
+        drawPieChart(amountsByCategory);
+    }
 
+    /**
+     * Creates a pie chart which displays the expenditure by category of the transactions at {@code rows}.
+     */
+    private void graphByCategory(TransactionColumns columns, int[] rows) {
+        long[] cents = columns.sumExpenseByCategory(rows);
+        int[] counts = columns.countExpenseByCategory(rows);
+        Map<String, Double> amountsByCategory = new LinkedHashMap<>();
+        for (CategoryEnum category : CategoryEnum.values()) {
+            if (counts[category.ordinal()] > 0) {
+                amountsByCategory.put(category.name(), MoneyUtil.toDollars(cents[category.ordinal()]));
+            }
+        }
+        drawPieChart(amountsByCategory);
+    }
+
+    /**
+     * Fills the pie chart with one slice per category in {@code amountsByCategory}.
+     */
+    private void drawPieChart(Map<String, Double> amountsByCategory) {
+        ObservableList<PieChart.Data> pieChartData = FXCollections.observableArrayList();
         double totalAmount = 0;
-        for (int i = 0; i < categories.size(); i++) {
-            pieChartData.add(new PieChart.Data(categories.get(i), amounts.get(i)));
-            totalAmount += amounts.get(i);
+        for (Map.Entry<String, Double> entry : amountsByCategory.entrySet()) {
+            pieChartData.add(new PieChart.Data(entry.getKey(), entry.getValue()));
+            totalAmount += entry.getValue();
         }
 
         double finalTotalAmount = totalAmount;
@@ -115,51 +192,19 @@ public class ChartAnalyticsPanel extends UiPart<Region> {
 
     /**
      * Creates a stacked bar chart, X axis is days of the week and Y axis is total expenditure, stacked by weeks.
-     * @param transactionList Transaction List filtered by a certain month.
+     * @param rows Rows of {@code columns} filtered by a certain month.
      */
-    private void graphByWeek(ObservableList<Transaction> transactionList) {
+    private void graphByWeek(TransactionColumns columns, int[] rows) {
         xAxis.setLabel("Day");
         xAxis.getCategories().addAll("Week 1", "Week 2", "Week 3", "Week 4", "Week 5");
         yAxis.setLabel("Total Expenditure");
         stackedBarChart.setTitle("Expenditure This Month by Day of the Week");
 
+        long[][] centsByWeekAndDay = columns.sumExpenseByWeekAndDay(rows);
         double[][] spentByWeekAndDay = new double[5][7];
-
-        for (Transaction transaction : transactionList) {
-            Amount amount = transaction.getAmount();
-            String categoryString = transaction.getCategory().toString();
-            LocalDate transactionLocalDate = transaction.getDate().transactionDate;
-            int weekIndex = (transactionLocalDate.getDayOfMonth() - 1) / 7;
-            DayOfWeek day = transactionLocalDate.getDayOfWeek();
-
-            if (amount.positive || categoryString.equals("INCOME")) {
-                continue;
-            }
-
-            switch (day.toString()) {
-            case "MONDAY":
-                spentByWeekAndDay[weekIndex][0] += amount.transactionAmount;
-                break;
-            case "TUESDAY":
-                spentByWeekAndDay[weekIndex][1] += amount.transactionAmount;
-                break;
-            case "WEDNESDAY":
-                spentByWeekAndDay[weekIndex][2] += amount.transactionAmount;
-                break;
-            case "THURSDAY":
-                spentByWeekAndDay[weekIndex][3] += amount.transactionAmount;
-                break;
-            case "FRIDAY":
-                spentByWeekAndDay[weekIndex][4] += amount.transactionAmount;
-                break;
-            case "SATURDAY":
-                spentByWeekAndDay[weekIndex][5] += amount.transactionAmount;
-                break;
-            case "SUNDAY":
-                spentByWeekAndDay[weekIndex][6] += amount.transactionAmount;
-                break;
-            default:
-                continue;
+        for (int week = 0; week < 5; week++) {
+            for (int day = 0; day < 7; day++) {
+                spentByWeekAndDay[week][day] = MoneyUtil.toDollars(centsByWeekAndDay[week][day]);
             }
         }
 
@@ -186,32 +231,50 @@ public class ChartAnalyticsPanel extends UiPart<Region> {
     }
 
     /**
-     * Creates a stacked bar chart, X axis is months of the year and Y axis is total expenditure.
-     * Stacks last year's and this year's transactions.
-     * @param transactionList Transaction List filtered by a certain month.
+     * Creates a stacked bar chart of the expenditure in {@code categories} by month, read from the running totals.
      */
-    private void graphByMonth(ObservableList<Transaction> transactionList) {
-        xAxis.setLabel("Month");
-        yAxis.setLabel("Total Expenditure");
-        barChart.setTitle("Expenditure This Year and Last Year By Month");
-
+    private void graphByMonth(TransactionAggregates aggregates, List<CategoryEnum> categories) {
         double[][] spentByYearAndMonth = new double[2][12];
         int currYear = LocalDate.now().getYear();
 
-        for (Transaction transaction : transactionList) {
-            Amount amount = transaction.getAmount();
-            String categoryString = transaction.getCategory().toString();
-            LocalDate transactionLocalDate = transaction.getDate().transactionDate;
-            if (amount.positive || categoryString.equals("INCOME")) {
-                continue;
-            } else if (transactionLocalDate.getYear() < currYear - 1) {
-                break;
+        for (int yearIndex = 0; yearIndex < 2; yearIndex++) {
+            for (int month = 1; month <= 12; month++) {
+                YearMonth yearMonth = YearMonth.of(currYear - yearIndex, month);
+                long cents = 0;
+                for (CategoryEnum category : categories) {
+                    cents += aggregates.getExpenseCents(yearMonth, category);
+                }
+                spentByYearAndMonth[yearIndex][month - 1] = MoneyUtil.toDollars(cents);
             }
+        }
+        drawBarChart(spentByYearAndMonth, currYear);
+    }
 
-            int yearIndex = currYear - transactionLocalDate.getYear();
-            int month = transactionLocalDate.getMonthValue();
-            spentByYearAndMonth[yearIndex][month - 1] += amount.transactionAmount;
+    /**
+     * Creates a stacked bar chart, X axis is months of the year and Y axis is total expenditure.
+     * Stacks last year's and this year's transactions.
+     * @param rows Rows of {@code columns} to chart.
+     */
+    private void graphByMonth(TransactionColumns columns, int[] rows) {
+        int currYear = LocalDate.now().getYear();
+        long[][] centsByYearAndMonth = columns.sumExpenseByYearAndMonth(rows, currYear, 2);
+        double[][] spentByYearAndMonth = new double[2][12];
+        for (int yearIndex = 0; yearIndex < 2; yearIndex++) {
+            for (int month = 0; month < 12; month++) {
+                spentByYearAndMonth[yearIndex][month] = MoneyUtil.toDollars(centsByYearAndMonth[yearIndex][month]);
+            }
         }
+        drawBarChart(spentByYearAndMonth, currYear);
+    }
+
+    /**
+     * Fills the bar chart with this year's and last year's expenditure by month.
+     * @param spentByYearAndMonth expenditure indexed by years before {@code currYear} and then month
+     */
+    private void drawBarChart(double[][] spentByYearAndMonth, int currYear) {
+        xAxis.setLabel("Month");
+        yAxis.setLabel("Total Expenditure");
+        barChart.setTitle("Expenditure This Year and Last Year By Month");
 
         XYChart.Series<String, Number> seriesPrevYear = new XYChart.Series();
         seriesPrevYear.setName(currYear - 1 + "");
@@ -0,0 +1,44 @@
+package seedu.expensela.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.concurrent.Task;
+import seedu.expensela.logic.commands.ImportCommand;
+import seedu.expensela.logic.commands.exceptions.CommandException;
+import seedu.expensela.storage.CsvTransactionImporter;
+
+/**
+ * Reads the csv file of an import away from the JavaFX application thread.
+ * How far it has got is its progress, and is described in its message for the status bar.
+ */
+public class ImportTask extends Task<CsvTransactionImporter.Result> {
+
+    public static final String MESSAGE_PROGRESS = "Importing: %1$d%% (%2$,d rows, %3$,d rows/s)";
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final ImportCommand command;
+
+    public ImportTask(ImportCommand command) {
+        this.command = requireNonNull(command);
+    }
+
+    @Override
+    protected CsvTransactionImporter.Result call() throws CommandException {
+        long startTime = System.nanoTime();
+        return command.readFile((bytesRead, totalBytes, rowsRead) -> {
+            updateProgress(bytesRead, totalBytes);
+            updateMessage(formatProgress(bytesRead, totalBytes, rowsRead, System.nanoTime() - startTime));
+        });
+    }
+
+    /**
+     * Returns the percentage of the file read, the rows read and how many rows were read per second, as shown in
+     * the status bar.
+     */
+    static String formatProgress(long bytesRead, long totalBytes, int rowsRead, long elapsedNanos) {
+        long percent = totalBytes == 0 ? 100 : bytesRead * 100 / totalBytes;
+        long rowsPerSecond = elapsedNanos == 0 ? 0 : rowsRead * NANOS_PER_SECOND / elapsedNanos;
+        return String.format(MESSAGE_PROGRESS, percent, rowsRead, rowsPerSecond);
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.expensela.ui;
 
+import java.util.Optional;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -12,10 +14,14 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.expensela.commons.core.GuiSettings;
 import seedu.expensela.commons.core.LogsCenter;
+import seedu.expensela.commons.core.Messages;
 import seedu.expensela.logic.Logic;
+import seedu.expensela.logic.commands.CancelImportCommand;
 import seedu.expensela.logic.commands.CommandResult;
+import seedu.expensela.logic.commands.ImportCommand;
 import seedu.expensela.logic.commands.exceptions.CommandException;
 import seedu.expensela.logic.parser.exceptions.ParseException;
+import seedu.expensela.model.transaction.TransactionAggregates;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -37,6 +43,8 @@ public class MainWindow extends UiPart<Stage> {
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
     private ChartAnalyticsPanel chartAnalyticsPanel;
+    private StatusBarFooter statusBarFooter;
+    private ImportTask importTask;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -118,7 +126,9 @@ public class MainWindow extends UiPart<Stage> {
     void fillInnerParts() {
         transactionListPanel = new TransactionListPanel(logic.getFilteredTransactionList());
         monthlyDataPanel = new MonthlyDataPanel(logic.getMonthlyData(), logic.getTotalBalance());
-        chartAnalyticsPanel = new ChartAnalyticsPanel(logic.getFilteredTransactionList(), logic.getIsFilterMonth());
+        chartAnalyticsPanel = new ChartAnalyticsPanel(logic.getTransactionColumns(),
+                logic.getFilteredTransactionRows(), logic.getIsFilterMonth(),
+                logic.getFilter(), getAggregatesForChart());
         transactionListAndChartAnalyticsPanelPlaceholder.getChildren().add(transactionListPanel.getRoot());
         monthlyDataPlaceholder.getChildren().add(monthlyDataPanel.getRoot());
 
@@ -127,8 +137,9 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getExpenseLaFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getExpenseLaFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand, logic);
@@ -163,6 +174,12 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.show();
     }
 
+    void showHistoryStatus(String status) {
+        if (statusBarFooter != null) {
+            statusBarFooter.setHistoryStatus(status);
+        }
+    }
+
     /**
      * Closes the application.
      */
@@ -171,6 +188,7 @@ public class MainWindow extends UiPart<Stage> {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
+        cancelImport();
         helpWindow.hide();
         primaryStage.hide();
     }
@@ -179,44 +197,33 @@ public class MainWindow extends UiPart<Stage> {
         return transactionListPanel;
     }
 
+    /**
+     * Returns the running totals for the charts to read from, if the filtered list is fully described by the filter.
+     */
+    private Optional<TransactionAggregates> getAggregatesForChart() {
+        return logic.isFilterApplied() ? Optional.of(logic.getAggregates()) : Optional.empty();
+    }
+
     /**
      * Executes the command and returns the result.
+     * An import only starts here: its file is read in the background, and what was read is added once the whole file
+     * has been read.
      *
      * @see seedu.expensela.logic.Logic#execute(String)
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            monthlyDataPlaceholder.getChildren().clear();
-            monthlyDataPanel = new MonthlyDataPanel(logic.getMonthlyData(), logic.getTotalBalance());
-            monthlyDataPlaceholder.getChildren().add(monthlyDataPanel.getRoot());
-
-            transactionListAndChartAnalyticsPanelPlaceholder.getChildren().clear();
-            if (logic.getToggleView().getIsViewList()) {
-                transactionListPanel = new TransactionListPanel(logic.getFilteredTransactionList());
-                transactionListAndChartAnalyticsPanelPlaceholder.getChildren().add(transactionListPanel.getRoot());
-            } else {
-                chartAnalyticsPanel = new ChartAnalyticsPanel(logic.getFilteredTransactionList(),
-                        logic.getIsFilterMonth());
-                transactionListAndChartAnalyticsPanelPlaceholder.getChildren().add(chartAnalyticsPanel.getRoot());
-            }
-
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            // updating filterPanel
-            filterPanelPlaceholder.getChildren().clear();
-            filterPanel = new FilterPanel(logic.getFilter());
-            filterPanelPlaceholder.getChildren().add(filterPanel.getRoot());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+            Optional<ImportCommand> importCommand = logic.parseImport(commandText);
+            if (importCommand.isPresent()) {
+                return startImport(importCommand.get());
             }
 
-            if (commandResult.isExit()) {
-                handleExit();
+            CommandResult commandResult = logic.execute(commandText);
+            logger.info("Result: " + commandResult.getFeedbackToUser());
+            if (commandResult.isCancelImport() && !cancelImport()) {
+                throw new CommandException(CancelImportCommand.MESSAGE_NO_IMPORT_RUNNING);
             }
-
+            showResult(commandResult);
             return commandResult;
         } catch (CommandException | ParseException e) {
             logger.info("Invalid command: " + commandText);
@@ -224,4 +231,97 @@ public class MainWindow extends UiPart<Stage> {
             throw e;
         }
     }
+
+    /**
+     * Refreshes the panels after a command has changed the data, and shows the result of the command.
+     */
+    private void showResult(CommandResult commandResult) {
+        monthlyDataPlaceholder.getChildren().clear();
+        monthlyDataPanel = new MonthlyDataPanel(logic.getMonthlyData(), logic.getTotalBalance());
+        monthlyDataPlaceholder.getChildren().add(monthlyDataPanel.getRoot());
+
+        transactionListAndChartAnalyticsPanelPlaceholder.getChildren().clear();
+        if (logic.getToggleView().getIsViewList()) {
+            transactionListPanel = new TransactionListPanel(logic.getFilteredTransactionList());
+            transactionListAndChartAnalyticsPanelPlaceholder.getChildren().add(transactionListPanel.getRoot());
+        } else {
+            chartAnalyticsPanel = new ChartAnalyticsPanel(logic.getTransactionColumns(),
+                    logic.getFilteredTransactionRows(), logic.getIsFilterMonth(), logic.getFilter(),
+                    getAggregatesForChart());
+            transactionListAndChartAnalyticsPanelPlaceholder.getChildren().add(chartAnalyticsPanel.getRoot());
+        }
+
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+
+        // updating filterPanel
+        filterPanelPlaceholder.getChildren().clear();
+        filterPanel = new FilterPanel(logic.getFilter());
+        filterPanelPlaceholder.getChildren().add(filterPanel.getRoot());
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
+
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+    }
+
+    /**
+     * Starts reading the file of {@code command} on a background thread, showing how far it has got in the status
+     * bar. The transactions read are added on the JavaFX application thread once the whole file has been read, so
+     * that the data changes in one step, which can be undone.
+     *
+     * @throws CommandException if another import is still running.
+     */
+    private CommandResult startImport(ImportCommand command) throws CommandException {
+        if (importTask != null) {
+            throw new CommandException(ImportCommand.MESSAGE_ALREADY_RUNNING);
+        }
+        ImportTask task = new ImportTask(command);
+        task.setOnSucceeded(event -> {
+            endImport();
+            try {
+                CommandResult commandResult = logic.completeImport(command, task.getValue());
+                logger.info("Result: " + commandResult.getFeedbackToUser());
+                showResult(commandResult);
+            } catch (CommandException e) {
+                resultDisplay.setFeedbackToUser(e.getMessage());
+            }
+        });
+        task.setOnFailed(event -> {
+            endImport();
+            Throwable exception = task.getException();
+            logger.warning("Import failed: " + exception);
+            resultDisplay.setFeedbackToUser(exception instanceof CommandException
+                    ? exception.getMessage()
+                    : Messages.MESSAGE_FAILED_IMPORT);
+        });
+        task.setOnCancelled(event -> endImport());
+
+        importTask = task;
+        statusBarFooter.showImportStatus(task.messageProperty());
+        Thread thread = new Thread(task, "import");
+        thread.setDaemon(true);
+        thread.start();
+
+        CommandResult commandResult = new CommandResult(String.format(ImportCommand.MESSAGE_STARTED,
+                command.getCsvFile()));
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+        return commandResult;
+    }
+
+    /**
+     * Cancels the import that is running, so that none of its transactions are added.
+     *
+     * @return false if there is no import running.
+     */
+    private boolean cancelImport() {
+        return importTask != null && importTask.cancel();
+    }
+
+    private void endImport() {
+        importTask = null;
+        statusBarFooter.clearImportStatus();
+    }
 }
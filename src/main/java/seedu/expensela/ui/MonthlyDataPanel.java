@@ -60,7 +60,7 @@ public class MonthlyDataPanel extends UiPart<Region> {
     public MonthlyDataPanel(MonthlyData monthlyData, Balance balanceAmount) {
         super(FXML);
         this.monthlyData = monthlyData;
-        drawCircle(monthlyData.getBudget().budgetAmount, monthlyData.getExpense().expenseAmount);
+        drawCircle(monthlyData.getBudget().budgetCents, monthlyData.getExpense().expenseCents);
         balance.setText("Total Balance: " + balanceAmount);
         budget.setText("Monthly Budget: " + monthlyData.getBudget());
         expenditure.setText("Monthly Expense: " + monthlyData.getExpense());
@@ -3,6 +3,7 @@ package seedu.expensela.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
@@ -16,11 +17,33 @@ public class StatusBarFooter extends UiPart<Region> {
 
     @FXML
     private Label saveLocationStatus;
-
+    @FXML
+    private Label importStatus;
+    @FXML
+    private Label historyStatus;
 
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    public void setHistoryStatus(String status) {
+        historyStatus.setText(status);
+    }
+
+    /**
+     * Shows {@code status}, such as how far an import has got, as it changes until {@link #clearImportStatus()}.
+     */
+    public void showImportStatus(ObservableValue<String> status) {
+        importStatus.textProperty().bind(status);
+    }
+
+    /**
+     * Stops showing the status given to {@link #showImportStatus}.
+     */
+    public void clearImportStatus() {
+        importStatus.textProperty().unbind();
+        importStatus.setText("");
+    }
+
 }
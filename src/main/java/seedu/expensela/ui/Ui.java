@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows how far loading the transaction history has got. */
+    void showHistoryStatus(String status);
+
 }
@@ -48,6 +48,13 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showHistoryStatus(String status) {
+        if (mainWindow != null) {
+            mainWindow.showHistoryStatus(status);
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -0,0 +1,88 @@
+package seedu.expensela.commons.csv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expensela.testutil.Assert.assertThrows;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.expensela.commons.exceptions.IllegalValueException;
+
+public class CsvTokenizerTest {
+
+    @Test
+    public void nextRecord_unquotedFields_splitAtCommas() throws Exception {
+        CsvTokenizer tokenizer = new CsvTokenizer(CharBuffer.wrap("a,b c,,d\r\n\ne\n"));
+        assertTrue(tokenizer.nextRecord());
+        assertEquals(Arrays.asList("a", "b c", "", "d"), fields(tokenizer));
+        assertTrue(tokenizer.nextRecord());
+        assertEquals(Arrays.asList(""), fields(tokenizer));
+        assertTrue(tokenizer.nextRecord());
+        assertEquals(Arrays.asList("e"), fields(tokenizer));
+        assertEquals(3, tokenizer.getLineNumber());
+        assertFalse(tokenizer.nextRecord());
+        assertEquals(3, tokenizer.getLineCount());
+    }
+
+    @Test
+    public void nextRecord_quotedFields_commasQuotesAndLineBreaksKept() throws Exception {
+        CsvTokenizer tokenizer = new CsvTokenizer(CharBuffer.wrap("\"a,b\",\"say \"\"hi\"\"\",\"two\nlines\"\r\nx\"y"));
+        assertTrue(tokenizer.nextRecord());
+        assertEquals(Arrays.asList("a,b", "say \"hi\"", "two\nlines"), fields(tokenizer));
+        assertEquals(1, tokenizer.getLineNumber());
+        assertTrue(tokenizer.nextRecord());
+        assertEquals(Arrays.asList("x\"y"), fields(tokenizer));
+        assertEquals(3, tokenizer.getLineNumber());
+        assertFalse(tokenizer.nextRecord());
+    }
+
+    @Test
+    public void nextRecord_malformedRecords_throwsAndMovesOn() throws Exception {
+        CsvTokenizer tokenizer = new CsvTokenizer(CharBuffer.wrap("\"a\"b,c\nd\n\"open,e\nf"));
+        assertThrows(IllegalValueException.class, CsvTokenizer.MESSAGE_TEXT_AFTER_QUOTE, tokenizer::nextRecord);
+        assertEquals("\"a\"b,c", tokenizer.getRecord().toString());
+        assertTrue(tokenizer.nextRecord());
+        assertEquals(Arrays.asList("d"), fields(tokenizer));
+        assertThrows(IllegalValueException.class, CsvTokenizer.MESSAGE_UNCLOSED_QUOTE, tokenizer::nextRecord);
+        assertEquals(3, tokenizer.getLineNumber());
+        assertFalse(tokenizer.nextRecord());
+    }
+
+    @Test
+    public void getField_unescapedField_viewOfText() throws Exception {
+        CharBuffer text = CharBuffer.wrap("abc,\"d\"".toCharArray());
+        CsvTokenizer tokenizer = new CsvTokenizer(text);
+        tokenizer.nextRecord();
+        text.put(0, 'x');
+        assertEquals("xbc", tokenizer.getField(0).toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> tokenizer.getField(2));
+    }
+
+    @Test
+    public void findCompleteRecordsLength() {
+        assertEquals(0, CsvTokenizer.findCompleteRecordsLength(CharBuffer.wrap("a,b")));
+        assertEquals(4, CsvTokenizer.findCompleteRecordsLength(CharBuffer.wrap("a,b\nc")));
+        assertEquals(5, CsvTokenizer.findCompleteRecordsLength(CharBuffer.wrap("a,b\r\nc")));
+        // a \n may still follow the \r
+        assertEquals(4, CsvTokenizer.findCompleteRecordsLength(CharBuffer.wrap("a,b\nc\r")));
+        assertEquals(4, CsvTokenizer.findCompleteRecordsLength(CharBuffer.wrap("a,b\n\"c\nd")));
+        assertEquals(10, CsvTokenizer.findCompleteRecordsLength(CharBuffer.wrap("a,b\n\"c\nd\"\n")));
+    }
+
+    /**
+     * Returns the fields of the current record of {@code tokenizer} as strings.
+     */
+    private static List<String> fields(CsvTokenizer tokenizer) {
+        List<String> fields = new ArrayList<>();
+        for (int i = 0; i < tokenizer.getFieldCount(); i++) {
+            fields.add(tokenizer.getField(i).toString());
+        }
+        return fields;
+    }
+}
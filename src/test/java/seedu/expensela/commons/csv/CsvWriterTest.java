@@ -0,0 +1,38 @@
+package seedu.expensela.commons.csv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvWriterTest {
+
+    @Test
+    public void field_specialCharacters_quotedOnlyWhenNeeded() {
+        StringBuilder out = new StringBuilder();
+        new CsvWriter(out).field("plain").field("a,b").field("say \"hi\"").field("").endRecord()
+                .field("two\nlines").endRecord();
+        assertEquals("plain,\"a,b\",\"say \"\"hi\"\"\",\r\n\"two\nlines\"\r\n", out.toString());
+    }
+
+    @Test
+    public void field_readBackByTokenizer_sameFields() throws Exception {
+        List<String> values = Arrays.asList("Lunch, dinner", "\"quoted\"", "", " spaced ", "line\r\nbreak", "\"");
+        StringBuilder out = new StringBuilder();
+        CsvWriter writer = new CsvWriter(out);
+        values.forEach(writer::field);
+        writer.endRecord();
+
+        CsvTokenizer tokenizer = new CsvTokenizer(CharBuffer.wrap(out));
+        tokenizer.nextRecord();
+        assertEquals(values.size(), tokenizer.getFieldCount());
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(values.get(i), tokenizer.getField(i).toString());
+        }
+        assertFalse(tokenizer.nextRecord());
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.expensela.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.expensela.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class MoneyUtilTest {
+
+    @Test
+    public void parseCents_validValues_returnsCents() {
+        assertEquals(1200, MoneyUtil.parseCents("12"));
+        assertEquals(1250, MoneyUtil.parseCents("12.5"));
+        assertEquals(1205, MoneyUtil.parseCents("12.05"));
+        assertEquals(-5, MoneyUtil.parseCents("-0.05"));
+        assertEquals(0, MoneyUtil.parseCents("0.0"));
+        assertEquals(999999999999999999L, MoneyUtil.parseCents("9999999999999999.99"));
+    }
+
+    @Test
+    public void parseCents_invalidValues_throwsNumberFormatException() {
+        assertThrows(NullPointerException.class, () -> MoneyUtil.parseCents(null));
+        assertThrows(NumberFormatException.class, () -> MoneyUtil.parseCents(""));
+        assertThrows(NumberFormatException.class, () -> MoneyUtil.parseCents(".5"));
+        assertThrows(NumberFormatException.class, () -> MoneyUtil.parseCents("1.234"));
+        assertThrows(NumberFormatException.class, () -> MoneyUtil.parseCents("+1"));
+        assertThrows(NumberFormatException.class, () -> MoneyUtil.parseCents("1,000"));
+        assertThrows(NumberFormatException.class, () -> MoneyUtil.parseCents("99999999999999999"));
+        assertThrows(NumberFormatException.class, () -> MoneyUtil.parseCents("-99999999999999999999"));
+    }
+
+    @Test
+    public void toPlainString() {
+        assertEquals("0.00", MoneyUtil.toPlainString(0));
+        assertEquals("0.05", MoneyUtil.toPlainString(5));
+        assertEquals("-1234.50", MoneyUtil.toPlainString(-123450));
+        assertEquals(-123450, MoneyUtil.parseCents(MoneyUtil.toPlainString(-123450)));
+    }
+
+    @Test
+    public void appendPlain() {
+        StringBuilder builder = new StringBuilder("$");
+        assertEquals("$-1234.50", MoneyUtil.appendPlain(builder, -123450).toString());
+        for (long cents : new long[] {0, 5, 99999, Long.MIN_VALUE, Long.MAX_VALUE}) {
+            assertEquals(MoneyUtil.toPlainString(cents), MoneyUtil.appendPlain(new StringBuilder(), cents).toString());
+        }
+    }
+
+    @Test
+    public void format() {
+        assertEquals("999.99", MoneyUtil.format(99999));
+        assertEquals("1,000.00", MoneyUtil.format(100000));
+        assertEquals("-1,234,567.08", MoneyUtil.format(-123456708));
+    }
+}
@@ -9,10 +9,16 @@ import static seedu.expensela.logic.commands.CommandTestUtil.DATE_DESC_PIZZA;
 import static seedu.expensela.logic.commands.CommandTestUtil.NAME_DESC_PIZZA;
 import static seedu.expensela.logic.commands.CommandTestUtil.REMARK_DESC_PIZZA;
 import static seedu.expensela.testutil.Assert.assertThrows;
+import static seedu.expensela.testutil.TypicalTransactions.HEALTH;
 import static seedu.expensela.testutil.TypicalTransactions.PIZZA;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +26,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.expensela.logic.commands.AddCommand;
 import seedu.expensela.logic.commands.CommandResult;
+import seedu.expensela.logic.commands.ImportCommand;
 import seedu.expensela.logic.commands.ListCommand;
 import seedu.expensela.logic.commands.exceptions.CommandException;
 import seedu.expensela.logic.parser.exceptions.ParseException;
@@ -29,6 +36,9 @@ import seedu.expensela.model.ModelManager;
 import seedu.expensela.model.ReadOnlyExpenseLa;
 import seedu.expensela.model.UserPrefs;
 import seedu.expensela.model.transaction.Transaction;
+import seedu.expensela.storage.CsvTransactionExporter;
+import seedu.expensela.storage.CsvTransactionImporter;
+import seedu.expensela.storage.DeferredWrite;
 import seedu.expensela.storage.JsonExpenseLaStorage;
 import seedu.expensela.storage.JsonGlobalDataStorage;
 import seedu.expensela.storage.JsonUserPrefsStorage;
@@ -43,6 +53,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -52,7 +63,7 @@ public class LogicManagerTest {
                 new JsonExpenseLaStorage(temporaryFolder.resolve("expenseLa.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         JsonGlobalDataStorage globalDataStorage = new JsonGlobalDataStorage(temporaryFolder.resolve("globalData.json"));
-        StorageManager storage = new StorageManager(expenseLaStorage, userPrefsStorage, globalDataStorage);
+        storage = new StorageManager(expenseLaStorage, userPrefsStorage, globalDataStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -75,7 +86,7 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
+    public void execute_storageThrowsIoException_reportedToSaveFailureHandler() throws Exception {
         // Setup LogicManager with JsonExpenseLaIoExceptionThrowingStub
         JsonExpenseLaStorage expenseLaStorage =
                 new JsonExpenseLaIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionExpenseLa.json"));
@@ -83,8 +94,10 @@ public class LogicManagerTest {
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
         JsonGlobalDataStorage globalDataStorage =
                 new JsonGlobalDataStorage(temporaryFolder.resolve("ioExceptionGlobalData.json"));
-        StorageManager storage = new StorageManager(expenseLaStorage, userPrefsStorage, globalDataStorage);
+        storage = new StorageManager(expenseLaStorage, userPrefsStorage, globalDataStorage);
         logic = new LogicManager(model, storage);
+        List<String> reportedMessages = new ArrayList<>();
+        logic.setSaveFailureHandler(reportedMessages::add);
 
         // Execute add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_PIZZA + AMOUNT_DESC_PIZZA + DATE_DESC_PIZZA
@@ -94,8 +107,38 @@ public class LogicManagerTest {
         expectedModel.setMonthlyData(new MonthlyDataBuilder().build());
         expectedModel.addTransaction(expectedTransaction);
         expectedModel.updateFilteredTransactionList(expectedModel.getFilter().getDateMonthPredicate(), null);
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandSuccess(addCommand, String.format(AddCommand.MESSAGE_SUCCESS, expectedTransaction),
+                expectedModel);
+
+        // The command succeeds, but the write made behind it fails
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::flush);
+        assertEquals(Collections.singletonList(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION),
+                reportedMessages);
+    }
+
+    @Test
+    public void parseImport() throws Exception {
+        assertEquals(Optional.of(new ImportCommand("transactions.csv")),
+                logic.parseImport(ImportCommand.COMMAND_WORD + " transactions.csv"));
+        assertEquals(Optional.empty(), logic.parseImport(ListCommand.COMMAND_WORD));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> logic.parseImport("uicfhmowqewca"));
+    }
+
+    @Test
+    public void completeImport_transactionsRead_addedAsOneStep() throws Exception {
+        Path csvFile = temporaryFolder.resolve("transactions.csv");
+        CsvTransactionExporter.write(csvFile, Arrays.asList(PIZZA, HEALTH));
+        ImportCommand command = logic.parseImport(ImportCommand.COMMAND_WORD + " " + csvFile).get();
+        CsvTransactionImporter.Result result = command.readFile((read, total, rows) -> { });
+        assertEquals(Collections.emptyList(), model.getExpenseLa().getTransactionList());
+
+        logic.completeImport(command, result);
+        assertEquals(2, model.getExpenseLa().getTransactionList().size());
+        model.undoExpenseLa();
+        assertEquals(Collections.emptyList(), model.getExpenseLa().getTransactionList());
+
+        // The import is saved behind the command, and must finish before the temporary folder is deleted
+        storage.flush();
     }
 
     @Test
@@ -157,7 +200,7 @@ public class LogicManagerTest {
     }
 
     /**
-     * A stub class to throw an {@code IOException} when the save method is called.
+     * A stub class to throw an {@code IOException} when the save methods are called.
      */
     private static class JsonExpenseLaIoExceptionThrowingStub extends JsonExpenseLaStorage {
         private JsonExpenseLaIoExceptionThrowingStub(Path filePath) {
@@ -168,5 +211,12 @@ public class LogicManagerTest {
         public void saveExpenseLa(ReadOnlyExpenseLa expenseLa, Path filePath) throws IOException {
             throw DUMMY_IO_EXCEPTION;
         }
+
+        @Override
+        public DeferredWrite prepareSaveExpenseLa(ReadOnlyExpenseLa expenseLa) {
+            return () -> {
+                throw DUMMY_IO_EXCEPTION;
+            };
+        }
     }
 }
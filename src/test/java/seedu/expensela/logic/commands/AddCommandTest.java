@@ -9,6 +9,7 @@ import static seedu.expensela.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -24,8 +25,11 @@ import seedu.expensela.model.Model;
 import seedu.expensela.model.ReadOnlyExpenseLa;
 import seedu.expensela.model.ReadOnlyUserPrefs;
 import seedu.expensela.model.ToggleView;
+import seedu.expensela.model.TransactionHistory;
 import seedu.expensela.model.monthlydata.MonthlyData;
 import seedu.expensela.model.transaction.Transaction;
+import seedu.expensela.model.transaction.TransactionAggregates;
+import seedu.expensela.model.transaction.TransactionColumns;
 import seedu.expensela.testutil.TransactionBuilder;
 
 public class AddCommandTest {
@@ -159,6 +163,46 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setTransactionHistory(TransactionHistory history) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadAllTransactions() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitExpenseLa() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void clearExpenseLaHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoExpenseLa() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoExpenseLa() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoExpenseLa() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoExpenseLa() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasTransaction(Transaction transaction) {
             throw new AssertionError("This method should not be called.");
@@ -169,6 +213,36 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean isFilterApplied() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TransactionAggregates getAggregates() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TransactionColumns getTransactionColumns() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int[] getFilteredTransactionRows() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addTransactions(Collection<Transaction> transactions) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteTransactions(Collection<Transaction> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setTransaction(Transaction target, Transaction editedTransaction) {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,20 @@
+package seedu.expensela.logic.commands;
+
+import static seedu.expensela.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.expensela.model.Model;
+import seedu.expensela.model.ModelManager;
+
+public class CancelImportCommandTest {
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_cancel_success() {
+        CommandResult expectedCommandResult = new CommandResult(CancelImportCommand.MESSAGE_SUCCESS, false, false,
+                true);
+        assertCommandSuccess(new CancelImportCommand(), model, expectedCommandResult, expectedModel);
+    }
+}
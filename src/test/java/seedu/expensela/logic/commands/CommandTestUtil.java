@@ -274,4 +274,14 @@ public class CommandTestUtil {
         assertEquals(1, model.getFilteredTransactionList().size());
     }
 
+    /**
+     * Deletes the first transaction in {@code model}'s filtered list from {@code model}'s expensela and commits the
+     * change, as executing a command would.
+     */
+    public static void deleteFirstTransaction(Model model) {
+        Transaction firstTransaction = model.getFilteredTransactionList().get(0);
+        model.deleteTransaction(firstTransaction);
+        model.commitExpenseLa();
+    }
+
 }
@@ -1,11 +1,16 @@
 package seedu.expensela.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.expensela.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.expensela.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.expensela.testutil.TypicalTransactions.getTypicalExpenseLa;
 
-import java.nio.file.Paths;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.expensela.commons.core.Messages;
 import seedu.expensela.model.ExpenseLa;
@@ -16,6 +21,9 @@ import seedu.expensela.model.UserPrefs;
 
 public class ExportCommandTest {
 
+    @TempDir
+    public Path testFolder;
+
     private Model model;
 
     @Test
@@ -27,13 +35,23 @@ public class ExportCommandTest {
     }
 
     @Test
-    public void execute_typicalTransactionList_success() {
+    public void execute_typicalTransactionList_success() throws Exception {
         model = new ModelManager(getTypicalExpenseLa(), new UserPrefs(), new GlobalData());
         Model expectedModel = new ModelManager(getTypicalExpenseLa(), new UserPrefs(), new GlobalData());
-        String expectedFilePath = Paths.get("").toAbsolutePath().toString() + "\\transactions.csv";
-        ExportCommand exportCommand = new ExportCommand();
+        Path filePath = testFolder.resolve("transactions.csv");
+        ExportCommand exportCommand = new ExportCommand(filePath);
+
+        assertCommandSuccess(exportCommand, model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, filePath.toAbsolutePath()), expectedModel);
+        assertEquals(model.getFilteredTransactionList().size() + 1,
+                Files.readAllLines(filePath, StandardCharsets.UTF_8).size());
+    }
+
+    @Test
+    public void execute_missingDirectory_throwsCommandException() {
+        model = new ModelManager(getTypicalExpenseLa(), new UserPrefs(), new GlobalData());
+        ExportCommand exportCommand = new ExportCommand(testFolder.resolve("missing").resolve("transactions.csv"));
 
-        // assertCommandSuccess(exportCommand, model,
-        //        String.format(ExportCommand.MESSAGE_SUCCESS, expectedFilePath), expectedModel);
+        assertCommandFailure(exportCommand, model, Messages.MESSAGE_FAILED_EXPORT);
     }
 }
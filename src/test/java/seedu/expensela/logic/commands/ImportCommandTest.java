@@ -0,0 +1,112 @@
+package seedu.expensela.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expensela.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.expensela.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.expensela.testutil.Assert.assertThrows;
+import static seedu.expensela.testutil.TypicalTransactions.GRAB;
+import static seedu.expensela.testutil.TypicalTransactions.HEALTH;
+import static seedu.expensela.testutil.TypicalTransactions.getTypicalExpenseLa;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.expensela.commons.core.Messages;
+import seedu.expensela.logic.commands.exceptions.CommandException;
+import seedu.expensela.model.GlobalData;
+import seedu.expensela.model.Model;
+import seedu.expensela.model.ModelManager;
+import seedu.expensela.model.UserPrefs;
+import seedu.expensela.storage.CsvTransactionImporter;
+
+public class ImportCommandTest {
+
+    private static final String HEADER = "NAME,AMOUNT,DATE,REMARK,CATEGORY";
+    private static final String HEALTH_ROW = "Health Checkup,- $100.00,2020-03-05,Annual health checkup,HEALTH";
+    private static final String GRAB_ROW = "Grab to work,- $100.00,2020-03-04,Claim from boss,TRANSPORT";
+    private static final String INVALID_ROW = "Lunch,- $4.00,2020-02-30,,FOOD";
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalExpenseLa(), new UserPrefs(), new GlobalData());
+
+    @Test
+    public void execute_newAndDuplicateRows_newRowsAdded() throws Exception {
+        assertFalse(model.hasTransaction(HEALTH));
+        assertTrue(model.hasTransaction(GRAB));
+        Path csvFile = testFolder.resolve("transactions.csv");
+        Files.write(csvFile, Arrays.asList(HEADER, HEALTH_ROW, HEALTH_ROW, GRAB_ROW), StandardCharsets.UTF_8);
+
+        Model expectedModel = new ModelManager(getTypicalExpenseLa(), new UserPrefs(), new GlobalData());
+        expectedModel.addTransaction(HEALTH);
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 1)
+                + String.format(ImportCommand.MESSAGE_DUPLICATES_SKIPPED, 2);
+        assertCommandSuccess(new ImportCommand(csvFile.toString()), model, expectedMessage, expectedModel);
+        assertFalse(Files.exists(ImportCommand.getReportPath(csvFile)));
+    }
+
+    @Test
+    public void execute_invalidRow_listedInReport() throws Exception {
+        Path csvFile = testFolder.resolve("transactions.csv");
+        Files.write(csvFile, Arrays.asList(HEADER, INVALID_ROW, HEALTH_ROW), StandardCharsets.UTF_8);
+        Path reportFile = ImportCommand.getReportPath(csvFile);
+
+        Model expectedModel = new ModelManager(getTypicalExpenseLa(), new UserPrefs(), new GlobalData());
+        expectedModel.addTransaction(HEALTH);
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 1)
+                + String.format(ImportCommand.MESSAGE_ROWS_REJECTED, 1, reportFile.toAbsolutePath());
+        assertCommandSuccess(new ImportCommand(csvFile.toString()), model, expectedMessage, expectedModel);
+
+        assertEquals(testFolder.resolve("transactions-rejected.txt"), reportFile);
+        assertEquals(INVALID_ROW, Files.readAllLines(reportFile, StandardCharsets.UTF_8).get(1));
+    }
+
+    @Test
+    public void readFile_thenAddToModel_modelOnlyChangedWhenAdded() throws Exception {
+        Path csvFile = testFolder.resolve("transactions.csv");
+        Files.write(csvFile, Arrays.asList(HEADER, HEALTH_ROW), StandardCharsets.UTF_8);
+        ImportCommand command = new ImportCommand(csvFile.toString());
+        List<Long> bytesRead = new ArrayList<>();
+
+        CsvTransactionImporter.Result result = command.readFile((read, total, rows) -> bytesRead.add(read));
+        assertFalse(model.hasTransaction(HEALTH));
+        assertEquals(Files.size(csvFile), bytesRead.get(bytesRead.size() - 1));
+
+        assertEquals(new CommandResult(String.format(ImportCommand.MESSAGE_SUCCESS, 1)),
+                command.addToModel(model, result));
+        assertTrue(model.hasTransaction(HEALTH));
+    }
+
+    @Test
+    public void readFile_interrupted_throwsCommandException() throws Exception {
+        Path csvFile = testFolder.resolve("transactions.csv");
+        List<String> lines = new ArrayList<>(Collections.nCopies(20000, HEALTH_ROW));
+        lines.add(0, HEADER);
+        Files.write(csvFile, lines, StandardCharsets.UTF_8);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(CommandException.class, Messages.MESSAGE_FAILED_IMPORT, () ->
+                    new ImportCommand(csvFile.toString()).readFile((read, total, rows) -> { }));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        assertCommandFailure(new ImportCommand(testFolder.resolve("missing.csv").toString()), model,
+                Messages.MESSAGE_FAILED_IMPORT);
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.expensela.logic.commands;
+
+import static seedu.expensela.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.expensela.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.expensela.logic.commands.CommandTestUtil.deleteFirstTransaction;
+import static seedu.expensela.testutil.TypicalTransactions.getTypicalExpenseLa;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.expensela.model.GlobalData;
+import seedu.expensela.model.Model;
+import seedu.expensela.model.ModelManager;
+import seedu.expensela.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalExpenseLa(), new UserPrefs(), new GlobalData());
+    private final Model expectedModel = new ModelManager(getTypicalExpenseLa(), new UserPrefs(), new GlobalData());
+
+    @BeforeEach
+    public void setUp() {
+        // set up of both models' undo/redo history
+        deleteFirstTransaction(model);
+        deleteFirstTransaction(model);
+        model.undoExpenseLa();
+        model.undoExpenseLa();
+
+        deleteFirstTransaction(expectedModel);
+        deleteFirstTransaction(expectedModel);
+        expectedModel.undoExpenseLa();
+        expectedModel.undoExpenseLa();
+    }
+
+    @Test
+    public void execute() {
+        // multiple redoable states in model
+        expectedModel.redoExpenseLa();
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // single redoable state in model
+        expectedModel.redoExpenseLa();
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // no redoable state in model
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
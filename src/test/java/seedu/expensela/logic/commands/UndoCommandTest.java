@@ -0,0 +1,44 @@
+package seedu.expensela.logic.commands;
+
+import static seedu.expensela.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.expensela.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.expensela.logic.commands.CommandTestUtil.deleteFirstTransaction;
+import static seedu.expensela.testutil.TypicalTransactions.getTypicalExpenseLa;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.expensela.model.GlobalData;
+import seedu.expensela.model.Model;
+import seedu.expensela.model.ModelManager;
+import seedu.expensela.model.UserPrefs;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalExpenseLa(), new UserPrefs(), new GlobalData());
+    private final Model expectedModel = new ModelManager(getTypicalExpenseLa(), new UserPrefs(), new GlobalData());
+
+    @BeforeEach
+    public void setUp() {
+        // set up of models' undo/redo history
+        deleteFirstTransaction(model);
+        deleteFirstTransaction(model);
+
+        deleteFirstTransaction(expectedModel);
+        deleteFirstTransaction(expectedModel);
+    }
+
+    @Test
+    public void execute() {
+        // multiple undoable states in model
+        expectedModel.undoExpenseLa();
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // single undoable state in model
+        expectedModel.undoExpenseLa();
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // no undoable states in model
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+}
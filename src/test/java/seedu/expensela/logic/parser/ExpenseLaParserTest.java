@@ -7,6 +7,7 @@ import static seedu.expensela.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.expensela.testutil.Assert.assertThrows;
 import static seedu.expensela.testutil.TypicalIndexes.INDEX_FIRST_TRANSACTION;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.expensela.logic.commands.AddCommand;
 import seedu.expensela.logic.commands.BudgetCommand;
+import seedu.expensela.logic.commands.CancelImportCommand;
 import seedu.expensela.logic.commands.ClearCommand;
 import seedu.expensela.logic.commands.DeleteCommand;
 import seedu.expensela.logic.commands.EditCommand;
@@ -23,6 +25,8 @@ import seedu.expensela.logic.commands.ExportCommand;
 import seedu.expensela.logic.commands.FindCommand;
 import seedu.expensela.logic.commands.HelpCommand;
 import seedu.expensela.logic.commands.ListCommand;
+import seedu.expensela.logic.commands.RedoCommand;
+import seedu.expensela.logic.commands.UndoCommand;
 import seedu.expensela.logic.parser.exceptions.ParseException;
 import seedu.expensela.model.transaction.NameContainsKeywordsPredicate;
 import seedu.expensela.model.transaction.Transaction;
@@ -97,10 +101,31 @@ public class ExpenseLaParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_cancelImport() throws Exception {
+        assertTrue(parser.parseCommand(CancelImportCommand.COMMAND_WORD) instanceof CancelImportCommand);
+        assertTrue(parser.parseCommand(CancelImportCommand.COMMAND_WORD + " 3") instanceof CancelImportCommand);
+    }
+
     @Test
     public void parseCommand_export() throws Exception {
         assertTrue(parser.parseCommand(ExportCommand.COMMAND_WORD) instanceof ExportCommand);
         assertTrue(parser.parseCommand(ExportCommand.COMMAND_WORD + " 3") instanceof ExportCommand);
+        assertEquals(new ExportCommand(), parser.parseCommand(ExportCommand.COMMAND_WORD));
+        assertEquals(new ExportCommand(Paths.get("march.csv")),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " march.csv"));
     }
 
     @Test
@@ -0,0 +1,33 @@
+package seedu.expensela.logic.parser;
+
+import static seedu.expensela.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.expensela.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.expensela.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.expensela.logic.commands.ExportCommand;
+
+public class ExportCommandParserTest {
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_emptyArg_returnsDefaultExportCommand() {
+        assertParseSuccess(parser, "     ", new ExportCommand(Paths.get(ExportCommand.DEFAULT_FILE_NAME)));
+    }
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, " \n reports/march.csv \t", new ExportCommand(Paths.get("reports", "march.csv")));
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, "march\0.csv",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+}
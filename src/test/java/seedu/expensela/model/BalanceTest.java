@@ -31,6 +31,7 @@ public class BalanceTest {
         assertFalse(Balance.isValidAmount("eighty eight")); // non-numeric
         assertFalse(Balance.isValidAmount("88e88")); // alphabets within digits
         assertFalse(Balance.isValidAmount("69 96")); // spaces within digits
+        assertFalse(Balance.isValidAmount("12429384203312345.00")); // too many digits to hold in cents
 
         // valid budget
         assertTrue(Balance.isValidAmount("-88")); // negative amount
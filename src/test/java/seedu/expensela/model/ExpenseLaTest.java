@@ -70,6 +70,21 @@ public class ExpenseLaTest {
         assertThrows(UnsupportedOperationException.class, () -> expenseLa.getTransactionList().remove(0));
     }
 
+    @Test
+    public void getVersion_increasesOnSavedChangesOnly() {
+        long version = expenseLa.getVersion();
+        expenseLa.addTransaction(PIZZA);
+        assertTrue(expenseLa.getVersion() > version);
+
+        version = expenseLa.getVersion();
+        expenseLa.setMonthlyData(new MonthlyDataBuilder().build());
+        assertTrue(expenseLa.getVersion() > version);
+
+        version = expenseLa.getVersion();
+        expenseLa.switchToggleView();
+        assertEquals(version, expenseLa.getVersion());
+    }
+
     @Test
     public void getMonthlyData() {
         assertTrue(expenseLa.getMonthlyData() instanceof MonthlyData);
@@ -107,6 +122,11 @@ public class ExpenseLaTest {
         public Filter getFilter() {
             return filter;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
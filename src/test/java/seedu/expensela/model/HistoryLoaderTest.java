@@ -0,0 +1,74 @@
+package seedu.expensela.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class HistoryLoaderTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2020, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2020, 2);
+
+    @Test
+    public void load_unloadedMonths_prefetchedThenLoadedNewestFirst() {
+        TransactionHistoryStub history = new TransactionHistoryStub(JANUARY, FEBRUARY);
+        List<String> statuses = new ArrayList<>();
+        new HistoryLoader(history, Runnable::run, statuses::add).load(Arrays.asList(FEBRUARY, JANUARY));
+
+        assertEquals(Arrays.asList("prefetch " + FEBRUARY, "load " + FEBRUARY, "prefetch " + JANUARY,
+                "load " + JANUARY), history.calls);
+        assertEquals(Arrays.asList(String.format(HistoryLoader.MESSAGE_LOADING, 1, 2), HistoryLoader.MESSAGE_LOADED),
+                statuses);
+        assertEquals(new HashSet<>(), history.getUnloadedMonths());
+    }
+
+    @Test
+    public void start_nothingUnloaded_noStatusShown() {
+        List<String> statuses = new ArrayList<>();
+        new HistoryLoader(new TransactionHistoryStub(), Runnable::run, statuses::add).start();
+        assertEquals(new ArrayList<>(), statuses);
+    }
+
+    /**
+     * A history that records the months it is asked to read ahead and load.
+     */
+    private static class TransactionHistoryStub implements TransactionHistory {
+        private final Set<YearMonth> unloadedMonths;
+        private final List<String> calls = new ArrayList<>();
+
+        TransactionHistoryStub(YearMonth... unloadedMonths) {
+            this.unloadedMonths = new HashSet<>(Arrays.asList(unloadedMonths));
+        }
+
+        @Override
+        public void attach(ExpenseLa expenseLa) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<YearMonth> getUnloadedMonths() {
+            return new HashSet<>(unloadedMonths);
+        }
+
+        @Override
+        public void load(Collection<YearMonth> months) {
+            for (YearMonth month : months) {
+                calls.add("load " + month);
+                unloadedMonths.remove(month);
+            }
+        }
+
+        @Override
+        public void prefetch(YearMonth month) {
+            calls.add("prefetch " + month);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.expensela.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expensela.testutil.TypicalTransactions.GRAB;
+import static seedu.expensela.testutil.TypicalTransactions.HEALTH;
+import static seedu.expensela.testutil.TypicalTransactions.ICE_CREAM;
+import static seedu.expensela.testutil.TypicalTransactions.getTypicalExpenseLa;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.expensela.model.monthlydata.Budget;
+import seedu.expensela.model.transaction.Transaction;
+import seedu.expensela.testutil.TransactionBuilder;
+
+public class UndoHistoryTest {
+
+    private final ModelManager model = new ModelManager(getTypicalExpenseLa(), new UserPrefs(), new GlobalData());
+    private final ExpenseLa original = new ExpenseLa(model.getExpenseLa());
+    private final GlobalData originalGlobalData = new GlobalData(model.getGlobalData());
+
+    @Test
+    public void commitExpenseLa_nothingChanged_nothingToUndo() {
+        model.setFilter(new Filter(null, null));
+        model.commitExpenseLa();
+        assertFalse(model.canUndoExpenseLa());
+    }
+
+    @Test
+    public void commitExpenseLa_transactionAddedThenRemoved_nothingToUndo() {
+        ModelManager emptyModel = new ModelManager();
+        emptyModel.addTransaction(HEALTH);
+        emptyModel.deleteTransaction(HEALTH);
+        emptyModel.commitExpenseLa();
+        assertFalse(emptyModel.canUndoExpenseLa());
+    }
+
+    @Test
+    public void undoAndRedo_editAndBudget_restoresEachStep() {
+        Transaction editedGrab = new TransactionBuilder(GRAB).withAmount("99.00", false).build();
+        model.setTransaction(GRAB, editedGrab);
+        model.commitExpenseLa();
+        ExpenseLa afterEdit = new ExpenseLa(model.getExpenseLa());
+        GlobalData globalDataAfterEdit = new GlobalData(model.getGlobalData());
+
+        model.getGlobalData().setRecurringBudget(new Budget("300"));
+        model.addTransactionToGlobalData(ICE_CREAM);
+        model.commitExpenseLa();
+
+        model.undoExpenseLa();
+        assertEquals(globalDataAfterEdit, model.getGlobalData());
+        model.undoExpenseLa();
+        assertEquals(original, model.getExpenseLa());
+        assertEquals(originalGlobalData, model.getGlobalData());
+        assertFalse(model.canUndoExpenseLa());
+
+        model.redoExpenseLa();
+        assertEquals(afterEdit, model.getExpenseLa());
+        assertEquals(globalDataAfterEdit, model.getGlobalData());
+        model.redoExpenseLa();
+        assertEquals(Collections.singletonList(ICE_CREAM), model.getGlobalData().getRecurringTransactionList());
+        assertFalse(model.canRedoExpenseLa());
+    }
+
+    @Test
+    public void commitExpenseLa_afterUndo_redoForgotten() {
+        model.addTransaction(HEALTH);
+        model.commitExpenseLa();
+        model.undoExpenseLa();
+        assertTrue(model.canRedoExpenseLa());
+
+        model.addTransaction(ICE_CREAM);
+        model.commitExpenseLa();
+        assertFalse(model.canRedoExpenseLa());
+    }
+
+    @Test
+    public void undoExpenseLa_clearedData_everythingBack() {
+        model.setExpenseLa(new ExpenseLa());
+        model.setGlobalData(new GlobalData());
+        model.commitExpenseLa();
+
+        model.undoExpenseLa();
+        assertEquals(original, model.getExpenseLa());
+        assertEquals(originalGlobalData.getTotalBalance(), model.getGlobalData().getTotalBalance());
+    }
+
+    @Test
+    public void commit_overMemoryBudget_oldestChangesForgotten() {
+        ExpenseLa expenseLa = new ExpenseLa();
+        UndoHistory history = new UndoHistory(expenseLa, new GlobalData(),
+                2 * (UndoHistory.ESTIMATED_BYTES_PER_CHANGE + UndoHistory.ESTIMATED_BYTES_PER_TRANSACTION));
+        for (Transaction transaction : new Transaction[] {GRAB, HEALTH, ICE_CREAM}) {
+            expenseLa.addTransaction(transaction);
+            history.recordAdded(Collections.singletonList(transaction));
+            history.commit();
+        }
+
+        history.undo();
+        history.undo();
+        assertFalse(history.canUndo());
+        assertEquals(Collections.singletonList(GRAB), expenseLa.getTransactionList());
+    }
+
+    @Test
+    public void commit_changeOverMemoryBudget_nothingToUndo() {
+        ExpenseLa expenseLa = new ExpenseLa();
+        UndoHistory history = new UndoHistory(expenseLa, new GlobalData(),
+                UndoHistory.ESTIMATED_BYTES_PER_CHANGE + UndoHistory.ESTIMATED_BYTES_PER_TRANSACTION);
+        expenseLa.addTransaction(GRAB);
+        history.recordAdded(Collections.singletonList(GRAB));
+        history.commit();
+        assertTrue(history.canUndo());
+
+        expenseLa.addTransactions(Arrays.asList(HEALTH, ICE_CREAM));
+        history.recordAdded(Arrays.asList(HEALTH, ICE_CREAM));
+        history.commit();
+        assertFalse(history.canUndo());
+
+        // the next change that fits is noted again
+        expenseLa.removeTransaction(GRAB);
+        history.recordRemoved(Collections.singletonList(GRAB));
+        history.commit();
+        assertTrue(history.canUndo());
+        history.undo();
+        assertTrue(expenseLa.hasTransaction(GRAB));
+    }
+}
@@ -32,6 +32,7 @@ public class BudgetTest {
         assertFalse(Budget.isValidAmount("88e88")); // alphabets within digits
         assertFalse(Budget.isValidAmount("69 96")); // spaces within digits
         assertFalse(Budget.isValidAmount("-88")); // negative amount
+        assertFalse(Budget.isValidAmount("12429384203312345.00")); // too many digits to hold in cents
 
         // valid budget
         assertTrue(Budget.isValidAmount("88")); // no cents
@@ -32,6 +32,7 @@ public class ExpenseTest {
         assertFalse(Expense.isValidAmount("88e88.00")); // alphabets within digits
         assertFalse(Expense.isValidAmount("69 96.00")); // spaces within digits
         assertFalse(Expense.isValidAmount("-88")); // negative amount
+        assertFalse(Expense.isValidAmount("12429384203312345.00")); // too many digits to hold in cents
 
         // valid budget
         assertTrue(Expense.isValidAmount("88.9")); // cents not 2 digits
@@ -32,6 +32,7 @@ public class IncomeTest {
         assertFalse(Income.isValidAmount("88e88")); // alphabets within digits
         assertFalse(Income.isValidAmount("69 96")); // spaces within digits
         assertFalse(Income.isValidAmount("-88")); // negative amount
+        assertFalse(Income.isValidAmount("12429384203312345.00")); // too many digits to hold in cents
 
         // valid income
         assertTrue(Income.isValidAmount("88.9")); // cents not 2 digits
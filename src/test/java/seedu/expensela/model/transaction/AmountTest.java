@@ -31,6 +31,7 @@ public class AmountTest {
         assertFalse(Amount.isValidAmount("9011p041")); // alphabets within digits
         assertFalse(Amount.isValidAmount("9312 1534")); // spaces within digits
         assertFalse(Amount.isValidAmount("-88")); // negative amount
+        assertFalse(Amount.isValidAmount("12429384203312345.00")); // too many digits to hold in cents
 
         // valid amount numbers
         assertTrue(Amount.isValidAmount("91")); // no decimal places
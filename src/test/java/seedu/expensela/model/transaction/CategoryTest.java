@@ -1,6 +1,8 @@
 package seedu.expensela.model.transaction;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.expensela.testutil.Assert.assertThrows;
 
@@ -39,4 +41,13 @@ class CategoryTest {
         assertTrue(Category.isValidCategory("UTILITIES"));
         assertTrue(Category.isValidCategory("INCOME"));
     }
+
+    @Test
+    public void of_anyCase_returnsSharedInstance() {
+        assertSame(Category.of("food"), Category.of("FOOD"));
+        assertSame(Category.of(CategoryEnum.FOOD), Category.of("Food"));
+        assertEquals(new Category("food"), Category.of("FOOD"));
+        assertEquals(CategoryEnum.FOOD, new Category("fOoD").categoryEnum);
+        assertThrows(IllegalArgumentException.class, () -> Category.of("RENTAL"));
+    }
 }
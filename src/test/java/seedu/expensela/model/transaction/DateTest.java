@@ -1,9 +1,12 @@
 package seedu.expensela.model.transaction;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.expensela.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 public class DateTest {
@@ -19,6 +22,22 @@ public class DateTest {
         assertThrows(IllegalArgumentException.class, () -> new Date(invalidAddress));
     }
 
+    @Test
+    public void constructor_dateNotInCalendar_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Date("2020-02-30"));
+        assertThrows(IllegalArgumentException.class, () -> new Date("2021-02-29")); // not a leap year
+        assertThrows(IllegalArgumentException.class, () -> new Date("2020-04-31"));
+        assertThrows(IllegalArgumentException.class, () -> new Date("2020-13-01"));
+        assertThrows(IllegalArgumentException.class, () -> new Date("2020-00-10"));
+        assertThrows(IllegalArgumentException.class, () -> new Date("2020-01-00"));
+    }
+
+    @Test
+    public void constructor_dateInCalendar_readsDate() {
+        assertEquals(LocalDate.of(2020, 2, 29), new Date("2020-02-29").transactionDate); // leap day
+        assertEquals(LocalDate.of(2019, 12, 31), new Date("2019-12-31").transactionDate);
+    }
+
     @Test
     public void isValidDate() {
         // null address
@@ -29,8 +48,11 @@ public class DateTest {
         assertFalse(Date.isValidDate(" ")); // spaces only
         assertFalse(Date.isValidDate("2020/02/28")); //uses / instead of -
         assertFalse(Date.isValidDate("2020-02")); //date missing
+        assertFalse(Date.isValidDate("2020-02-30")); //not in the calendar
+        assertFalse(Date.isValidDate("2020-13-01")); //no such month
 
         // valid addresses
         assertTrue(Date.isValidDate("2020-02-28"));
+        assertTrue(Date.isValidDate("2020-02-29")); //leap day
     }
 }
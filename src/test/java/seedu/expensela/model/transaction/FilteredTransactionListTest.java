@@ -0,0 +1,122 @@
+package seedu.expensela.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.expensela.testutil.Assert.assertThrows;
+import static seedu.expensela.testutil.TypicalTransactions.AIRPODS;
+import static seedu.expensela.testutil.TypicalTransactions.APPLES;
+import static seedu.expensela.testutil.TypicalTransactions.BONUS;
+import static seedu.expensela.testutil.TypicalTransactions.CAR_GAS;
+import static seedu.expensela.testutil.TypicalTransactions.PIZZA;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.transformation.FilteredList;
+import seedu.expensela.testutil.TransactionBuilder;
+
+public class FilteredTransactionListTest {
+
+    private static final Predicate<Transaction> IS_EXPENSE = transaction -> !transaction.getAmount().positive;
+
+    private final TransactionList transactionList = new TransactionList();
+    private FilteredTransactionList filteredList;
+    private FilteredList<Transaction> expectedList;
+    /** The filtered list as rebuilt from the changes reported to its listeners. */
+    private List<Transaction> replayedList;
+
+    @BeforeEach
+    public void setUp() {
+        filteredList = new FilteredTransactionList(transactionList.asUnmodifiableObservableList());
+        expectedList = new FilteredList<>(transactionList.asUnmodifiableObservableList());
+        replayedList = new ArrayList<>();
+        filteredList.addListener((ListChangeListener<Transaction>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                replayedList.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                replayedList.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+    }
+
+    /**
+     * Asserts that the filtered list shows what a {@code FilteredList} would, and that its listeners were told.
+     */
+    private void assertShowsExpected() {
+        assertEquals(expectedList, filteredList);
+        assertEquals(expectedList, replayedList);
+        for (int i = 0; i < filteredList.size(); i++) {
+            assertEquals(expectedList.getSourceIndex(i), filteredList.getSourceIndex(i));
+            assertEquals(i, filteredList.getViewIndex(filteredList.getSourceIndex(i)));
+        }
+    }
+
+    @Test
+    public void setPredicate_null_showsAll() {
+        transactionList.setTransaction(Arrays.asList(APPLES, BONUS, CAR_GAS));
+        filteredList.setPredicate(IS_EXPENSE);
+        filteredList.setPredicate(null);
+        assertShowsExpected();
+    }
+
+    @Test
+    public void setPredicate_withCandidateRows_testsOnlyCandidates() {
+        transactionList.setTransaction(Arrays.asList(APPLES, BONUS, CAR_GAS, PIZZA));
+        List<Transaction> tested = new ArrayList<>();
+        filteredList.setPredicate(transaction -> tested.add(transaction) && IS_EXPENSE.test(transaction),
+                new int[] {1, 2});
+
+        List<Transaction> source = transactionList.asUnmodifiableObservableList();
+        assertEquals(Arrays.asList(source.get(1), source.get(2)), tested);
+        List<Transaction> expected = new ArrayList<>(tested);
+        expected.removeIf(IS_EXPENSE.negate());
+        assertEquals(expected, filteredList);
+        assertEquals(expected, replayedList);
+    }
+
+    @Test
+    public void sourceChanged_mutations_followsSource() {
+        filteredList.setPredicate(IS_EXPENSE);
+        expectedList.setPredicate(IS_EXPENSE);
+
+        transactionList.addAll(Arrays.asList(APPLES, BONUS, CAR_GAS));
+        assertShowsExpected();
+        transactionList.add(PIZZA);
+        assertShowsExpected();
+        transactionList.add(AIRPODS);
+        assertShowsExpected();
+
+        // edited in place, moved, and turned into income
+        transactionList.setTransaction(PIZZA, new TransactionBuilder(PIZZA).withRemark("Half price").build());
+        assertShowsExpected();
+        Transaction movedApples = new TransactionBuilder(APPLES).withDate("2019-12-31").build();
+        transactionList.setTransaction(APPLES, movedApples);
+        assertShowsExpected();
+        transactionList.setTransaction(CAR_GAS, new TransactionBuilder(CAR_GAS).withAmount("50.49", true).build());
+        assertShowsExpected();
+
+        transactionList.remove(movedApples);
+        assertShowsExpected();
+        transactionList.removeAll(Arrays.asList(BONUS, AIRPODS));
+        assertShowsExpected();
+        transactionList.setTransaction(Arrays.asList(APPLES, BONUS, CAR_GAS, PIZZA, AIRPODS));
+        assertShowsExpected();
+        transactionList.clear();
+        assertShowsExpected();
+    }
+
+    @Test
+    public void getSourceIndex_outOfBounds_throwsIndexOutOfBoundsException() {
+        transactionList.setTransaction(Collections.singletonList(APPLES));
+        assertThrows(IndexOutOfBoundsException.class, () -> filteredList.getSourceIndex(1));
+        assertEquals(-1, filteredList.getViewIndex(1));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.expensela.model.transaction;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.expensela.testutil.Assert.assertThrows;
 
@@ -36,4 +37,10 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void of_equalNames_returnsSharedInstance() {
+        assertSame(Name.of("Car Gas"), Name.of(new String("Car Gas")));
+        assertThrows(IllegalArgumentException.class, () -> Name.of(""));
+    }
 }
@@ -0,0 +1,55 @@
+package seedu.expensela.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.expensela.testutil.TypicalTransactions.APPLES;
+import static seedu.expensela.testutil.TypicalTransactions.BONUS;
+import static seedu.expensela.testutil.TypicalTransactions.CAR_GAS;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.expensela.testutil.TransactionBuilder;
+
+public class TransactionAggregatesTest {
+
+    private static final YearMonth FEBRUARY = YearMonth.of(2020, 2);
+
+    private final TransactionList transactionList = new TransactionList();
+    private final TransactionAggregates aggregates = transactionList.getAggregates();
+
+    @Test
+    public void add_transactions_updatesCells() {
+        transactionList.addAll(Arrays.asList(APPLES, BONUS, CAR_GAS));
+        assertEquals(1000, aggregates.getExpenseCents(FEBRUARY, CategoryEnum.GROCERIES));
+        assertEquals(1, aggregates.getExpenseCount(FEBRUARY, CategoryEnum.GROCERIES));
+        assertEquals(100000, aggregates.getIncomeCents(FEBRUARY, CategoryEnum.MISC));
+        assertEquals(6049, aggregates.getExpenseCents(FEBRUARY));
+        assertEquals(100000, aggregates.getIncomeCents(FEBRUARY));
+    }
+
+    @Test
+    public void remove_lastTransactionInCell_resetsCell() {
+        transactionList.addAll(Arrays.asList(APPLES, CAR_GAS));
+        transactionList.remove(APPLES);
+        assertEquals(0, aggregates.getExpenseCents(FEBRUARY, CategoryEnum.GROCERIES));
+        assertEquals(0, aggregates.getExpenseCount(FEBRUARY, CategoryEnum.GROCERIES));
+        assertEquals(5049, aggregates.getExpenseCents(FEBRUARY));
+    }
+
+    @Test
+    public void setTransaction_movesAmountBetweenCells() {
+        transactionList.add(APPLES);
+        Transaction marchApples = new TransactionBuilder(APPLES).withDate("2020-03-01").withCategory("FOOD").build();
+        transactionList.setTransaction(APPLES, marchApples);
+        assertEquals(0, aggregates.getExpenseCents(FEBRUARY));
+        assertEquals(1000, aggregates.getExpenseCents(YearMonth.of(2020, 3), CategoryEnum.FOOD));
+    }
+
+    @Test
+    public void getExpenseCents_unknownMonth_returnsZero() {
+        assertEquals(0, aggregates.getExpenseCents(YearMonth.of(1999, 1)));
+        assertEquals(0, aggregates.getIncomeCount(YearMonth.of(1999, 1), CategoryEnum.FOOD));
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.expensela.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.expensela.testutil.TypicalTransactions.APPLES;
+import static seedu.expensela.testutil.TypicalTransactions.BONUS;
+import static seedu.expensela.testutil.TypicalTransactions.CAR_GAS;
+import static seedu.expensela.testutil.TypicalTransactions.DOMINOS;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.expensela.testutil.TransactionBuilder;
+
+public class TransactionColumnsTest {
+
+    private final TransactionList transactionList = new TransactionList();
+    private final TransactionColumns columns = transactionList.getColumns();
+
+    @Test
+    public void add_transactions_rowsFollowListOrder() {
+        transactionList.add(APPLES);
+        transactionList.addAll(Arrays.asList(CAR_GAS, BONUS));
+        assertEquals(transactionList.asUnmodifiableObservableList().size(), columns.size());
+        for (int row = 0; row < columns.size(); row++) {
+            Transaction transaction = transactionList.asUnmodifiableObservableList().get(row);
+            assertEquals(transaction.getDate().transactionDate.toEpochDay(), columns.getEpochDay(row));
+            assertEquals(transaction.getAmount().transactionCents, columns.getCents(row));
+            assertEquals(transaction.getAmount().positive, columns.isPositive(row));
+            assertEquals(transaction.getCategory().transactionCategory, columns.getCategory(row).name());
+            assertEquals(transaction.getName().transactionName, columns.getName(columns.getNameId(row)));
+        }
+    }
+
+    @Test
+    public void remove_andSetTransaction_keepRowsInStep() {
+        transactionList.addAll(Arrays.asList(APPLES, BONUS, CAR_GAS));
+        transactionList.remove(BONUS);
+        Transaction marchApples = new TransactionBuilder(APPLES).withDate("2020-03-01").build();
+        transactionList.setTransaction(APPLES, marchApples);
+        assertEquals(2, columns.size());
+        assertEquals(marchApples.getDate().transactionDate.toEpochDay(), columns.getEpochDay(0));
+        assertEquals(CAR_GAS.getAmount().transactionCents, columns.getCents(1));
+    }
+
+    @Test
+    public void sumExpense_skipsIncomeAndUnselectedRows() {
+        transactionList.addAll(Arrays.asList(APPLES, BONUS, CAR_GAS, DOMINOS));
+        // Rows are in date-descending order: DOMINOS, CAR_GAS, BONUS, APPLES.
+        int[] februaryRows = {1, 2, 3};
+
+        long[] byCategory = columns.sumExpenseByCategory(februaryRows);
+        assertEquals(1000, byCategory[CategoryEnum.GROCERIES.ordinal()]);
+        assertEquals(5049, byCategory[CategoryEnum.UTILITIES.ordinal()]);
+        assertEquals(0, byCategory[CategoryEnum.MISC.ordinal()]);
+        assertEquals(0, byCategory[CategoryEnum.FOOD.ordinal()]);
+        assertEquals(0, columns.countExpenseByCategory(februaryRows)[CategoryEnum.MISC.ordinal()]);
+
+        long[][] byWeekAndDay = columns.sumExpenseByWeekAndDay(februaryRows);
+        assertEquals(1000, byWeekAndDay[3][2]);
+        assertEquals(5049, byWeekAndDay[3][4]);
+
+        long[][] byYearAndMonth = columns.sumExpenseByYearAndMonth(new int[] {0, 1, 2, 3}, 2020, 2);
+        assertEquals(6049, byYearAndMonth[0][1]);
+        assertEquals(3600, byYearAndMonth[0][2]);
+        assertEquals(0, columns.sumExpenseByYearAndMonth(new int[] {0}, 2022, 2)[0][2]);
+    }
+}
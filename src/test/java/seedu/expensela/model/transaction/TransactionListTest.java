@@ -1,18 +1,29 @@
 package seedu.expensela.model.transaction;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.expensela.logic.commands.CommandTestUtil.VALID_REMARK_AIRPODS;
 import static seedu.expensela.testutil.Assert.assertThrows;
 import static seedu.expensela.testutil.TypicalTransactions.AIRPODS;
+import static seedu.expensela.testutil.TypicalTransactions.APPLES;
+import static seedu.expensela.testutil.TypicalTransactions.BONUS;
+import static seedu.expensela.testutil.TypicalTransactions.CAR_GAS;
 import static seedu.expensela.testutil.TypicalTransactions.PIZZA;
 
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.expensela.model.transaction.exceptions.DuplicateTransactionException;
 import seedu.expensela.model.transaction.exceptions.TransactionNotFoundException;
 import seedu.expensela.testutil.TransactionBuilder;
@@ -154,6 +165,160 @@ public class TransactionListTest {
         ) -> transactionList.setTransaction(listWithDuplicateTransactions));
     } */
 
+    @Test
+    public void add_outOfOrder_keepsListSortedByDateDescending() {
+        transactionList.add(BONUS);
+        transactionList.add(CAR_GAS);
+        transactionList.add(APPLES);
+        assertEquals(Arrays.asList(CAR_GAS, BONUS, APPLES), transactionList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setTransaction_dateChanged_movesTransactionToSortedPosition() {
+        transactionList.setTransaction(Arrays.asList(APPLES, BONUS, CAR_GAS));
+        Transaction latestApples = new TransactionBuilder(APPLES).withDate("2020-02-29").build();
+        transactionList.setTransaction(APPLES, latestApples);
+        assertEquals(Arrays.asList(latestApples, CAR_GAS, BONUS), transactionList.asUnmodifiableObservableList());
+        assertTrue(transactionList.contains(latestApples));
+        assertFalse(transactionList.contains(APPLES));
+    }
+
+    @Test
+    public void mutations_eachFireSingleChangeEvent() {
+        transactionList.setTransaction(Arrays.asList(APPLES, BONUS));
+        int[] changeCount = {0};
+        transactionList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Transaction>) change -> changeCount[0]++);
+
+        transactionList.add(CAR_GAS);
+        transactionList.setTransaction(APPLES, new TransactionBuilder(APPLES).withDate("2020-03-01").build());
+        transactionList.remove(BONUS);
+        assertEquals(3, changeCount[0]);
+    }
+
+    @Test
+    public void addAll_mergesIntoSortedPosition() {
+        transactionList.add(BONUS);
+        transactionList.addAll(Arrays.asList(APPLES, CAR_GAS));
+        assertEquals(Arrays.asList(CAR_GAS, BONUS, APPLES), transactionList.asUnmodifiableObservableList());
+        assertTrue(transactionList.contains(APPLES));
+    }
+
+    @Test
+    public void addAll_duplicateTransaction_throwsDuplicateTransactionExceptionWithoutChanges() {
+        transactionList.add(BONUS);
+        assertThrows(DuplicateTransactionException.class, () -> transactionList.addAll(Arrays.asList(APPLES, BONUS)));
+        assertThrows(DuplicateTransactionException.class, () -> transactionList.addAll(Arrays.asList(APPLES, APPLES)));
+        assertEquals(Collections.singletonList(BONUS), transactionList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_existingTransactions_removesTransactions() {
+        transactionList.setTransaction(Arrays.asList(APPLES, BONUS, CAR_GAS));
+        transactionList.removeAll(Arrays.asList(CAR_GAS, APPLES));
+        assertEquals(Collections.singletonList(BONUS), transactionList.asUnmodifiableObservableList());
+        assertFalse(transactionList.contains(APPLES));
+    }
+
+    @Test
+    public void removeAll_transactionDoesNotExist_throwsTransactionNotFoundExceptionWithoutChanges() {
+        transactionList.add(BONUS);
+        assertThrows(TransactionNotFoundException.class, () -> transactionList.removeAll(Arrays.asList(BONUS, PIZZA)));
+        assertTrue(transactionList.contains(BONUS));
+    }
+
+    @Test
+    public void bulkMutations_eachFireSingleChangeEvent() {
+        transactionList.add(BONUS);
+        int[] changeCount = {0};
+        transactionList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Transaction>) change -> changeCount[0]++);
+
+        transactionList.addAll(Arrays.asList(APPLES, CAR_GAS));
+        transactionList.removeAll(Arrays.asList(APPLES, CAR_GAS));
+        assertEquals(2, changeCount[0]);
+    }
+
+    @Test
+    public void getTransactionsInMonth_followsMutations() {
+        YearMonth february = YearMonth.of(2020, 2);
+        transactionList.addAll(Arrays.asList(APPLES, BONUS));
+        assertEquals(new HashSet<>(Arrays.asList(APPLES, BONUS)), transactionList.getTransactionsInMonth(february));
+
+        Transaction marchApples = new TransactionBuilder(APPLES).withDate("2020-03-01").build();
+        transactionList.setTransaction(APPLES, marchApples);
+        assertEquals(Collections.singleton(BONUS), transactionList.getTransactionsInMonth(february));
+        assertEquals(Collections.singleton(marchApples),
+                transactionList.getTransactionsInMonth(YearMonth.of(2020, 3)));
+
+        transactionList.clear();
+        assertTrue(transactionList.getTransactionsInMonth(february).isEmpty());
+    }
+
+    @Test
+    public void getTransactionsInCategory_followsMutations() {
+        transactionList.setTransaction(Arrays.asList(APPLES, BONUS, CAR_GAS));
+        assertEquals(Collections.singleton(BONUS), transactionList.getTransactionsInCategory(CategoryEnum.MISC));
+        transactionList.remove(BONUS);
+        assertTrue(transactionList.getTransactionsInCategory(CategoryEnum.MISC).isEmpty());
+    }
+
+    @Test
+    public void getTransactionsWithNameWord_matchesWholeWordsIgnoringCase() {
+        transactionList.setTransaction(Arrays.asList(APPLES, BONUS, CAR_GAS));
+        assertEquals(Collections.singleton(APPLES), transactionList.getTransactionsWithNameWord("fuji"));
+        assertEquals(Collections.singleton(CAR_GAS), transactionList.getTransactionsWithNameWord("GAS"));
+        assertTrue(transactionList.getTransactionsWithNameWord("Fu").isEmpty());
+
+        transactionList.remove(CAR_GAS);
+        assertTrue(transactionList.getTransactionsWithNameWord("gas").isEmpty());
+    }
+
+    @Test
+    public void findCandidateRows_narrowClause_rowsInItsBuckets() {
+        List<Transaction> transactions = new ArrayList<>(Arrays.asList(APPLES, BONUS, CAR_GAS));
+        for (int i = 1; i <= 200; i++) {
+            transactions.add(new TransactionBuilder(PIZZA).withName("Pizza " + i).withAmount(i + ".00", false).build());
+        }
+        transactionList.setTransaction(transactions);
+        List<Transaction> list = transactionList.asUnmodifiableObservableList();
+
+        TransactionMatcher miscMatcher = TransactionMatcher.compile(Collections.singletonList(
+                new CategoryEqualsKeywordPredicate(Collections.singletonList("MISC"))));
+        assertArrayEquals(new int[] {list.indexOf(BONUS)}, transactionList.findCandidateRows(miscMatcher));
+
+        // both keywords are words of the same name, which is a candidate once
+        TransactionMatcher nameMatcher = TransactionMatcher.compile(Collections.singletonList(
+                new NameContainsKeywordsPredicate(Arrays.asList("fuji", "APPLES", "gas"))));
+        int[] expectedRows = {list.indexOf(APPLES), list.indexOf(CAR_GAS)};
+        Arrays.sort(expectedRows);
+        assertArrayEquals(expectedRows, transactionList.findCandidateRows(nameMatcher));
+
+        // the month clause holds fewer transactions than the category clause
+        TransactionMatcher foodInJanuary = TransactionMatcher.compile(Arrays.asList(
+                new CategoryEqualsKeywordPredicate(Collections.singletonList("FOOD")),
+                new DateEqualsKeywordPredicate(Collections.singletonList("2020-01"))));
+        assertArrayEquals(new int[0], transactionList.findCandidateRows(foodInJanuary));
+        Transaction januaryPizza = new TransactionBuilder(PIZZA).withDate("2020-01-31").build();
+        transactionList.add(januaryPizza);
+        assertArrayEquals(new int[] {list.indexOf(januaryPizza)}, transactionList.findCandidateRows(foodInJanuary));
+    }
+
+    @Test
+    public void findCandidateRows_broadOrNoIndexedClause_returnsNull() {
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 1; i <= 30; i++) {
+            transactions.add(new TransactionBuilder(PIZZA).withName("Pizza " + i).withAmount(i + ".00", false).build());
+        }
+        transactionList.setTransaction(transactions);
+
+        assertNull(transactionList.findCandidateRows(TransactionMatcher.compile(Collections.singletonList(
+                new CategoryEqualsKeywordPredicate(Collections.singletonList("FOOD"))))));
+        Predicate<Transaction> unindexedClause = transaction -> true;
+        assertNull(transactionList.findCandidateRows(
+                TransactionMatcher.compile(Collections.singletonList(unindexedClause))));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
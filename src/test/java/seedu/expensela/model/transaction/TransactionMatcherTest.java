@@ -0,0 +1,73 @@
+package seedu.expensela.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expensela.testutil.Assert.assertThrows;
+import static seedu.expensela.testutil.TypicalTransactions.APPLES;
+import static seedu.expensela.testutil.TypicalTransactions.CAR_GAS;
+import static seedu.expensela.testutil.TypicalTransactions.DOMINOS;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+public class TransactionMatcherTest {
+
+    @SafeVarargs
+    private static TransactionMatcher compile(Predicate<Transaction>... clauses) {
+        return TransactionMatcher.compile(Arrays.asList(clauses));
+    }
+
+    private static CategoryEqualsKeywordPredicate category(String... keywords) {
+        return new CategoryEqualsKeywordPredicate(Arrays.asList(keywords));
+    }
+
+    private static DateEqualsKeywordPredicate month(String... keywords) {
+        return new DateEqualsKeywordPredicate(Arrays.asList(keywords));
+    }
+
+    @Test
+    public void compile_allClauses_matchesAll() {
+        TransactionMatcher matcher = compile(category("ALL"), month("ALL"));
+        assertTrue(matcher.matchesAll());
+        assertTrue(matcher.test(APPLES));
+        assertTrue(TransactionMatcher.compile(Collections.emptyList()).matchesAll());
+    }
+
+    @Test
+    public void test_categoryAndMonth_matchesBoth() {
+        TransactionMatcher matcher = compile(category("GROCERIES", "FOOD"), month("2020-02"));
+        assertFalse(matcher.matchesAll());
+        assertTrue(matcher.test(APPLES)); // GROCERIES, 2020-02-26
+        assertFalse(matcher.test(CAR_GAS)); // UTILITIES
+        assertFalse(matcher.test(DOMINOS)); // FOOD, 2020-03-01
+    }
+
+    @Test
+    public void test_keywordsNotInCanonicalForm_matchNothing() {
+        assertFalse(compile(category("groceries")).test(APPLES));
+        assertFalse(compile(month("2020-2")).test(APPLES));
+        assertFalse(compile(month("February")).test(APPLES));
+    }
+
+    @Test
+    public void test_sameResultsAsPredicates() {
+        List<Predicate<Transaction>> clauses = Arrays.asList(category("UTILITIES", "FOOD"), month("2020-02", "2020-03"),
+                new NameContainsKeywordsPredicate(Arrays.asList("gas", "PIZZA")));
+        TransactionMatcher matcher = TransactionMatcher.compile(clauses);
+        for (Transaction transaction : Arrays.asList(APPLES, CAR_GAS, DOMINOS)) {
+            boolean expected = clauses.stream().allMatch(clause -> clause.test(transaction));
+            assertTrue(expected == matcher.test(transaction));
+        }
+    }
+
+    @Test
+    public void test_otherPredicates_testedAsGiven() {
+        assertFalse(compile(category("GROCERIES"), transaction -> false).test(APPLES));
+        assertThrows(IllegalArgumentException.class, () ->
+                compile(new NameContainsKeywordsPredicate(Collections.singletonList("two words"))).test(APPLES));
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.expensela.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.expensela.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class BackgroundWriterTest {
+
+    private final BackgroundWriter writer = new BackgroundWriter();
+
+    @Test
+    public void submit_burstUnderSameKey_writtenOnce() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        writer.submit("blocker", () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+        });
+
+        AtomicInteger firstWrites = new AtomicInteger();
+        AtomicInteger lastWrites = new AtomicInteger();
+        AtomicInteger otherWrites = new AtomicInteger();
+        writer.submit("data", firstWrites::incrementAndGet);
+        writer.submit("other", otherWrites::incrementAndGet);
+        writer.submit("data", lastWrites::incrementAndGet);
+        release.countDown();
+        writer.flush();
+
+        assertEquals(0, firstWrites.get());
+        assertEquals(1, lastWrites.get());
+        assertEquals(1, otherWrites.get());
+    }
+
+    @Test
+    public void flush_writeFailed_failureReportedOnce() throws Exception {
+        IOException failure = new IOException("dummy exception");
+        List<IOException> reported = Collections.synchronizedList(new ArrayList<>());
+        writer.setFailureHandler(reported::add);
+
+        writer.submit("data", () -> {
+            throw failure;
+        });
+        assertThrows(IOException.class, failure.getMessage(), writer::flush);
+        assertEquals(Collections.singletonList(failure), reported);
+
+        writer.flush();
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.expensela.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expensela.testutil.Assert.assertThrows;
+import static seedu.expensela.testutil.TypicalTransactions.HEALTH;
+import static seedu.expensela.testutil.TypicalTransactions.getTypicalExpenseLa;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.expensela.commons.exceptions.DataConversionException;
+import seedu.expensela.model.ExpenseLa;
+
+public class BinaryExpenseLaStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readExpenseLa_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryExpenseLaStorage(testFolder.resolve("missing.bin")).readExpenseLa().isPresent());
+    }
+
+    @Test
+    public void readAndSaveExpenseLa_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempExpenseLa.bin");
+        BinaryExpenseLaStorage storage = new BinaryExpenseLaStorage(filePath);
+        ExpenseLa original = getTypicalExpenseLa();
+
+        storage.saveExpenseLa(original);
+        assertEquals(original, new ExpenseLa(storage.readExpenseLa().get()));
+
+        original.addTransaction(HEALTH);
+        storage.prepareSaveExpenseLa(original).write();
+        assertEquals(original, new ExpenseLa(storage.readExpenseLa().get()));
+    }
+
+    @Test
+    public void readExpenseLa_notBinaryFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("notBinary.bin");
+        Files.write(filePath, "{ \"transactions\": [] }".getBytes());
+        assertThrows(DataConversionException.class, () -> new BinaryExpenseLaStorage(filePath).readExpenseLa());
+    }
+
+    @Test
+    public void readExpenseLa_unsupportedVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("newer.bin");
+        Files.write(filePath, ByteBuffer.allocate(8).putInt(BinaryExpenseLaStorage.MAGIC)
+                .putInt(BinaryExpenseLaStorage.VERSION + 1).array());
+        assertThrows(DataConversionException.class, () -> new BinaryExpenseLaStorage(filePath).readExpenseLa());
+    }
+
+    @Test
+    public void readExpenseLa_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("truncated.bin");
+        new BinaryExpenseLaStorage(filePath).saveExpenseLa(getTypicalExpenseLa());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 5));
+        assertThrows(DataConversionException.class, () -> new BinaryExpenseLaStorage(filePath).readExpenseLa());
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameData() throws Exception {
+        Path jsonFile = testFolder.resolve("expenseLa.json");
+        Path binaryFile = testFolder.resolve("expenseLa.bin");
+        Path convertedJsonFile = testFolder.resolve("converted.json");
+        ExpenseLa original = getTypicalExpenseLa();
+        new JsonExpenseLaStorage(jsonFile).saveExpenseLa(original);
+
+        assertTrue(ExpenseLaFileConverter.jsonToBinary(jsonFile, binaryFile));
+        assertTrue(Files.size(binaryFile) < Files.size(jsonFile));
+        assertTrue(ExpenseLaFileConverter.binaryToJson(binaryFile, convertedJsonFile));
+        assertEquals(original, new ExpenseLa(new JsonExpenseLaStorage(convertedJsonFile).readExpenseLa().get()));
+
+        assertFalse(ExpenseLaFileConverter.jsonToBinary(testFolder.resolve("missing.json"), binaryFile));
+    }
+}
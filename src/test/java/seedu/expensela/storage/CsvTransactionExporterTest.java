@@ -0,0 +1,71 @@
+package seedu.expensela.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.expensela.model.transaction.Transaction;
+import seedu.expensela.testutil.TransactionBuilder;
+import seedu.expensela.testutil.TypicalTransactions;
+
+public class CsvTransactionExporterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_typicalTransactions_sameAsAmountToString() throws Exception {
+        Path filePath = testFolder.resolve("typical.csv");
+        List<Transaction> transactions = TypicalTransactions.getTypicalTransactions();
+        CsvTransactionExporter.write(filePath, transactions);
+
+        List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        assertEquals(CsvTransactionExporter.HEADER, lines.get(0));
+        for (int i = 0; i < transactions.size(); i++) {
+            Transaction transaction = transactions.get(i);
+            assertEquals(String.join(",", transaction.getName().toString(),
+                    transaction.getAmount().toString().replace(",", ""), transaction.getDate().toString(),
+                    transaction.getRemark().toString(), transaction.getCategory().toString()), lines.get(i + 1));
+        }
+    }
+
+    @Test
+    public void write_commasAndQuotes_quoted() throws Exception {
+        Path filePath = testFolder.resolve("quoted.csv");
+        CsvTransactionExporter.write(filePath, Collections.singletonList(new TransactionBuilder()
+                .withName("Lunch, dinner").withAmount("4.00", false).withDate("2020-02-03")
+                .withRemark("\"Chicken\" rice").withCategory("FOOD").build()));
+
+        assertEquals(CsvTransactionExporter.HEADER + "\r\n"
+                + "\"Lunch, dinner\",- $4.00,2020-02-03,\"\"\"Chicken\"\" rice\",FOOD\r\n",
+                new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void write_rowsSpanningManyBuffers_readBackByImporter() throws Exception {
+        List<Transaction> transactions = new ArrayList<>();
+        LocalDate firstDate = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < 10000; i++) {
+            // The non-ASCII remark makes rows encode to more bytes than characters.
+            transactions.add(new TransactionBuilder().withName("Row, " + i).withAmount(i + ".05", i % 2 == 0)
+                    .withDate(firstDate.plusDays(i % 365).toString()).withRemark("\"café\" " + i).build());
+        }
+        Path filePath = testFolder.resolve("many.csv");
+        CsvTransactionExporter.write(filePath, transactions);
+
+        assertTrue(Files.size(filePath) > 2 * CsvTransactionExporter.BUFFER_SIZE);
+        CsvTransactionImporter.Result result = new CsvTransactionImporter().read(filePath);
+        assertEquals(transactions, result.getTransactions());
+        assertTrue(result.getRejectedRows().isEmpty());
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.expensela.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.expensela.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.expensela.commons.csv.CsvTokenizer;
+import seedu.expensela.commons.exceptions.IllegalValueException;
+import seedu.expensela.model.transaction.Amount;
+import seedu.expensela.model.transaction.Date;
+import seedu.expensela.model.transaction.Remark;
+import seedu.expensela.testutil.TransactionBuilder;
+
+public class CsvTransactionImporterTest {
+
+    private static final String HEADER = "NAME,AMOUNT,DATE,REMARK,CATEGORY";
+    /** Enough rows of about 36 characters to fill 20 chunks. */
+    private static final int ROWS = CsvTransactionImporter.CHUNK_SIZE / 36 * 20 + 7;
+    private static final int BLANK_LINE = ROWS / 2;
+
+    @TempDir
+    public Path testFolder;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void shutDownPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void parseRow_validRows_success() throws Exception {
+        assertEquals(new TransactionBuilder().withName("Salary").withAmount("1234.50", true).withDate("2020-02-01")
+                .withRemark("").withCategory("INCOME").build(),
+                CsvTransactionImporter.parseRow("Salary,+ $1234.50,2020-02-01,,INCOME"));
+        assertEquals(new TransactionBuilder().withName("Lunch").withAmount("4.00", false).withDate("2020-02-03")
+                .withRemark("Chicken rice").withCategory("FOOD").build(),
+                CsvTransactionImporter.parseRow("Lunch,- $4.00,2020-02-03,Chicken rice,FOOD"));
+    }
+
+    @Test
+    public void parseRow_invalidRows_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, String.format(CsvTransactionImporter.MESSAGE_WRONG_COLUMN_COUNT,
+                4), () -> CsvTransactionImporter.parseRow("Lunch,- $4.00,2020-02-03,FOOD"));
+        assertThrows(IllegalValueException.class, CsvTransactionImporter.MESSAGE_INVALID_AMOUNT_FORMAT, () ->
+                CsvTransactionImporter.parseRow("Lunch,4.00,2020-02-03,,FOOD"));
+        assertThrows(IllegalValueException.class, Amount.MESSAGE_CONSTRAINTS, () ->
+                CsvTransactionImporter.parseRow("Lunch,- $four,2020-02-03,,FOOD"));
+        assertThrows(IllegalValueException.class, Date.MESSAGE_CONSTRAINTS, () ->
+                CsvTransactionImporter.parseRow("Lunch,- $4.00,yesterday,,FOOD"));
+    }
+
+    @Test
+    public void parseRow_quotedFields_commasAndQuotesKept() throws Exception {
+        assertEquals(new TransactionBuilder().withName("Lunch, dinner").withAmount("4.00", false)
+                .withDate("2020-02-03").withRemark("\"Chicken\" rice").withCategory("FOOD").build(),
+                CsvTransactionImporter.parseRow("\"Lunch, dinner\",- $4.00,2020-02-03,\"\"\"Chicken\"\" rice\",FOOD"));
+    }
+
+    @Test
+    public void read_rowOverSeveralLines_laterLineNumbersOfFile() throws Exception {
+        Path csvFile = testFolder.resolve("multiline.csv");
+        Files.write(csvFile, Arrays.asList(HEADER, "Lunch,- $4.00,2020-02-03,\"first line", "second line\",FOOD",
+                "Dinner,- $6.00,2020-02-04,,FOOD", "Lunch,- $4.00,2020-02-04,\"unclosed,FOOD"),
+                StandardCharsets.UTF_8);
+        CsvTransactionImporter.Result result = new CsvTransactionImporter(pool).read(csvFile);
+
+        assertEquals(Collections.singletonList(new TransactionBuilder().withName("Dinner").withAmount("6.00", false)
+                .withDate("2020-02-04").withRemark("").withCategory("FOOD").build()), result.getTransactions());
+        List<CsvTransactionImporter.RejectedRow> rejectedRows = result.getRejectedRows();
+        assertEquals(Arrays.asList(2, 5), Arrays.asList(rejectedRows.get(0).getLineNumber(),
+                rejectedRows.get(1).getLineNumber()));
+        assertEquals(Remark.MESSAGE_CONSTRAINTS, rejectedRows.get(0).getReason());
+        assertEquals(CsvTokenizer.MESSAGE_UNCLOSED_QUOTE, rejectedRows.get(1).getReason());
+    }
+
+    @Test
+    public void read_oversizedAmount_rowRejected() throws Exception {
+        Path csvFile = testFolder.resolve("oversized.csv");
+        Files.write(csvFile, Arrays.asList(HEADER, "Lunch,- $99999999999999999999,2020-02-03,,FOOD",
+                "Dinner,- $6.00,2020-02-04,,FOOD"), StandardCharsets.UTF_8);
+        CsvTransactionImporter.Result result = new CsvTransactionImporter(pool).read(csvFile);
+
+        assertEquals(Collections.singletonList(new TransactionBuilder().withName("Dinner").withAmount("6.00", false)
+                .withDate("2020-02-04").withRemark("").withCategory("FOOD").build()), result.getTransactions());
+        assertEquals(1, result.getRejectedRows().size());
+        assertEquals(2, result.getRejectedRows().get(0).getLineNumber());
+        assertEquals(Amount.MESSAGE_CONSTRAINTS, result.getRejectedRows().get(0).getReason());
+    }
+
+    @Test
+    public void read_manyChunksWithInvalidRows_sameResultAsOneByOne() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        LocalDate firstDate = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < ROWS; i++) {
+            lines.add("Row " + i + ",- $" + (i % 100) + ".50," + firstDate.plusDays(i % 1000) + ",,FOOD");
+        }
+        lines.set(5, "Row 4,- $4.50,not a date,,FOOD");
+        lines.set(BLANK_LINE, "");
+        lines.set(ROWS, "Row,too,many,columns,in,this,row");
+        Path csvFile = testFolder.resolve("many.csv");
+        Files.write(csvFile, lines, StandardCharsets.UTF_8);
+
+        CsvTransactionImporter.Result parallel = new CsvTransactionImporter(pool).read(csvFile);
+        ForkJoinPool singleWorkerPool = new ForkJoinPool(1);
+        CsvTransactionImporter.Result sequential = new CsvTransactionImporter(singleWorkerPool).read(csvFile);
+        singleWorkerPool.shutdownNow();
+        assertEquals(ROWS - 3, parallel.getTransactions().size());
+        assertEquals(sequential.getTransactions(), parallel.getTransactions());
+        for (int i = 0; i < parallel.getTransactions().size(); i++) {
+            int expectedRow = i < 4 ? i : i < BLANK_LINE - 2 ? i + 1 : i + 2;
+            assertEquals("Row " + expectedRow, parallel.getTransactions().get(i).getName().transactionName);
+        }
+
+        List<CsvTransactionImporter.RejectedRow> rejectedRows = parallel.getRejectedRows();
+        assertEquals(2, rejectedRows.size());
+        assertEquals(Arrays.asList(6, ROWS + 1), Arrays.asList(rejectedRows.get(0).getLineNumber(),
+                rejectedRows.get(1).getLineNumber()));
+        assertEquals(Date.MESSAGE_CONSTRAINTS, rejectedRows.get(0).getReason());
+        assertEquals(lines.get(ROWS), rejectedRows.get(1).getRow());
+    }
+
+    @Test
+    public void writeReport_rejectedRows_lineNumberReasonAndRow() throws Exception {
+        Path csvFile = testFolder.resolve("rejected.csv");
+        Files.write(csvFile, Arrays.asList(HEADER, "Lunch,- $4.00,2020-02-03,,FOOD", "Lunch,4.00,2020-02-03,,FOOD"),
+                StandardCharsets.UTF_8);
+        Path reportFile = testFolder.resolve("report.txt");
+        CsvTransactionImporter.Result result = new CsvTransactionImporter(pool).read(csvFile);
+        CsvTransactionImporter.writeReport(reportFile, result.getRejectedRows());
+
+        List<String> report = Files.readAllLines(reportFile, StandardCharsets.UTF_8);
+        assertEquals(Arrays.asList("Line 3: " + CsvTransactionImporter.MESSAGE_INVALID_AMOUNT_FORMAT,
+                "Lunch,4.00,2020-02-03,,FOOD"), report);
+        assertEquals(1, result.getTransactions().size());
+    }
+}
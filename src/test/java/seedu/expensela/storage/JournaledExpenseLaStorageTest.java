@@ -0,0 +1,134 @@
+package seedu.expensela.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expensela.testutil.TypicalTransactions.APPLES;
+import static seedu.expensela.testutil.TypicalTransactions.HEALTH;
+import static seedu.expensela.testutil.TypicalTransactions.ICE_CREAM;
+import static seedu.expensela.testutil.TypicalTransactions.getTypicalExpenseLa;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.expensela.model.ExpenseLa;
+import seedu.expensela.model.ReadOnlyExpenseLa;
+import seedu.expensela.model.monthlydata.Budget;
+import seedu.expensela.model.monthlydata.Expense;
+import seedu.expensela.model.monthlydata.Income;
+import seedu.expensela.model.monthlydata.MonthlyData;
+import seedu.expensela.testutil.TransactionBuilder;
+
+public class JournaledExpenseLaStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void save_changesAfterFirstSave_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempExpenseLa.json");
+        Path journalPath = JournaledExpenseLaStorage.journalPathOf(filePath);
+        JournaledExpenseLaStorage storage = new JournaledExpenseLaStorage(filePath);
+        ExpenseLa original = getTypicalExpenseLa();
+
+        storage.saveExpenseLa(original);
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(journalPath));
+        String snapshot = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+
+        original.addTransaction(HEALTH);
+        original.removeTransaction(APPLES);
+        original.setTransaction(HEALTH, new TransactionBuilder(HEALTH).withRemark("Annual").build());
+        original.setMonthlyData(new MonthlyData("1", new Budget("1234.50"), new Expense("500"), new Income("2000")));
+        storage.saveExpenseLa(original, filePath);
+
+        assertEquals(snapshot, new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8));
+        assertEquals(4, Files.readAllLines(journalPath).size());
+        ReadOnlyExpenseLa readBack = storage.readExpenseLa().get();
+        assertEquals(original, new ExpenseLa(readBack));
+        assertEquals(123450, readBack.getMonthlyData().getBudget().budgetCents);
+    }
+
+    @Test
+    public void save_pastThreshold_compactsJournalIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempExpenseLa.json");
+        Path journalPath = JournaledExpenseLaStorage.journalPathOf(filePath);
+        JournaledExpenseLaStorage storage = new JournaledExpenseLaStorage(filePath, 2);
+        ExpenseLa original = getTypicalExpenseLa();
+        storage.saveExpenseLa(original);
+
+        original.addTransaction(HEALTH);
+        storage.saveExpenseLa(original);
+        original.removeTransaction(APPLES);
+        storage.saveExpenseLa(original);
+        original.addTransaction(ICE_CREAM);
+        storage.saveExpenseLa(original);
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new ExpenseLa(new JsonExpenseLaStorage(filePath).readExpenseLa().get()));
+
+        original.removeTransaction(HEALTH);
+        storage.saveExpenseLa(original);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(original, new ExpenseLa(storage.readExpenseLa().get()));
+    }
+
+    @Test
+    public void read_journalEndsWithPartialRecord_partialRecordIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempExpenseLa.json");
+        Path journalPath = JournaledExpenseLaStorage.journalPathOf(filePath);
+        JournaledExpenseLaStorage storage = new JournaledExpenseLaStorage(filePath);
+        ExpenseLa original = getTypicalExpenseLa();
+        storage.saveExpenseLa(original);
+        original.addTransaction(HEALTH);
+        storage.saveExpenseLa(original);
+
+        Files.write(journalPath, "{\"sequence\":2,\"operation\":\"add\",\"transac".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(original, new ExpenseLa(storage.readExpenseLa().get()));
+    }
+
+    @Test
+    public void read_journalLeftBehindBySnapshotOfLaterSession_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempExpenseLa.json");
+        Path journalPath = JournaledExpenseLaStorage.journalPathOf(filePath);
+        ExpenseLa original = getTypicalExpenseLa();
+        JournaledExpenseLaStorage firstSession = new JournaledExpenseLaStorage(filePath);
+        firstSession.saveExpenseLa(original);
+        original.addTransaction(HEALTH);
+        firstSession.saveExpenseLa(original);
+        byte[] journal = Files.readAllBytes(journalPath);
+
+        JournaledExpenseLaStorage secondSession = new JournaledExpenseLaStorage(filePath);
+        ExpenseLa readBack = new ExpenseLa(secondSession.readExpenseLa().get());
+        readBack.removeTransaction(HEALTH);
+        secondSession.saveExpenseLa(readBack);
+        // as if the app crashed after writing the new snapshot but before deleting the journal
+        Files.write(journalPath, journal);
+
+        assertEquals(readBack, new ExpenseLa(new JournaledExpenseLaStorage(filePath).readExpenseLa().get()));
+    }
+
+    @Test
+    public void save_newExpenseLa_replacesSnapshotAndJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempExpenseLa.json");
+        Path journalPath = JournaledExpenseLaStorage.journalPathOf(filePath);
+        JournaledExpenseLaStorage storage = new JournaledExpenseLaStorage(filePath);
+        ExpenseLa original = getTypicalExpenseLa();
+        storage.saveExpenseLa(original);
+        original.addTransaction(HEALTH);
+        storage.saveExpenseLa(original);
+        assertTrue(Files.exists(journalPath));
+
+        ExpenseLa other = new ExpenseLa();
+        other.addTransaction(ICE_CREAM);
+        storage.saveExpenseLa(other);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(other, new ExpenseLa(storage.readExpenseLa().get()));
+    }
+}
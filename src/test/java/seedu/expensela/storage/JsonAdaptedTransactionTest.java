@@ -17,6 +17,7 @@ import seedu.expensela.model.transaction.Remark;
 public class JsonAdaptedTransactionTest {
     private static final String INVALID_NAME = " ";
     private static final String INVALID_AMOUNT = ".20";
+    private static final String OVERSIZED_AMOUNT = "99999999999999999999";
     private static final String INVALID_DATE = "20 Jan 2019";
     private static final String INVALID_REMARK = "@@@@@";
     private static final String INVALID_CATEGORY = "PARTY*";
@@ -42,6 +43,14 @@ public class JsonAdaptedTransactionTest {
         assertThrows(IllegalValueException.class, expectedMessage, transaction::toModelType);
     }
 
+    @Test
+    public void toModelType_oversizedAmount_throwsIllegalValueException() {
+        JsonAdaptedTransaction transaction = new JsonAdaptedTransaction(VALID_NAME, OVERSIZED_AMOUNT, "false",
+                VALID_DATE, VALID_REMARK, VALID_CATEGORY);
+        String expectedMessage = Amount.MESSAGE_CONSTRAINTS;
+        assertThrows(IllegalValueException.class, expectedMessage, transaction::toModelType);
+    }
+
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
         JsonAdaptedTransaction transaction = new JsonAdaptedTransaction(null, VALID_AMOUNT, "false",
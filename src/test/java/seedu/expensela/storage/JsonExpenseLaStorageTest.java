@@ -57,6 +57,12 @@ public class JsonExpenseLaStorageTest {
         ) -> readExpenseLa("invalidTransactionExpenseLa.json"));
     }
 
+    @Test
+    public void readExpenseLa_oversizedAmountExpenseLa_throwDataConversionException() {
+        assertThrows(DataConversionException.class, (
+        ) -> readExpenseLa("oversizedAmountExpenseLa.json"));
+    }
+
     @Test
     public void readExpenseLa_invalidAndValidTransactionExpenseLa_throwDataConversionException() {
         assertThrows(DataConversionException.class, (
@@ -0,0 +1,87 @@
+package seedu.expensela.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.expensela.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.expensela.commons.exceptions.IllegalValueException;
+import seedu.expensela.model.transaction.Amount;
+import seedu.expensela.model.transaction.Date;
+import seedu.expensela.model.transaction.Transaction;
+
+public class ParallelTransactionConverterTest {
+
+    private static final int ROWS = ParallelTransactionConverter.CHUNK_SIZE * 20 + 7;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void shutDownPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void finish_manyChunks_convertedInOrder() throws Exception {
+        List<JsonAdaptedTransaction> rows = createRows();
+        ParallelTransactionConverter converter = new ParallelTransactionConverter(pool);
+        for (JsonAdaptedTransaction row : rows) {
+            converter.add(row);
+        }
+
+        List<Transaction> converted = converter.finish();
+        assertEquals(rows.size(), converted.size());
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(rows.get(i).toModelType(), converted.get(i));
+        }
+    }
+
+    @Test
+    public void finish_invalidRowsInSeveralChunks_firstErrorReported() throws Exception {
+        List<JsonAdaptedTransaction> rows = createRows();
+        // The later row is in the last chunk, which is likely to be converted before the earlier one is reached.
+        rows.set(ROWS - 1, new JsonAdaptedTransaction("Lunch", "1.00", "false", "not a date", "", "FOOD"));
+        rows.set(ParallelTransactionConverter.CHUNK_SIZE * 3 + 5,
+                new JsonAdaptedTransaction("Lunch", "one dollar", "false", "2020-01-01", "", "FOOD"));
+
+        ParallelTransactionConverter converter = new ParallelTransactionConverter(pool);
+        assertThrows(IllegalValueException.class, Amount.MESSAGE_CONSTRAINTS, () -> {
+            for (JsonAdaptedTransaction row : rows) {
+                converter.add(row);
+            }
+            converter.finish();
+        });
+    }
+
+    @Test
+    public void finish_singleWorker_convertedAsAdded() throws Exception {
+        ForkJoinPool singleWorker = new ForkJoinPool(1);
+        try {
+            ParallelTransactionConverter converter = new ParallelTransactionConverter(singleWorker);
+            converter.add(new JsonAdaptedTransaction("Lunch", "1.00", "false", "2020-01-01", "", "FOOD"));
+            assertThrows(IllegalValueException.class, Date.MESSAGE_CONSTRAINTS, () -> converter.add(
+                    new JsonAdaptedTransaction("Lunch", "1.00", "false", "not a date", "", "FOOD")));
+        } finally {
+            singleWorker.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns {@code ROWS} distinct valid rows.
+     */
+    private static List<JsonAdaptedTransaction> createRows() {
+        List<JsonAdaptedTransaction> rows = new ArrayList<>(ROWS);
+        LocalDate start = LocalDate.of(2019, 1, 1);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new JsonAdaptedTransaction("Lunch " + i, (i % 500) + ".50", String.valueOf(i % 2 == 0),
+                    start.plusDays(i % 700).toString(), "", "FOOD"));
+        }
+        return rows;
+    }
+}
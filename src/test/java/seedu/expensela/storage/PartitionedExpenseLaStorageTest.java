@@ -0,0 +1,190 @@
+package seedu.expensela.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expensela.testutil.TypicalTransactions.getTypicalExpenseLa;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.expensela.model.ExpenseLa;
+import seedu.expensela.model.Filter;
+import seedu.expensela.model.GlobalData;
+import seedu.expensela.model.ModelManager;
+import seedu.expensela.model.UserPrefs;
+import seedu.expensela.model.transaction.DateEqualsKeywordPredicate;
+import seedu.expensela.model.transaction.Transaction;
+import seedu.expensela.testutil.TransactionBuilder;
+
+public class PartitionedExpenseLaStorageTest {
+
+    private static final YearMonth FEBRUARY = YearMonth.of(2020, 2);
+    private static final YearMonth MARCH = YearMonth.of(2020, 3);
+
+    @TempDir
+    public Path testFolder;
+
+    private final Transaction thisMonth = new TransactionBuilder().withName("Lunch")
+            .withDate(LocalDate.now().toString()).build();
+
+    @Test
+    public void readExpenseLa_missingFiles_emptyResult() throws Exception {
+        assertFalse(new PartitionedExpenseLaStorage(testFolder.resolve("missing.json")).readExpenseLa().isPresent());
+    }
+
+    @Test
+    public void readExpenseLa_olderMonths_loadedWhenFilterReachesThem() throws Exception {
+        Path filePath = testFolder.resolve("expenseLa.json");
+        ExpenseLa original = getTypicalExpenseLa();
+        original.addTransaction(thisMonth);
+        new PartitionedExpenseLaStorage(filePath).saveExpenseLa(original);
+
+        PartitionedExpenseLaStorage storage = new PartitionedExpenseLaStorage(filePath);
+        ExpenseLa read = new ExpenseLa(storage.readExpenseLa().get());
+        assertEquals(Collections.singletonList(thisMonth), read.getTransactionList());
+        assertEquals(new HashSet<>(Arrays.asList(FEBRUARY, MARCH)), storage.getUnloadedMonths());
+
+        ModelManager model = new ModelManager(read, new UserPrefs(), new GlobalData());
+        model.setTransactionHistory(storage);
+        model.setFilter(new Filter(null, new DateEqualsKeywordPredicate(Collections.singletonList(MARCH.toString()))));
+        assertEquals(Collections.singleton(FEBRUARY), storage.getUnloadedMonths());
+        assertEquals(original.getTransactionsInMonth(MARCH), new ExpenseLa(model.getExpenseLa())
+                .getTransactionsInMonth(MARCH));
+
+        model.setFilter(new Filter(null, null));
+        assertTrue(storage.getUnloadedMonths().isEmpty());
+        assertEquals(original, model.getExpenseLa());
+    }
+
+    @Test
+    public void setExpenseLa_undone_unloadedMonthsBackToo() throws Exception {
+        Path filePath = testFolder.resolve("expenseLa.json");
+        ExpenseLa original = getTypicalExpenseLa();
+        new PartitionedExpenseLaStorage(filePath).saveExpenseLa(original);
+
+        PartitionedExpenseLaStorage storage = new PartitionedExpenseLaStorage(filePath);
+        ModelManager model = new ModelManager(storage.readExpenseLa().get(), new UserPrefs(), new GlobalData());
+        model.setTransactionHistory(storage);
+        model.setExpenseLa(new ExpenseLa());
+        model.commitExpenseLa();
+        storage.saveExpenseLa(model.getExpenseLa());
+        assertEquals(new ExpenseLa(), readAllMonths(filePath));
+
+        model.undoExpenseLa();
+        storage.saveExpenseLa(model.getExpenseLa());
+        assertEquals(original, readAllMonths(filePath));
+    }
+
+    @Test
+    public void saveExpenseLa_oneMonthChanged_onlyThatMonthRewritten() throws Exception {
+        Path filePath = testFolder.resolve("expenseLa.json");
+        Path directory = PartitionedExpenseLaStorage.partitionDirectoryOf(filePath);
+        PartitionedExpenseLaStorage storage = new PartitionedExpenseLaStorage(filePath);
+        ExpenseLa expenseLa = getTypicalExpenseLa();
+        storage.saveExpenseLa(expenseLa);
+
+        Path februaryFile = PartitionedExpenseLaStorage.partitionPath(directory, FEBRUARY);
+        byte[] february = Files.readAllBytes(februaryFile);
+        Files.write(februaryFile, "untouched".getBytes(StandardCharsets.UTF_8));
+        expenseLa.addTransaction(thisMonth);
+        storage.prepareSaveExpenseLa(expenseLa).write();
+        assertEquals("untouched", new String(Files.readAllBytes(februaryFile), StandardCharsets.UTF_8));
+        assertTrue(Files.exists(PartitionedExpenseLaStorage.partitionPath(directory, YearMonth.now())));
+
+        Files.write(februaryFile, february);
+        expenseLa.removeTransaction(thisMonth);
+        storage.prepareSaveExpenseLa(expenseLa).write();
+        assertFalse(Files.exists(PartitionedExpenseLaStorage.partitionPath(directory, YearMonth.now())));
+        assertEquals(expenseLa, readAllMonths(filePath));
+    }
+
+    @Test
+    public void saveExpenseLa_transactionAddedToUnloadedMonth_mergedIntoStoredMonth() throws Exception {
+        Path filePath = testFolder.resolve("expenseLa.json");
+        ExpenseLa original = getTypicalExpenseLa();
+        new PartitionedExpenseLaStorage(filePath).saveExpenseLa(original);
+
+        PartitionedExpenseLaStorage storage = new PartitionedExpenseLaStorage(filePath);
+        ExpenseLa read = new ExpenseLa(storage.readExpenseLa().get());
+        storage.attach(read);
+        Transaction inMarch = new TransactionBuilder().withName("Dinner").withDate("2020-03-20").build();
+        read.addTransaction(inMarch);
+        storage.saveExpenseLa(read);
+
+        original.addTransaction(inMarch);
+        assertEquals(original, readAllMonths(filePath));
+    }
+
+    @Test
+    public void load_prefetchedMonth_notReadAgain() throws Exception {
+        Path filePath = testFolder.resolve("expenseLa.json");
+        ExpenseLa original = getTypicalExpenseLa();
+        new PartitionedExpenseLaStorage(filePath).saveExpenseLa(original);
+
+        PartitionedExpenseLaStorage storage = new PartitionedExpenseLaStorage(filePath);
+        ExpenseLa read = new ExpenseLa(storage.readExpenseLa().get());
+        storage.attach(read);
+        storage.prefetch(MARCH);
+        Files.delete(PartitionedExpenseLaStorage.partitionPath(PartitionedExpenseLaStorage.partitionDirectoryOf(
+                filePath), MARCH));
+        storage.load(Collections.singleton(MARCH));
+        assertEquals(original.getTransactionsInMonth(MARCH), read.getTransactionsInMonth(MARCH));
+    }
+
+    @Test
+    public void readExpenseLa_singleJsonFile_splitIntoMonthsOnSave() throws Exception {
+        Path filePath = testFolder.resolve("expenseLa.json");
+        ExpenseLa original = getTypicalExpenseLa();
+        new JsonExpenseLaStorage(filePath).saveExpenseLa(original);
+
+        PartitionedExpenseLaStorage storage = new PartitionedExpenseLaStorage(filePath);
+        ExpenseLa read = new ExpenseLa(storage.readExpenseLa().get());
+        assertEquals(original, read);
+        storage.attach(read);
+        storage.saveExpenseLa(read);
+
+        Path directory = PartitionedExpenseLaStorage.partitionDirectoryOf(filePath);
+        assertTrue(Files.exists(PartitionedExpenseLaStorage.partitionPath(directory, FEBRUARY)));
+        assertTrue(Files.exists(PartitionedExpenseLaStorage.partitionPath(directory, MARCH)));
+        assertEquals(original, readAllMonths(filePath));
+    }
+
+    @Test
+    public void readExpenseLa_journaledJsonFile_journalReplayedAndSplitOnSave() throws Exception {
+        Path filePath = testFolder.resolve("expenseLa.json");
+        ExpenseLa original = getTypicalExpenseLa();
+        JournaledExpenseLaStorage journaledStorage = new JournaledExpenseLaStorage(filePath);
+        journaledStorage.saveExpenseLa(original);
+        original.addTransaction(thisMonth);
+        journaledStorage.saveExpenseLa(original);
+        assertTrue(Files.exists(JournaledExpenseLaStorage.journalPathOf(filePath)));
+
+        PartitionedExpenseLaStorage storage = new PartitionedExpenseLaStorage(filePath);
+        ExpenseLa read = new ExpenseLa(storage.readExpenseLa().get());
+        assertEquals(original, read);
+        storage.attach(read);
+        storage.saveExpenseLa(read);
+        assertEquals(original, readAllMonths(filePath));
+    }
+
+    /**
+     * Returns every stored month of the ExpenseLa data at {@code filePath}, read as the app would.
+     */
+    private static ExpenseLa readAllMonths(Path filePath) throws Exception {
+        PartitionedExpenseLaStorage storage = new PartitionedExpenseLaStorage(filePath);
+        ExpenseLa expenseLa = new ExpenseLa(storage.readExpenseLa().get());
+        storage.attach(expenseLa);
+        storage.load(storage.getUnloadedMonths());
+        return expenseLa;
+    }
+}
@@ -0,0 +1,288 @@
+package seedu.expensela.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expensela.testutil.Assert.assertThrows;
+import static seedu.expensela.testutil.TypicalTransactions.getTypicalExpenseLa;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.expensela.commons.exceptions.DataConversionException;
+import seedu.expensela.model.ExpenseLa;
+import seedu.expensela.model.Filter;
+import seedu.expensela.model.GlobalData;
+import seedu.expensela.model.ModelManager;
+import seedu.expensela.model.UserPrefs;
+import seedu.expensela.model.monthlydata.Budget;
+import seedu.expensela.model.monthlydata.Expense;
+import seedu.expensela.model.monthlydata.Income;
+import seedu.expensela.model.monthlydata.MonthlyData;
+import seedu.expensela.model.transaction.DateEqualsKeywordPredicate;
+import seedu.expensela.model.transaction.Transaction;
+import seedu.expensela.testutil.TransactionBuilder;
+
+public class SqlExpenseLaStorageTest {
+
+    private static final YearMonth FEBRUARY = YearMonth.of(2020, 2);
+    private static final YearMonth MARCH = YearMonth.of(2020, 3);
+
+    @TempDir
+    public Path testFolder;
+
+    private final Transaction thisMonth = new TransactionBuilder().withName("Lunch")
+            .withDate(LocalDate.now().toString()).build();
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        new SqlExpenseLaStorage(testFolder.resolve("expenseLa.json")).close();
+    }
+
+    @Test
+    public void readExpenseLa_missingFiles_emptyResult() throws Exception {
+        assertFalse(new SqlExpenseLaStorage(testFolder.resolve("missing.json")).readExpenseLa().isPresent());
+    }
+
+    @Test
+    public void readExpenseLa_olderMonths_loadedWhenFilterReachesThem() throws Exception {
+        Path filePath = testFolder.resolve("expenseLa.json");
+        ExpenseLa original = getTypicalExpenseLa();
+        original.addTransaction(thisMonth);
+        original.setMonthlyData(new MonthlyData("1", new Budget(150000), new Expense(2500), new Income(9900)));
+        new SqlExpenseLaStorage(filePath).saveExpenseLa(original);
+
+        SqlExpenseLaStorage storage = new SqlExpenseLaStorage(filePath);
+        ExpenseLa read = new ExpenseLa(storage.readExpenseLa().get());
+        assertEquals(Collections.singletonList(thisMonth), read.getTransactionList());
+        assertEquals(150000, read.getMonthlyData().getBudget().budgetCents);
+        assertEquals(2500, read.getMonthlyData().getExpense().expenseCents);
+        assertEquals(9900, read.getMonthlyData().getIncome().incomeCents);
+        assertEquals(new HashSet<>(Arrays.asList(FEBRUARY, MARCH)), storage.getUnloadedMonths());
+
+        ModelManager model = new ModelManager(read, new UserPrefs(), new GlobalData());
+        model.setTransactionHistory(storage);
+        model.setFilter(new Filter(null, new DateEqualsKeywordPredicate(Collections.singletonList(MARCH.toString()))));
+        assertEquals(Collections.singleton(FEBRUARY), storage.getUnloadedMonths());
+        assertEquals(original.getTransactionsInMonth(MARCH), new ExpenseLa(model.getExpenseLa())
+                .getTransactionsInMonth(MARCH));
+
+        model.setFilter(new Filter(null, null));
+        assertTrue(storage.getUnloadedMonths().isEmpty());
+        assertEquals(original, model.getExpenseLa());
+    }
+
+    @Test
+    public void setExpenseLa_undone_unloadedMonthsBackToo() throws Exception {
+        Path filePath = testFolder.resolve("expenseLa.json");
+        ExpenseLa original = getTypicalExpenseLa();
+        new SqlExpenseLaStorage(filePath).saveExpenseLa(original);
+
+        SqlExpenseLaStorage storage = new SqlExpenseLaStorage(filePath);
+        ModelManager model = new ModelManager(storage.readExpenseLa().get(), new UserPrefs(), new GlobalData());
+        model.setTransactionHistory(storage);
+        model.setExpenseLa(new ExpenseLa());
+        model.commitExpenseLa();
+        storage.saveExpenseLa(model.getExpenseLa());
+        assertEquals(new ExpenseLa(), readAllMonths(filePath));
+
+        model.undoExpenseLa();
+        storage.saveExpenseLa(model.getExpenseLa());
+        assertEquals(original, readAllMonths(filePath));
+    }
+
+    @Test
+    public void saveExpenseLa_oneTransactionChanged_onlyItsRowWritten() throws Exception {
+        Path filePath = testFolder.resolve("expenseLa.json");
+        SqlExpenseLaStorage storage = new SqlExpenseLaStorage(filePath);
+        ExpenseLa expenseLa = getTypicalExpenseLa();
+        storage.saveExpenseLa(expenseLa);
+
+        // rows that only survive if the rest of the table is left alone
+        insertUntouchedRow(filePath, LocalDate.of(2020, 2, 15));
+        insertUntouchedRow(filePath, LocalDate.now());
+        expenseLa.addTransaction(thisMonth);
+        storage.prepareSaveExpenseLa(expenseLa).write();
+        assertEquals(2, count(filePath, "SELECT COUNT(*) FROM transactions WHERE name = 'Untouched'"));
+        assertEquals(1, count(filePath, "SELECT COUNT(*) FROM transactions WHERE name = 'Lunch'"));
+
+        execute(filePath, "DELETE FROM transactions WHERE name = 'Untouched'");
+        expenseLa.removeTransaction(thisMonth);
+        storage.prepareSaveExpenseLa(expenseLa).write();
+        assertEquals(0, count(filePath, "SELECT COUNT(*) FROM transactions WHERE name = 'Lunch'"));
+        assertEquals(expenseLa, readAllMonths(filePath));
+    }
+
+    @Test
+    public void saveExpenseLa_manyTransactionsChanged_theirMonthsReplaced() throws Exception {
+        Path filePath = testFolder.resolve("expenseLa.json");
+        SqlExpenseLaStorage storage = new SqlExpenseLaStorage(filePath);
+        ExpenseLa expenseLa = getTypicalExpenseLa();
+        storage.saveExpenseLa(expenseLa);
+
+        insertUntouchedRow(filePath, LocalDate.of(2020, 2, 15));
+        insertUntouchedRow(filePath, LocalDate.now());
+        List<Transaction> added = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            added.add(new TransactionBuilder(thisMonth).withName("Lunch " + i).build());
+        }
+        expenseLa.addTransactions(added);
+        storage.prepareSaveExpenseLa(expenseLa).write();
+        assertEquals(1, count(filePath, "SELECT COUNT(*) FROM transactions WHERE name = 'Untouched'"));
+        assertEquals(1500, count(filePath, "SELECT COUNT(*) FROM transactions WHERE name LIKE 'Lunch %'"));
+
+        execute(filePath, "DELETE FROM transactions WHERE name = 'Untouched'");
+        assertEquals(expenseLa, readAllMonths(filePath));
+    }
+
+    @Test
+    public void saveExpenseLa_transactionAddedToUnloadedMonth_mergedIntoStoredMonth() throws Exception {
+        Path filePath = testFolder.resolve("expenseLa.json");
+        ExpenseLa original = getTypicalExpenseLa();
+        new SqlExpenseLaStorage(filePath).saveExpenseLa(original);
+
+        SqlExpenseLaStorage storage = new SqlExpenseLaStorage(filePath);
+        ExpenseLa read = new ExpenseLa(storage.readExpenseLa().get());
+        storage.attach(read);
+        Transaction inMarch = new TransactionBuilder().withName("Dinner").withDate("2020-03-20").build();
+        read.addTransaction(inMarch);
+        storage.saveExpenseLa(read);
+        // saved again while March is still unloaded, without adding it twice
+        read.addTransaction(thisMonth);
+        storage.saveExpenseLa(read);
+
+        original.addTransaction(inMarch);
+        original.addTransaction(thisMonth);
+        assertEquals(original, readAllMonths(filePath));
+    }
+
+    @Test
+    public void load_prefetchedMonth_notReadAgain() throws Exception {
+        Path filePath = testFolder.resolve("expenseLa.json");
+        ExpenseLa original = getTypicalExpenseLa();
+        new SqlExpenseLaStorage(filePath).saveExpenseLa(original);
+
+        SqlExpenseLaStorage storage = new SqlExpenseLaStorage(filePath);
+        ExpenseLa read = new ExpenseLa(storage.readExpenseLa().get());
+        storage.attach(read);
+        storage.prefetch(MARCH);
+        execute(filePath, "DELETE FROM transactions WHERE transaction_date >= DATE '2020-03-01'");
+        storage.load(Collections.singleton(MARCH));
+        assertEquals(original.getTransactionsInMonth(MARCH), read.getTransactionsInMonth(MARCH));
+    }
+
+    @Test
+    public void readExpenseLa_singleJsonFile_copiedIntoDatabaseOnSave() throws Exception {
+        Path filePath = testFolder.resolve("expenseLa.json");
+        ExpenseLa original = getTypicalExpenseLa();
+        new JsonExpenseLaStorage(filePath).saveExpenseLa(original);
+
+        SqlExpenseLaStorage storage = new SqlExpenseLaStorage(filePath);
+        ExpenseLa read = new ExpenseLa(storage.readExpenseLa().get());
+        assertEquals(original, read);
+        storage.attach(read);
+        storage.saveExpenseLa(read);
+
+        assertEquals(original.getTransactionList().size(), count(filePath, "SELECT COUNT(*) FROM transactions"));
+        assertEquals(original, readAllMonths(filePath));
+    }
+
+    @Test
+    public void saveExpenseLa_otherPath_everyMonthReadBack() throws Exception {
+        Path otherPath = testFolder.resolve("backup.json");
+        ExpenseLa original = getTypicalExpenseLa();
+        original.addTransaction(thisMonth);
+        SqlExpenseLaStorage storage = new SqlExpenseLaStorage(testFolder.resolve("expenseLa.json"));
+        storage.saveExpenseLa(original, otherPath);
+        storage.saveExpenseLa(original, otherPath);
+
+        assertEquals(original, storage.readExpenseLa(otherPath).get());
+    }
+
+    @Test
+    public void readExpenseLa_invalidRow_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("expenseLa.json");
+        ExpenseLa expenseLa = new ExpenseLa();
+        expenseLa.addTransaction(thisMonth);
+        new SqlExpenseLaStorage(filePath).saveExpenseLa(expenseLa);
+        execute(filePath, "UPDATE transactions SET category = 'NOT A CATEGORY'");
+
+        assertThrows(DataConversionException.class, () -> new SqlExpenseLaStorage(filePath).readExpenseLa());
+    }
+
+    @Test
+    public void readMonth_usesDateIndex() throws Exception {
+        Path filePath = testFolder.resolve("expenseLa.json");
+        new SqlExpenseLaStorage(filePath).saveExpenseLa(getTypicalExpenseLa());
+
+        try (Connection connection = SqlExpenseLaStorage.connect(SqlExpenseLaStorage.databasePathOf(filePath));
+                Statement statement = connection.createStatement()) {
+            try (ResultSet plan = statement.executeQuery("EXPLAIN SELECT * FROM transactions"
+                    + " WHERE transaction_date >= DATE '2020-03-01' AND transaction_date < DATE '2020-04-01'")) {
+                plan.next();
+                assertTrue(plan.getString(1).toUpperCase().contains("TRANSACTIONS_DATE"), plan.getString(1));
+            }
+            try (ResultSet indexes = statement.executeQuery("SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES"
+                    + " WHERE INDEX_NAME = 'TRANSACTIONS_DATE'")) {
+                indexes.next();
+                assertEquals(1, indexes.getInt(1));
+            }
+        }
+    }
+
+    /**
+     * Returns every stored month of the ExpenseLa data at {@code filePath}, read as the app would.
+     */
+    private static ExpenseLa readAllMonths(Path filePath) throws Exception {
+        SqlExpenseLaStorage storage = new SqlExpenseLaStorage(filePath);
+        ExpenseLa expenseLa = new ExpenseLa(storage.readExpenseLa().get());
+        storage.attach(expenseLa);
+        storage.load(storage.getUnloadedMonths());
+        return expenseLa;
+    }
+
+    /**
+     * Stores a transaction named "Untouched" on {@code date} without going through the storage.
+     */
+    private static void insertUntouchedRow(Path filePath, LocalDate date) throws SQLException {
+        execute(filePath, "INSERT INTO transactions VALUES ('Untouched', 100, FALSE, DATE '" + date
+                + "', '-', 'FOOD')");
+    }
+
+    /**
+     * Runs {@code sql} on the database of the ExpenseLa data at {@code filePath}.
+     */
+    private static void execute(Path filePath, String sql) throws SQLException {
+        try (Connection connection = SqlExpenseLaStorage.connect(SqlExpenseLaStorage.databasePathOf(filePath));
+                Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    /**
+     * Returns the number that the query {@code sql} selects from the database of the ExpenseLa data at
+     * {@code filePath}.
+     */
+    private static int count(Path filePath, String sql) throws SQLException {
+        try (Connection connection = SqlExpenseLaStorage.connect(SqlExpenseLaStorage.databasePathOf(filePath));
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+}
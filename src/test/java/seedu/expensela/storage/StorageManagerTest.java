@@ -1,9 +1,13 @@
 package seedu.expensela.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expensela.testutil.TypicalTransactions.HEALTH;
 import static seedu.expensela.testutil.TypicalTransactions.getTypicalExpenseLa;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -12,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.expensela.commons.core.GuiSettings;
+import seedu.expensela.model.Balance;
 import seedu.expensela.model.ExpenseLa;
 import seedu.expensela.model.GlobalData;
 import seedu.expensela.model.ReadOnlyExpenseLa;
@@ -74,6 +79,46 @@ public class StorageManagerTest {
         assertEquals(original, new ExpenseLa(retrieved));
     }
 
+    @Test
+    public void saveExpenseLa_unchangedSinceLastSave_notWritten() throws Exception {
+        ExpenseLa expenseLa = getTypicalExpenseLa();
+        storageManager.saveExpenseLa(expenseLa);
+        storageManager.flush();
+        Files.delete(getTempFilePath("el"));
+
+        storageManager.saveExpenseLa(expenseLa);
+        storageManager.flush();
+        assertFalse(Files.exists(getTempFilePath("el")));
+
+        expenseLa.addTransaction(HEALTH);
+        storageManager.saveExpenseLa(expenseLa);
+        storageManager.flush();
+        assertTrue(Files.exists(getTempFilePath("el")));
+
+        // a different ExpenseLa is always saved
+        Files.delete(getTempFilePath("el"));
+        storageManager.saveExpenseLa(new ExpenseLa(expenseLa));
+        storageManager.flush();
+        assertTrue(Files.exists(getTempFilePath("el")));
+    }
+
+    @Test
+    public void saveGlobalData_unchangedSinceLastSave_notWritten() throws Exception {
+        GlobalData globalData = new GlobalData();
+        storageManager.saveGlobalData(globalData);
+        storageManager.flush();
+        Files.delete(getTempFilePath("gd"));
+
+        storageManager.saveGlobalData(globalData);
+        storageManager.flush();
+        assertFalse(Files.exists(getTempFilePath("gd")));
+
+        globalData.setTotalBalance(new Balance("12.50"));
+        storageManager.saveGlobalData(globalData);
+        storageManager.flush();
+        assertTrue(Files.exists(getTempFilePath("gd")));
+    }
+
     @Test
     public void getExpenseLaFilePath() {
         assertNotNull(storageManager.getExpenseLaFilePath());
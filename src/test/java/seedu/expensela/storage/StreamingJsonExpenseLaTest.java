@@ -0,0 +1,73 @@
+package seedu.expensela.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.expensela.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.expensela.commons.exceptions.IllegalValueException;
+import seedu.expensela.commons.util.JsonUtil;
+import seedu.expensela.model.ExpenseLa;
+import seedu.expensela.testutil.TypicalTransactions;
+
+public class StreamingJsonExpenseLaTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data",
+            "JsonSerializableExpenseLaTest");
+    private static final Path TYPICAL_TRANSACTIONS_FILE = TEST_DATA_FOLDER.resolve("typicalTransactionsExpenseLa.json");
+    private static final Path INVALID_TRANSACTION_FILE = TEST_DATA_FOLDER.resolve("invalidTransactionExpenseLa.json");
+    private static final Path DUPLICATE_TRANSACTION_FILE = TEST_DATA_FOLDER
+            .resolve("duplicateTransactionExpenseLa.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalTransactionsFile_success() throws Exception {
+        ExpenseLa expenseLaFromFile = StreamingJsonExpenseLa.read(TYPICAL_TRANSACTIONS_FILE).getExpenseLa();
+        assertEquals(TypicalTransactions.getTypicalExpenseLa(), expenseLaFromFile);
+    }
+
+    @Test
+    public void read_invalidTransactionFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> StreamingJsonExpenseLa.read(INVALID_TRANSACTION_FILE));
+    }
+
+    @Test
+    public void read_duplicateTransactions_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableExpenseLa.MESSAGE_DUPLICATE_TRANSACTION, () ->
+                StreamingJsonExpenseLa.read(DUPLICATE_TRANSACTION_FILE));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("truncated.json");
+        String json = new String(Files.readAllBytes(TYPICAL_TRANSACTIONS_FILE), StandardCharsets.UTF_8);
+        Files.write(filePath, json.substring(0, json.length() / 2).getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> StreamingJsonExpenseLa.read(filePath));
+    }
+
+    @Test
+    public void write_readBackByBothReaders_sameData() throws Exception {
+        Path filePath = testFolder.resolve("written.json");
+        ExpenseLa original = TypicalTransactions.getTypicalExpenseLa();
+        StreamingJsonExpenseLa.write(filePath, original.getTransactionList(), original.getMonthlyData(), 7);
+
+        assertFalse(new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8).contains("\n"));
+        StreamingJsonExpenseLa streamed = StreamingJsonExpenseLa.read(filePath);
+        assertEquals(original, streamed.getExpenseLa());
+        assertEquals(7, streamed.getJournalSequence());
+
+        JsonSerializableExpenseLa tree = JsonUtil.readJsonFile(filePath, JsonSerializableExpenseLa.class).get();
+        assertEquals(original, tree.toModelType());
+        assertEquals(7, tree.getJournalSequence());
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.expensela.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class ImportTaskTest {
+
+    @Test
+    public void formatProgress() {
+        assertEquals(String.format(ImportTask.MESSAGE_PROGRESS, 25, 50000, 100000),
+                ImportTask.formatProgress(250, 1000, 50000, 500_000_000L));
+        // nothing read yet
+        assertEquals(String.format(ImportTask.MESSAGE_PROGRESS, 0, 0, 0), ImportTask.formatProgress(0, 1000, 0, 0));
+        // empty file
+        assertEquals(String.format(ImportTask.MESSAGE_PROGRESS, 100, 0, 0), ImportTask.formatProgress(0, 0, 0, 10));
+    }
+}